@@ -0,0 +1,50 @@
+package com.example.benchmark;
+
+import com.example.entity.Homework;
+import com.example.entity.StudentHomework;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 숙제 완성도 계산 (StudentHomework.getCompletion)
+ * 클리닉/수업 통계에서 반 학생 수만큼 호출되므로 한 반(30명) 단위로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompletionBenchmark {
+    private static final int STUDENTS = 30;
+
+    private List<StudentHomework> studentHomeworks;
+
+    @Setup
+    public void setUp() {
+        Random random = Fixtures.random();
+        Homework homework = Homework.builder().id(1L).title("쎈 p.40-52").questionCount(40).build();
+        studentHomeworks = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            boolean graded = random.nextInt(5) != 0;
+            studentHomeworks.add(StudentHomework.builder()
+                    .id((long) i + 1)
+                    .homework(homework)
+                    .incorrectCount(graded ? random.nextInt(10) : null)
+                    .unsolvedCount(graded ? random.nextInt(5) : null)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void completion(Blackhole blackhole) {
+        for (StudentHomework studentHomework : studentHomeworks) {
+            blackhole.consume(studentHomework.getCompletion());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.benchmark;
+
+import com.example.dto.LessonDto;
+import com.example.dto.StudentSubmissionDto;
+import com.example.entity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> DTO 변환 (LessonDto.from, StudentSubmissionDto.from)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DtoMappingBenchmark {
+    private Lesson lesson;
+    private StudentSubmission submission;
+
+    @Setup
+    public void setUp() {
+        Academy academy = Fixtures.academy();
+        AcademyClass academyClass = Fixtures.academyClass(academy);
+        Test test = Fixtures.test(academy, academyClass);
+        lesson = Fixtures.lesson(academy, academyClass, test);
+        submission = Fixtures.submission(1L, Fixtures.student(1L, academy, academyClass), test);
+        submission.setTotalScore(84);
+    }
+
+    @Benchmark
+    public LessonDto lessonDto() {
+        return LessonDto.from(lesson);
+    }
+
+    @Benchmark
+    public StudentSubmissionDto studentSubmissionDto() {
+        return StudentSubmissionDto.from(submission);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.benchmark;
+
+import com.example.entity.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 엔티티 생성 (DB 없이 필드만 채운 객체)
+ * 실행마다 같은 데이터가 나오도록 시드를 고정한다.
+ */
+final class Fixtures {
+    static final String[] CHOICES = {"1", "2", "3", "4", "5"};
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private Fixtures() {
+    }
+
+    static Random random() {
+        return new Random(42);
+    }
+
+    static Academy academy() {
+        return Academy.builder().id(1L).name("수희수학").build();
+    }
+
+    static AcademyClass academyClass(Academy academy) {
+        return AcademyClass.builder().id(1L).name("고2 A반").academy(academy).build();
+    }
+
+    static Test test(Academy academy, AcademyClass academyClass) {
+        return Test.builder()
+                .id(1L)
+                .title("3월 1주차 테스트")
+                .academy(academy)
+                .academyClass(academyClass)
+                .build();
+    }
+
+    static List<TestQuestion> questions(Test test, int count, Random random) {
+        List<TestQuestion> questions = new ArrayList<>(count);
+        for (int number = 1; number <= count; number++) {
+            questions.add(TestQuestion.builder()
+                    .id((long) number)
+                    .test(test)
+                    .number(number)
+                    .answer(CHOICES[random.nextInt(CHOICES.length)])
+                    .points(number % 5 == 0 ? 4.0 : 3.0)
+                    .build());
+        }
+        return questions;
+    }
+
+    /**
+     * 대략 정답률 70%, 무응답 5%인 답안
+     */
+    static Map<Integer, String> answers(List<TestQuestion> questions, Random random) {
+        Map<Integer, String> answers = new HashMap<>();
+        for (TestQuestion question : questions) {
+            double roll = random.nextDouble();
+            if (roll < 0.70) {
+                answers.put(question.getNumber(), question.getAnswer());
+            } else if (roll < 0.95) {
+                answers.put(question.getNumber(), CHOICES[random.nextInt(CHOICES.length)]);
+            }
+        }
+        return answers;
+    }
+
+    static Student student(long id, Academy academy, AcademyClass academyClass) {
+        return Student.builder()
+                .id(id)
+                .name("학생" + id)
+                .grade("고2")
+                .school("수희고")
+                .academy(academy)
+                .academyClass(academyClass)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static StudentSubmission submission(long id, Student student, Test test) {
+        return StudentSubmission.builder()
+                .id(id)
+                .student(student)
+                .test(test)
+                .submittedAt(NOW)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static Lesson lesson(Academy academy, AcademyClass academyClass, Test test) {
+        return Lesson.builder()
+                .id(1L)
+                .lessonDate(LocalDate.of(2025, 3, 1))
+                .academy(academy)
+                .academyClass(academyClass)
+                .test(test)
+                .commonFeedback("이차함수 그래프 복습")
+                .announcement("다음 주 단원평가")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+}
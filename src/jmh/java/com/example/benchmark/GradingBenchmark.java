@@ -0,0 +1,57 @@
+package com.example.benchmark;
+
+import com.example.entity.*;
+import com.example.service.ScoreCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채점 루프 (SubmissionService.submitAnswers, TestService.recalculateScores)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradingBenchmark {
+
+    @Param({"10", "25", "50"})
+    private int questionCount;
+
+    private List<TestQuestion> questions;
+    private Map<Integer, String> answers;
+    private StudentSubmission submission;
+    private StudentSubmission gradedSubmission;
+
+    @Setup
+    public void setUp() {
+        Random random = Fixtures.random();
+        Academy academy = Fixtures.academy();
+        AcademyClass academyClass = Fixtures.academyClass(academy);
+        Test test = Fixtures.test(academy, academyClass);
+        Student student = Fixtures.student(1L, academy, academyClass);
+
+        questions = Fixtures.questions(test, questionCount, random);
+        answers = Fixtures.answers(questions, random);
+        submission = Fixtures.submission(1L, student, test);
+
+        // 재채점 대상: 이미 채점된 상세 답안을 가진 제출
+        gradedSubmission = Fixtures.submission(2L, student, test);
+        gradedSubmission.getDetails().addAll(ScoreCalculator.grade(gradedSubmission, questions, answers));
+    }
+
+    @Benchmark
+    public List<StudentSubmissionDetail> grade() {
+        return ScoreCalculator.grade(submission, questions, answers);
+    }
+
+    @Benchmark
+    public int regrade() {
+        return ScoreCalculator.regrade(gradedSubmission, questions);
+    }
+}
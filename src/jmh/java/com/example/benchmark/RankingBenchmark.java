@@ -0,0 +1,65 @@
+package com.example.benchmark;
+
+import com.example.dto.LessonStudentStatsDto;
+import com.example.service.ScoreCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 석차 계산 (DailyFeedbackService 학생 한 명, LessonService 반 전체)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RankingBenchmark {
+
+    @Param({"20", "100"})
+    private int studentCount;
+
+    private List<Integer> scores;
+    private Integer myScore;
+    private List<LessonStudentStatsDto.StudentTestScore> testScores;
+
+    @Setup
+    public void setUp() {
+        Random random = Fixtures.random();
+        scores = new ArrayList<>(studentCount);
+        testScores = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            // 10% 미응시, 점수는 4점 단위라 동점이 생긴다
+            Integer score = random.nextInt(10) == 0 ? null : random.nextInt(26) * 4;
+            if (score != null) {
+                scores.add(score);
+            }
+            testScores.add(LessonStudentStatsDto.StudentTestScore.builder()
+                    .studentId((long) i + 1)
+                    .studentName("학생" + (i + 1))
+                    .score(score)
+                    .submitted(score != null)
+                    .build());
+        }
+        myScore = scores.get(scores.size() / 2);
+    }
+
+    @Benchmark
+    public int rankOf() {
+        return ScoreCalculator.rankOf(scores, myScore);
+    }
+
+    /**
+     * assignRanks는 리스트를 제자리 정렬하므로 서비스처럼 매번 새 리스트를 넘긴다 (복사 비용 포함)
+     */
+    @Benchmark
+    public List<LessonStudentStatsDto.StudentTestScore> assignRanks() {
+        List<LessonStudentStatsDto.StudentTestScore> copy = new ArrayList<>(testScores);
+        ScoreCalculator.assignRanks(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loadtest;
+
+import com.example.Application;
+import com.example.monitoring.SqlStatementStats;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 토요일 시험 피크 재현 (./gradlew loadTest)
+ *
+ * 1. 내장 H2(MySQL 모드)로 앱을 임의 포트에 띄운다 (local 프로필의 샘플 데이터는 넣지 않음)
+ * 2. 반/학생/오늘 수업/시험/숙제를 JDBC 배치로 적재한다
+ * 3. 학생마다 가상 스레드 하나로 로그인 -> 제출 -> 데일리 피드백을 요청한다
+ * 4. 처리량, 지연 백분위, 오류율과 총 시간 기준 상위 SQL을 출력한다
+ * 5. 학생/시험당 제출이 정확히 하나씩 저장됐는지 확인한다
+ *
+ * 오류율이 --max-error-rate를 넘거나 제출이 중복/누락되면 종료 코드 1
+ */
+public class ExamDayLoadTest {
+    private static final int TOP_SQL = 5;
+
+    public static void main(String[] args) throws Exception {
+        ExamDayOptions options = ExamDayOptions.parse(args);
+
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class,
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:examday;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                // 가상 사용자가 모두 같은 IP라 IP별 제한은 끈다 (학생별 제한과 동시 처리 제한은 그대로)
+                "--app.rate-limit.login.per-ip.capacity=0",
+                "--app.rate-limit.submissions.per-ip.capacity=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+
+        LoadReport report = new LoadReport();
+        boolean exactlyOnce;
+        try {
+            long seedStart = System.nanoTime();
+            List<ExamDaySeeder.SeededStudent> students =
+                    new ExamDaySeeder(context.getBean(JdbcTemplate.class), options).seed();
+            System.out.printf("Seeded %d classes, %d students in %d ms%n", options.classes(), students.size(),
+                    (System.nanoTime() - seedStart) / 1_000_000);
+
+            SqlStatementStats sqlStats = context.getBean(SqlStatementStats.class);
+            sqlStats.reset();
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("Replaying %d students over %s (time-scale %.2f) against %s%n",
+                    students.size(), options.scaled(options.window()), options.timeScale(), baseUrl);
+            ExamDayScenario scenario = new ExamDayScenario(baseUrl, options, report);
+            scenario.run(students);
+
+            report.print(System.out);
+            System.out.println("\ntop SQL by total time:");
+            for (SqlStatementStats.StatementStat stat : sqlStats.snapshot(TOP_SQL)) {
+                System.out.printf("  %7d calls %10.1f ms total %8.2f ms mean  %s%n",
+                        stat.getCalls(), stat.getTotalMs(), stat.getMeanMs(), stat.getSql());
+            }
+
+            exactlyOnce = checkExactlyOnce(context.getBean(JdbcTemplate.class), students, scenario);
+        } finally {
+            context.close();
+        }
+
+        if (report.errorRate() > options.maxErrorRate()) {
+            System.out.printf("FAILED: error rate %.2f%% exceeds %.2f%%%n",
+                    report.errorRate() * 100, options.maxErrorRate() * 100);
+            System.exit(1);
+        }
+        if (!exactlyOnce) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 학생/시험당 제출 행이 하나를 넘지 않고, 제출에 성공한 학생 수만큼 저장됐는지
+     */
+    private static boolean checkExactlyOnce(JdbcTemplate jdbcTemplate, List<ExamDaySeeder.SeededStudent> students,
+                                            ExamDayScenario scenario) {
+        Integer duplicated = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT student_id, test_id " +
+                "FROM student_submissions GROUP BY student_id, test_id HAVING COUNT(*) > 1) d", Integer.class);
+        List<Long> testIds = students.stream().map(ExamDaySeeder.SeededStudent::testId).distinct().toList();
+        Integer stored = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_submissions WHERE test_id IN (" +
+                String.join(",", testIds.stream().map(String::valueOf).toList()) + ")", Integer.class);
+
+        System.out.printf("%nsubmissions: %d stored for %d students, %d duplicated, %d mismatched duplicate submits%n",
+                stored, students.size(), duplicated, scenario.mismatchedDuplicates());
+        if (duplicated != 0 || scenario.mismatchedDuplicates() != 0 || stored > students.size()) {
+            System.out.println("FAILED: submissions were not stored exactly once");
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시나리오 설정 (--key=value)
+ * 기본값은 토요일 피크: 4개 학원 x 10개 반 x 30명 = 1,200명이 10분 안에 로그인/제출 (8주 이력 위에서)
+ */
+record ExamDayOptions(
+        int academies,
+        int classesPerAcademy,
+        int studentsPerClass,
+        int weeks,
+        int questions,
+        Duration window,
+        double timeScale,
+        long seed,
+        double maxErrorRate,
+        int duplicateSubmits
+) {
+
+    static ExamDayOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        ExamDayOptions options = new ExamDayOptions(
+                Integer.parseInt(values.getOrDefault("academies", "4")),
+                Integer.parseInt(values.getOrDefault("classes-per-academy", "10")),
+                Integer.parseInt(values.getOrDefault("students-per-class", "30")),
+                Integer.parseInt(values.getOrDefault("weeks", "8")),
+                Integer.parseInt(values.getOrDefault("questions", "20")),
+                parseDuration(values.getOrDefault("window", "10m")),
+                Double.parseDouble(values.getOrDefault("time-scale", "1")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                Integer.parseInt(values.getOrDefault("duplicate-submits", "1")));
+        if (options.timeScale <= 0) {
+            throw new IllegalArgumentException("--time-scale must be positive");
+        }
+        if (options.duplicateSubmits < 1) {
+            throw new IllegalArgumentException("--duplicate-submits must be at least 1");
+        }
+        return options;
+    }
+
+    int classes() {
+        return academies * classesPerAcademy;
+    }
+
+    /**
+     * 도착 구간과 생각 시간에 time-scale을 곱한 실제 대기 시간 (0.1이면 10배 빠르게 재생)
+     */
+    Duration scaled(Duration duration) {
+        return Duration.ofNanos((long) (duration.toNanos() * timeScale));
+    }
+
+    private static Duration parseDuration(String value) {
+        char unit = value.charAt(value.length() - 1);
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (unit) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Duration must end with s, m or h: " + value);
+        };
+    }
+}
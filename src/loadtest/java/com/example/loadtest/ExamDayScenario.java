@@ -0,0 +1,213 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 학생 한 명 = 가상 사용자 하나 (가상 스레드)
+ * 시험 구간 안에서 균등하게 도착해 로그인 -> 문제 풀이 -> 제출 -> 피드백 확인 순으로 요청한다.
+ * 429(요청 제한)를 받으면 앱처럼 Retry-After만큼 기다렸다가 다시 보내고, 지연 시간은 첫 시도부터 잰다.
+ * --duplicate-submits=N이면 같은 Idempotency-Key로 제출을 N번 동시에 보내고(더블 탭, 재전송) 모두 같은 제출 ID를 받는지 확인한다.
+ */
+class ExamDayScenario {
+    // 생각 시간 (time-scale 적용 전)
+    private static final Duration LOGIN_TO_SUBMIT_MIN = Duration.ofSeconds(30);
+    private static final Duration LOGIN_TO_SUBMIT_MAX = Duration.ofSeconds(120);
+    private static final Duration SUBMIT_TO_FEEDBACK_MIN = Duration.ofSeconds(5);
+    private static final Duration SUBMIT_TO_FEEDBACK_MAX = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // 429를 받으면 Retry-After(+지터)만큼 기다렸다가 다시 보내는 횟수
+    private static final int MAX_SHED_RETRIES = 5;
+
+    // 대략 정답률 70%, 무응답 5%
+    private static final double CORRECT_RATE = 0.70;
+    private static final double BLANK_RATE = 0.05;
+    private static final String[] CHOICES = {"1", "2", "3", "4", "5"};
+    private static final Pattern SUBMISSION_ID = Pattern.compile("^\\{\"id\":(\\d+)");
+
+    private final String baseUrl;
+    private final ExamDayOptions options;
+    private final LoadReport report;
+    private final HttpClient client;
+    private final AtomicInteger mismatchedDuplicates = new AtomicInteger();
+
+    ExamDayScenario(String baseUrl, ExamDayOptions options, LoadReport report) {
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.report = report;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    void run(List<ExamDaySeeder.SeededStudent> students) throws InterruptedException {
+        long windowNanos = options.scaled(options.window()).toNanos();
+        Random arrivals = new Random(options.seed());
+        long startNanos = System.nanoTime();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ExamDaySeeder.SeededStudent student : students) {
+                long arrivalNanos = (long) (arrivals.nextDouble() * windowNanos);
+                long userSeed = arrivals.nextLong();
+                users.submit(() -> {
+                    sleepUntil(startNanos + arrivalNanos);
+                    runStudent(student, new Random(userSeed));
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * 같은 키로 보낸 중복 제출 중 다른 제출 ID를 받았거나 실패한 학생 수
+     */
+    int mismatchedDuplicates() {
+        return mismatchedDuplicates.get();
+    }
+
+    private void runStudent(ExamDaySeeder.SeededStudent student, Random random) throws InterruptedException {
+        String sessionCookie = login(student);
+        if (sessionCookie == null) {
+            return;
+        }
+
+        think(random, LOGIN_TO_SUBMIT_MIN, LOGIN_TO_SUBMIT_MAX);
+        if (!submit(student, sessionCookie, random)) {
+            return;
+        }
+
+        think(random, SUBMIT_TO_FEEDBACK_MIN, SUBMIT_TO_FEEDBACK_MAX);
+        send("daily-feedback", HttpRequest.newBuilder(uri("/api/daily-feedback/student/" + student.studentId() + "/today"))
+                .header("Cookie", sessionCookie)
+                .GET());
+    }
+
+    /**
+     * @return JSESSIONID 쿠키, 로그인 실패 시 null
+     */
+    private String login(ExamDaySeeder.SeededStudent student) {
+        String body = "{\"studentId\":" + student.studentId() + ",\"pin\":\"" + student.pin() + "\"}";
+        HttpResponse<String> response = send("login", HttpRequest.newBuilder(uri("/api/auth/student/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        return response.headers().firstValue("Set-Cookie")
+                .map(cookie -> cookie.split(";", 2)[0])
+                .orElse("");
+    }
+
+    private boolean submit(ExamDaySeeder.SeededStudent student, String sessionCookie, Random random) {
+        StringJoiner answers = new StringJoiner(",", "{", "}");
+        for (Map.Entry<Integer, String> question : student.answerKey().entrySet()) {
+            double roll = random.nextDouble();
+            if (roll < BLANK_RATE) continue;
+            String answer = roll < BLANK_RATE + CORRECT_RATE
+                    ? question.getValue()
+                    : CHOICES[random.nextInt(CHOICES.length)];
+            answers.add("\"" + question.getKey() + "\":\"" + answer + "\"");
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        uri("/api/submissions?studentId=" + student.studentId() + "&testId=" + student.testId()))
+                .header("Content-Type", "application/json")
+                .header("Cookie", sessionCookie)
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(answers.toString()));
+        if (options.duplicateSubmits() == 1) {
+            HttpResponse<String> response = send("submit", request);
+            return response != null && response.statusCode() == 201;
+        }
+
+        List<String> ids;
+        try (ExecutorService copies = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < options.duplicateSubmits(); i++) {
+                responses.add(copies.submit(() -> send("submit", request.copy())));
+            }
+            ids = new ArrayList<>();
+            for (Future<HttpResponse<String>> future : responses) {
+                ids.add(submissionId(future.get()));
+            }
+        } catch (Exception e) {
+            mismatchedDuplicates.incrementAndGet();
+            return false;
+        }
+        if (ids.contains(null) || ids.stream().distinct().count() != 1) {
+            mismatchedDuplicates.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static String submissionId(HttpResponse<String> response) {
+        if (response == null || response.statusCode() != 201) {
+            return null;
+        }
+        Matcher matcher = SUBMISSION_ID.matcher(response.body());
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                HttpResponse<String> response = client.send(request.timeout(REQUEST_TIMEOUT).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 429 || attempt >= MAX_SHED_RETRIES) {
+                    report.record(endpoint, start, response.statusCode());
+                    return response;
+                }
+                report.recordShed(endpoint);
+                // 버킷은 실제 시간으로 차므로 time-scale을 적용하지 않는다
+                long retryAfterMillis = response.headers().firstValue("Retry-After")
+                        .map(seconds -> Long.parseLong(seconds) * 1000)
+                        .orElse(1000L);
+                Thread.sleep(retryAfterMillis + ThreadLocalRandom.current().nextLong(1000));
+            }
+        } catch (IOException e) {
+            report.record(endpoint, start, 0);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.record(endpoint, start, 0);
+            return null;
+        }
+    }
+
+    private void think(Random random, Duration min, Duration max) throws InterruptedException {
+        long nanos = min.toNanos() + (long) (random.nextDouble() * (max.toNanos() - min.toNanos()));
+        Thread.sleep(options.scaled(Duration.ofNanos(nanos)));
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
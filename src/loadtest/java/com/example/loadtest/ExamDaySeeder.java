@@ -0,0 +1,57 @@
+package com.example.loadtest;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시험일 데이터 적재
+ * SyntheticDataGenerator로 과거 이력과 오늘 수업(미제출 시험 포함)을 만든 뒤 오늘 시험을 치를 학생 목록을 읽는다.
+ */
+class ExamDaySeeder {
+    private final JdbcTemplate jdbcTemplate;
+    private final ExamDayOptions options;
+
+    ExamDaySeeder(JdbcTemplate jdbcTemplate, ExamDayOptions options) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+    }
+
+    /**
+     * 시험을 치를 학생 (ID, PIN, 오늘 시험 ID, 정답)
+     */
+    record SeededStudent(long studentId, String pin, long testId, Map<Integer, String> answerKey) {
+    }
+
+    List<SeededStudent> seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(options.academies())
+                .classesPerAcademy(options.classesPerAcademy())
+                .studentsPerClass(options.studentsPerClass())
+                .weeks(options.weeks())
+                .questionsPerTest(options.questions())
+                .seed(options.seed())
+                .build());
+
+        LocalDate today = LocalDate.now();
+        Map<Long, Map<Integer, String>> answerKeys = new HashMap<>();
+        jdbcTemplate.query("SELECT q.test_id, q.number, q.answer FROM test_questions q "
+                        + "JOIN tests t ON t.id = q.test_id JOIN lessons l ON l.id = t.lesson_id WHERE l.lesson_date = ?",
+                rs -> {
+                    answerKeys.computeIfAbsent(rs.getLong(1), k -> new HashMap<>())
+                            .put(rs.getInt(2), rs.getString(3));
+                }, today);
+
+        return jdbcTemplate.query("SELECT s.id, s.pin, t.id FROM students s "
+                        + "JOIN lessons l ON l.class_id = s.class_id AND l.lesson_date = ? "
+                        + "JOIN tests t ON t.lesson_id = l.id ORDER BY s.id",
+                (rs, rowNum) -> new SeededStudent(rs.getLong(1), rs.getString(2), rs.getLong(3),
+                        answerKeys.get(rs.getLong(3))),
+                today);
+    }
+}
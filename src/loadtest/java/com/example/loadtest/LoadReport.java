@@ -0,0 +1,112 @@
+package com.example.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청별 응답 시간/상태 수집과 결과 출력 (처리량, 지연 백분위, 오류율)
+ */
+class LoadReport {
+    private static final long BUCKET_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final long startNanos = System.nanoTime();
+    private final ConcurrentMap<String, ConcurrentLinkedQueue<Sample>> samples = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> shed = new ConcurrentHashMap<>();
+
+    private record Sample(long endNanos, long latencyNanos, int status) {
+        boolean failed() {
+            return status < 200 || status >= 400;
+        }
+    }
+
+    /**
+     * @param status HTTP 상태, 연결 실패/타임아웃은 0
+     */
+    void record(String endpoint, long startNanos, int status) {
+        long end = System.nanoTime();
+        samples.computeIfAbsent(endpoint, k -> new ConcurrentLinkedQueue<>())
+                .add(new Sample(end, end - startNanos, status));
+    }
+
+    /**
+     * 429로 거절되어 Retry-After 뒤에 다시 보낸 시도 (최종 결과는 record로 따로 기록)
+     */
+    void recordShed(String endpoint) {
+        shed.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+    }
+
+    double errorRate() {
+        long total = 0;
+        long failed = 0;
+        for (ConcurrentLinkedQueue<Sample> queue : samples.values()) {
+            for (Sample sample : queue) {
+                total++;
+                if (sample.failed()) failed++;
+            }
+        }
+        return total == 0 ? 0.0 : (double) failed / total;
+    }
+
+    void print(PrintStream out) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        out.printf("%nExam-day load test: %.1fs elapsed%n", elapsedSeconds);
+        out.printf("%-16s %7s %7s %7s %8s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "count", "errors", "err%", "req/s", "peak/10s", "p50ms", "p90ms", "p95ms", "p99ms", "maxms");
+
+        Map<String, ConcurrentLinkedQueue<Sample>> sorted = new TreeMap<>(samples);
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        sorted.forEach((endpoint, queue) -> {
+            List<Sample> list = new ArrayList<>(queue);
+            long[] latencies = list.stream().mapToLong(Sample::latencyNanos).sorted().toArray();
+            long errors = list.stream().filter(Sample::failed).count();
+            list.stream().filter(Sample::failed).forEach(s -> statusCounts.merge(s.status(), 1, Integer::sum));
+
+            out.printf("%-16s %7d %7d %6.2f%% %8.2f %9.2f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    endpoint, list.size(), errors, list.isEmpty() ? 0.0 : errors * 100.0 / list.size(),
+                    list.size() / elapsedSeconds, peakPerSecond(list),
+                    millis(percentile(latencies, 50)), millis(percentile(latencies, 90)),
+                    millis(percentile(latencies, 95)), millis(percentile(latencies, 99)),
+                    millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+        });
+
+        if (!shed.isEmpty()) {
+            Map<String, Long> shedCounts = new TreeMap<>();
+            shed.forEach((endpoint, count) -> shedCounts.put(endpoint, count.sum()));
+            out.println("shed with 429 and retried after Retry-After: " + shedCounts);
+        }
+        if (!statusCounts.isEmpty()) {
+            out.println("errors by status (0 = connection failure/timeout): " + statusCounts);
+        }
+        out.printf("overall error rate: %.2f%%%n", errorRate() * 100);
+    }
+
+    /**
+     * 10초 구간 중 가장 많이 완료된 구간의 초당 처리량
+     */
+    private double peakPerSecond(List<Sample> list) {
+        Map<Long, Integer> buckets = new TreeMap<>();
+        for (Sample sample : list) {
+            buckets.merge((sample.endNanos() - startNanos) / BUCKET_NANOS, 1, Integer::sum);
+        }
+        int peak = buckets.values().stream().max(Integer::compareTo).orElse(0);
+        return peak / (BUCKET_NANOS / 1e9);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
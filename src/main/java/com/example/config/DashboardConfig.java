@@ -0,0 +1,34 @@
+package com.example.config;
+
+import com.example.repository.LessonRepository;
+import com.example.repository.StudentHomeworkRepository;
+import com.example.repository.StudentRepository;
+import com.example.service.ClinicService;
+import com.example.service.DailyFeedbackService;
+import com.example.service.StudentDashboardService;
+import com.example.service.SubmissionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 학생 대시보드 설정 (app.dashboard.*)
+ */
+@Configuration
+public class DashboardConfig {
+
+    @Bean
+    public StudentDashboardService studentDashboardService(
+            StudentRepository studentRepository,
+            LessonRepository lessonRepository,
+            StudentHomeworkRepository studentHomeworkRepository,
+            SubmissionService submissionService,
+            ClinicService clinicService,
+            DailyFeedbackService dailyFeedbackService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.dashboard.parallel:false}") boolean parallel) {
+        return new StudentDashboardService(studentRepository, lessonRepository, studentHomeworkRepository,
+                submissionService, clinicService, dailyFeedbackService, transactionManager, parallel);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.config;
+
+import com.example.datasource.ReadYourWritesFilter;
+import com.example.datasource.ReplicaHealthIndicator;
+import com.example.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 분리: app.datasource.replica.url이 있으면 읽기 전용 트랜잭션을 replica로 보낸다 (없으면 모두 primary)
+ * AOT 처리 결과에 고정되지 않도록 @Conditional 대신 실행 시점 설정값으로 판단한다.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    /**
+     * 자동 구성된 DataSource(primary)를 라우팅 DataSource로 교체
+     * MonitoringConfig의 SQL 통계 래퍼보다 먼저 적용되어 통계는 라우팅 바깥에서 한 번만 집계된다.
+     */
+    @Bean
+    public static BeanPostProcessor replicaRoutingDataSourcePostProcessor(
+            @Value("${app.datasource.replica.url:}") String url,
+            @Value("${app.datasource.replica.username:}") String username,
+            @Value("${app.datasource.replica.password:}") String password,
+            @Value("${app.datasource.replica.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${app.datasource.replica.retry-interval:30s}") Duration retryInterval) {
+        return new ReplicaRoutingPostProcessor(url, username, password, connectionTimeout, retryInterval);
+    }
+
+    /**
+     * 트랜잭션마다 연결을 반납해서 트랜잭션마다 primary/replica를 다시 고르게 한다.
+     * (기본값은 open-in-view 동안 첫 트랜잭션의 연결을 계속 사용)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaRoutingConnectionHandling(
+            @Value("${app.datasource.replica.url:}") String url) {
+        return properties -> {
+            if (!url.isBlank()) {
+                properties.put(AvailableSettings.CONNECTION_HANDLING,
+                        PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replica.url:}") String url,
+            @Value("${app.datasource.replica.read-your-writes-window:10s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        registration.setEnabled(!url.isBlank());
+        return registration;
+    }
+
+    @Bean
+    public ReplicaHealthIndicator replicaHealthIndicator(
+            DataSource dataSource, MeterRegistry registry,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        return new ReplicaHealthIndicator(dataSource, maxLag, registry);
+    }
+
+    private static class ReplicaRoutingPostProcessor implements DestructionAwareBeanPostProcessor, Ordered {
+        private final String url;
+        private final String username;
+        private final String password;
+        private final Duration connectionTimeout;
+        private final Duration retryInterval;
+
+        ReplicaRoutingPostProcessor(String url, String username, String password,
+                                    Duration connectionTimeout, Duration retryInterval) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+            this.connectionTimeout = connectionTimeout;
+            this.retryInterval = retryInterval;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!url.isBlank() && "dataSource".equals(beanName) && bean instanceof HikariDataSource primary) {
+                return new LazyConnectionDataSourceProxy(
+                        new ReplicaRoutingDataSource(primary, replica(primary), retryInterval));
+            }
+            return bean;
+        }
+
+        /**
+         * primary 풀 설정을 복사하고 URL/계정만 바꾼다. 잘못 라우팅된 쓰기는 실패하도록 읽기 전용 연결로 연다.
+         */
+        private HikariDataSource replica(HikariDataSource primary) {
+            HikariDataSource replica = new HikariDataSource();
+            primary.copyStateTo(replica);
+            replica.setPoolName("replica");
+            replica.setJdbcUrl(url);
+            if (!username.isBlank()) {
+                replica.setUsername(username);
+                replica.setPassword(password);
+            }
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            return replica;
+        }
+
+        // 최종 빈은 SQL 통계 래퍼라서 close가 추론되지 않으므로 여기서 두 풀을 닫는다
+        @Override
+        public boolean requiresDestruction(Object bean) {
+            return routing(bean) != null;
+        }
+
+        @Override
+        public void postProcessBeforeDestruction(Object bean, String beanName) {
+            ReplicaRoutingDataSource routing = routing(bean);
+            if (routing != null) {
+                routing.close();
+            }
+        }
+
+        private static ReplicaRoutingDataSource routing(Object bean) {
+            try {
+                return bean instanceof DataSource dataSource && dataSource.isWrapperFor(ReplicaRoutingDataSource.class)
+                        ? dataSource.unwrap(ReplicaRoutingDataSource.class) : null;
+            } catch (SQLException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.config;
+
+import com.example.repository.StudentRepository;
+import com.example.repository.TestRepository;
+import com.example.service.GradingQueueService;
+import com.example.service.SubmissionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 시험 시간용 채점 큐 설정 (app.grading.queue.*)
+ */
+@Configuration
+public class GradingQueueConfig {
+
+    @Bean
+    public GradingQueueService gradingQueueService(
+            SubmissionService submissionService,
+            StudentRepository studentRepository,
+            TestRepository testRepository,
+            MeterRegistry registry,
+            @Value("${app.grading.queue.capacity:5000}") int capacity,
+            @Value("${app.grading.queue.batch-size:50}") int batchSize,
+            @Value("${app.grading.queue.linger:20ms}") Duration linger,
+            @Value("${app.grading.queue.ticket-ttl:10m}") Duration ticketTtl,
+            @Value("${app.grading.queue.drain-timeout:30s}") Duration drainTimeout) {
+        return new GradingQueueService(submissionService, studentRepository, testRepository, registry,
+                capacity, batchSize, linger, ticketTtl, drainTimeout);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.config;
+
+import com.example.monitoring.DomainMetrics;
+import com.example.monitoring.EntityLoadCounter;
+import com.example.monitoring.JdbcTimingListener;
+import com.example.monitoring.RequestProfileFilter;
+import com.example.monitoring.SlowRequestSampler;
+import com.example.monitoring.SqlStatementStats;
+import com.example.monitoring.StatementCounter;
+import com.example.monitoring.StatementStatsDataSource;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class MonitoringConfig {
+
+    /**
+     * 요청별 SQL 수/지문, JDBC 실행 시간, 엔티티 로딩 수 수집
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestProfileCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new EntityLoadCounter()));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestProfileFilter> requestProfileFilter(SlowRequestSampler sampler) {
+        FilterRegistrationBean<RequestProfileFilter> registration =
+                new FilterRegistrationBean<>(new RequestProfileFilter(sampler));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * DataSource를 감싸서 모든 JDBC 실행을 SQL 지문별 통계에 기록 (/actuator/sqlstats)
+     */
+    @Bean
+    public static BeanPostProcessor statementStatsDataSourcePostProcessor(
+            ObjectProvider<SqlStatementStats> stats,
+            @Value("${app.monitoring.sql-stats.enabled:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof StatementStatsDataSource)) {
+                    return new StatementStatsDataSource(dataSource, stats.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 도메인 메트릭의 academy/class 태그 종류 수 제한 (Prometheus 시계열 폭증 방지)
+     */
+    @Bean
+    public MeterFilter boundedAcademyTag(@Value("${app.monitoring.metrics.max-academies:20}") int maxAcademies) {
+        return DomainMetrics.boundedTag("academy", maxAcademies);
+    }
+
+    @Bean
+    public MeterFilter boundedClassTag(@Value("${app.monitoring.metrics.max-classes:100}") int maxClasses) {
+        return DomainMetrics.boundedTag("class", maxClasses);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.config;
+
+import com.example.outbox.OutboxDispatcher;
+import com.example.outbox.OutboxHandler;
+import com.example.service.JobLeaseService;
+import com.example.sharding.Shards;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 변경 이벤트 outbox 전달 설정 (app.outbox.*)
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxDispatcher outboxDispatcher(
+            Shards shards,
+            JobLeaseService jobLeaseService,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxHandler<?>> handlers,
+            MeterRegistry registry,
+            @Value("${app.outbox.batch-size:200}") int batchSize,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.retry-initial:5s}") Duration retryInitial,
+            @Value("${app.outbox.retry-max:10m}") Duration retryMax,
+            @Value("${app.outbox.lease-duration:30s}") Duration leaseDuration,
+            @Value("${app.outbox.retention:7d}") Duration retention) {
+        return new OutboxDispatcher(shards, jobLeaseService, transactionManager, objectMapper,
+                handlers.orderedStream().toList(), registry, batchSize, maxAttempts, retryInitial, retryMax,
+                leaseDuration, retention);
+    }
+}
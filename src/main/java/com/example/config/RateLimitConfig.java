@@ -0,0 +1,55 @@
+package com.example.config;
+
+import com.example.ratelimit.ConcurrencyLimiter;
+import com.example.ratelimit.RateLimitFilter;
+import com.example.ratelimit.TokenBuckets;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 학생 로그인/답안 제출 요청 제한 (app.rate-limit.*)
+ * 버킷은 capacity개까지 몰아서 허용하고 refill마다 하나씩 채운다 (capacity 0이면 해당 제한 없음).
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.max-keys:20000}") int maxKeys,
+            @Value("${app.rate-limit.login.per-student.capacity:5}") int loginStudentCapacity,
+            @Value("${app.rate-limit.login.per-student.refill:12s}") Duration loginStudentRefill,
+            @Value("${app.rate-limit.login.per-ip.capacity:60}") int loginIpCapacity,
+            @Value("${app.rate-limit.login.per-ip.refill:1s}") Duration loginIpRefill,
+            @Value("${app.rate-limit.submissions.per-student.capacity:5}") int submitStudentCapacity,
+            @Value("${app.rate-limit.submissions.per-student.refill:6s}") Duration submitStudentRefill,
+            @Value("${app.rate-limit.submissions.per-ip.capacity:120}") int submitIpCapacity,
+            @Value("${app.rate-limit.submissions.per-ip.refill:500ms}") Duration submitIpRefill,
+            @Value("${app.rate-limit.concurrency.max:20}") int maxConcurrent,
+            @Value("${app.rate-limit.concurrency.max-wait:100ms}") Duration maxWait,
+            @Value("${app.rate-limit.concurrency.paths:POST /api/submissions,POST /api/auth/student/login,/api/tests/*/stats,/api/lessons/*/stats}") List<String> paths) {
+        RateLimitFilter filter = new RateLimitFilter(
+                new TokenBuckets("login-student", loginStudentCapacity, loginStudentRefill, maxKeys, registry),
+                new TokenBuckets("login-ip", loginIpCapacity, loginIpRefill, maxKeys, registry),
+                new TokenBuckets("submit-student", submitStudentCapacity, submitStudentRefill, maxKeys, registry),
+                new TokenBuckets("submit-ip", submitIpCapacity, submitIpRefill, maxKeys, registry),
+                new ConcurrencyLimiter(maxConcurrent, maxWait, paths, registry),
+                objectMapper, registry);
+
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        // 요청 프로파일(+10) 다음, read-your-writes(+20)와 세션/DB를 쓰는 처리보다 먼저
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.ArrayList;
+
+/**
+ * 예약 작업 설정 (app.scheduling.enabled)
+ * false면 @Scheduled 메서드를 등록만 하고 실행하지 않는다 (테스트는 작업을 직접 호출).
+ * @ConditionalOnProperty는 processAot 시점의 값으로 고정되므로 실행 시점에 판단한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+    private final boolean enabled;
+
+    public SchedulingConfig(@Value("${app.scheduling.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (enabled) return;
+        // 컨텍스트 refresh가 끝나면 registrar가 이 목록의 작업을 스케줄러에 넘기므로, 넘기기 전에 비운다
+        registrar.setCronTasksList(new ArrayList<>());
+        registrar.setFixedRateTasksList(new ArrayList<>());
+        registrar.setFixedDelayTasksList(new ArrayList<>());
+        registrar.setTriggerTasksList(new ArrayList<>());
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.config;
+
+import com.example.sharding.AcademyResolver;
+import com.example.sharding.ShardDirectory;
+import com.example.sharding.ShardMigrator;
+import com.example.sharding.ShardRoutingDataSource;
+import com.example.sharding.ShardRoutingInterceptor;
+import com.example.sharding.Shards;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 학원별 shard: app.sharding.shards에 추가 shard를 나열하면 학원 단위로 DataSource를 나눈다 (없으면 기존처럼 하나)
+ * 기본 shard는 spring.datasource (teachers, job_leases, academy_shards 포함), 추가 shard는 app.sharding.shard.{이름}.url
+ * AOT 처리 결과에 고정되지 않도록 @Conditional 대신 실행 시점 설정값으로 판단한다.
+ */
+@Configuration
+public class ShardingConfig {
+
+    /**
+     * 기본 DataSource를 ShardRoutingDataSource로 감싼다
+     * replica 라우팅(DataSourceRoutingConfig) 다음, SQL 통계 래퍼(MonitoringConfig) 전에 적용된다.
+     */
+    @Bean
+    public static BeanPostProcessor shardRoutingDataSourcePostProcessor(
+            Environment environment,
+            @Value("${app.sharding.default-shard:main}") String defaultShard,
+            @Value("${app.sharding.shards:}") String shardNames) {
+        return new ShardRoutingPostProcessor(environment, defaultShard, shardNames);
+    }
+
+    /**
+     * 트랜잭션마다 연결을 반납해서 한 요청 안에서도 트랜잭션마다 shard를 다시 고르게 한다
+     * (학원 생성, shard별 클리닉 생성 등)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardRoutingConnectionHandling(@Value("${app.sharding.shards:}") String shardNames) {
+        return properties -> {
+            if (!shardNames.isBlank()) {
+                properties.put(AvailableSettings.CONNECTION_HANDLING,
+                        PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            }
+        };
+    }
+
+    @Bean
+    public Shards shards(DataSource dataSource, MeterRegistry registry,
+                         @Value("${app.sharding.default-shard:main}") String defaultShard) {
+        Shards shards = new Shards(dataSource, defaultShard, registry);
+        shards.verifyDisjointIds();
+        return shards;
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(
+            Shards shards,
+            @Value("${app.sharding.new-academy-shard:}") String newAcademyShard,
+            @Value("${app.sharding.directory-cache-ttl:10s}") Duration cacheTtl) {
+        return new ShardDirectory(shards, newAcademyShard, cacheTtl);
+    }
+
+    @Bean
+    public AcademyResolver academyResolver(Shards shards) {
+        return new AcademyResolver(shards);
+    }
+
+    @Bean
+    public ShardMigrator shardMigrator(Shards shards, ShardDirectory shardDirectory) {
+        return new ShardMigrator(shards, shardDirectory);
+    }
+
+    @Bean
+    public WebMvcConfigurer shardRoutingWebMvcConfigurer(Shards shards, ShardDirectory shardDirectory,
+                                                         AcademyResolver academyResolver) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                if (shards.isSharded()) {
+                    registry.addInterceptor(new ShardRoutingInterceptor(shardDirectory, academyResolver))
+                            .addPathPatterns("/api/**");
+                }
+            }
+        };
+    }
+
+    private static class ShardRoutingPostProcessor implements DestructionAwareBeanPostProcessor, Ordered {
+        private final Environment environment;
+        private final String defaultShard;
+        private final String shardNames;
+
+        ShardRoutingPostProcessor(Environment environment, String defaultShard, String shardNames) {
+            this.environment = environment;
+            this.defaultShard = defaultShard;
+            this.shardNames = shardNames;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (shardNames.isBlank() || !"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                    || bean instanceof ShardRoutingDataSource) {
+                return bean;
+            }
+            HikariDataSource template = unwrap(dataSource, HikariDataSource.class);
+            if (template == null) {
+                throw new IllegalStateException("Sharding requires a Hikari DataSource");
+            }
+            Map<String, DataSource> shards = new LinkedHashMap<>();
+            shards.put(defaultShard, dataSource);
+            for (String name : shardNames.split(",")) {
+                String shard = name.trim();
+                if (!shard.isEmpty() && !shard.equals(defaultShard)) {
+                    shards.put(shard, pool(template, shard));
+                }
+            }
+            return new ShardRoutingDataSource(defaultShard, shards);
+        }
+
+        /**
+         * 기본 shard 풀 설정을 복사하고 URL/계정만 바꾼다
+         */
+        private HikariDataSource pool(HikariDataSource template, String shard) {
+            String prefix = "app.sharding.shard." + shard + ".";
+            HikariDataSource pool = new HikariDataSource();
+            template.copyStateTo(pool);
+            pool.setPoolName("shard-" + shard);
+            pool.setJdbcUrl(environment.getRequiredProperty(prefix + "url"));
+            String username = environment.getProperty(prefix + "username", "");
+            if (!username.isBlank()) {
+                pool.setUsername(username);
+                pool.setPassword(environment.getProperty(prefix + "password", ""));
+            }
+            return pool;
+        }
+
+        // 최종 빈은 SQL 통계 래퍼라서 close가 추론되지 않으므로 여기서 추가 shard 풀을 닫는다
+        @Override
+        public boolean requiresDestruction(Object bean) {
+            return bean instanceof DataSource dataSource && unwrap(dataSource, ShardRoutingDataSource.class) != null;
+        }
+
+        @Override
+        public void postProcessBeforeDestruction(Object bean, String beanName) {
+            unwrap((DataSource) bean, ShardRoutingDataSource.class).close();
+        }
+
+        private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+            try {
+                return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+            } catch (SQLException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
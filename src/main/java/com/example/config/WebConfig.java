@@ -1,6 +1,8 @@
 package com.example.config;
 
+import com.example.fields.SparseFieldsFilter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
@@ -45,6 +47,16 @@ public class WebConfig implements WebMvcConfigurer {
         return source;
     }
 
+    /**
+     * fields= 응답 필터 (SparseFieldsAdvice가 요청마다 필터를 넘기고, 기본은 필터 없음)
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder
+                .filters(SparseFieldsFilter.none())
+                .modulesToInstall(modules -> modules.add(SparseFieldsFilter.module()));
+    }
+
     private String[] parseAllowedOrigins() {
         return allowedOrigins.split(",");
     }
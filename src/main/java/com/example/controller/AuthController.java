@@ -6,6 +6,7 @@ import com.example.entity.Student;
 import com.example.entity.Teacher;
 import com.example.repository.StudentRepository;
 import com.example.repository.TeacherRepository;
+import com.example.sharding.ShardRoutingInterceptor;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -37,6 +38,8 @@ public class AuthController {
         session.setAttribute("userId", student.getId());
         session.setAttribute("userRole", "STUDENT");
         session.setAttribute("userName", student.getName());
+        // 이후 요청을 학생의 학원 shard로 보내기 위해 (ShardRoutingInterceptor)
+        session.setAttribute(ShardRoutingInterceptor.SESSION_ACADEMY_ID, student.getAcademy().getId());
 
         return ResponseEntity.ok(AuthResponse.builder()
                 .userId(student.getId())
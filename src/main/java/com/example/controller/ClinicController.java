@@ -2,14 +2,18 @@ package com.example.controller;
 
 import com.example.dto.*;
 import com.example.entity.ClinicRegistrationStatus;
+import com.example.monitoring.QueryBudget;
 import com.example.service.ClinicService;
+import com.example.scheduler.WeeklyClinicJob;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -17,20 +21,32 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ClinicController {
     private final ClinicService clinicService;
+    private final WeeklyClinicJob weeklyClinicJob;
 
     @PostMapping("/class/{classId}/create-for-this-week")
     public ResponseEntity<ClinicDto> createClinicForThisWeek(@PathVariable Long classId) {
         return ResponseEntity.ok(clinicService.createClinicForThisWeek(classId));
     }
 
+    /**
+     * 주간 클리닉 생성을 바로 실행 (예약 작업과 같은 실행권, 실행 중이면 409)
+     */
+    @PostMapping("/generate-weekly")
+    public ResponseEntity<Map<String, Integer>> generateWeeklyClinics() {
+        return weeklyClinicJob.runNow()
+                .map(result -> ResponseEntity.ok(Map.of("created", result.created(), "closed", result.closed())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
     @PostMapping("/class/{classId}")
     public ResponseEntity<ClinicDto> createClinic(
             @PathVariable Long classId,
             @RequestBody CreateClinicRequest request) {
         return ResponseEntity.ok(clinicService.createClinic(
-                classId, request.getClinicDate(), request.getClinicTime()));
+                classId, request.getClinicDate(), request.getClinicTime(), request.getCapacity()));
     }
 
+    @QueryBudget(2)
     @GetMapping("/class/{classId}")
     public ResponseEntity<List<ClinicDto>> getClinicsByClass(@PathVariable Long classId) {
         return ResponseEntity.ok(clinicService.getClinicsByClass(classId));
@@ -43,6 +59,7 @@ public class ClinicController {
                     .orElse(ResponseEntity.noContent().build());
     }
 
+    @QueryBudget(8)
     @GetMapping("/{clinicId}/detail")
     public ResponseEntity<ClinicDetailDto> getClinicDetail(@PathVariable Long clinicId) {
         return ResponseEntity.ok(clinicService.getClinicDetail(clinicId));
@@ -70,11 +87,25 @@ public class ClinicController {
         return ResponseEntity.ok(clinicService.updateAttendance(registrationId, request.getStatus()));
     }
 
+    @PutMapping("/{clinicId}/attendance")
+    public ResponseEntity<List<ClinicRegistrationDto>> updateAttendanceBulk(
+            @PathVariable Long clinicId,
+            @RequestBody Map<Long, ClinicRegistrationStatus> statuses) {
+        return ResponseEntity.ok(clinicService.updateAttendanceBulk(clinicId, statuses));
+    }
+
     @GetMapping("/student/{studentId}/info")
     public ResponseEntity<StudentClinicInfoDto> getStudentClinicInfo(@PathVariable Long studentId) {
         return ResponseEntity.ok(clinicService.getStudentClinicInfo(studentId));
     }
 
+    @PutMapping("/{clinicId}/capacity")
+    public ResponseEntity<ClinicDto> updateCapacity(
+            @PathVariable Long clinicId,
+            @RequestBody UpdateCapacityRequest request) {
+        return ResponseEntity.ok(clinicService.updateCapacity(clinicId, request.getCapacity()));
+    }
+
     @PutMapping("/{clinicId}/close")
     public ResponseEntity<ClinicDto> closeClinic(@PathVariable Long clinicId) {
         return ResponseEntity.ok(clinicService.closeClinic(clinicId));
@@ -90,6 +121,7 @@ public class ClinicController {
     public static class CreateClinicRequest {
         private LocalDate clinicDate;
         private LocalTime clinicTime;
+        private Integer capacity; // null이면 반의 기본 정원
 
         public LocalDate getClinicDate() {
             return clinicDate;
@@ -106,6 +138,14 @@ public class ClinicController {
         public void setClinicTime(LocalTime clinicTime) {
             this.clinicTime = clinicTime;
         }
+
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
     }
 
     public static class RegisterRequest {
@@ -131,4 +171,16 @@ public class ClinicController {
             this.status = status;
         }
     }
+
+    public static class UpdateCapacityRequest {
+        private Integer capacity; // null = 제한 없음
+
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+    }
 }
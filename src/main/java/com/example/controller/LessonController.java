@@ -4,6 +4,8 @@ import com.example.dto.HomeworkDto;
 import com.example.dto.LessonDto;
 import com.example.dto.LessonStudentStatsDto;
 import com.example.dto.StudentHomeworkAssignmentDto;
+import com.example.fields.FieldSet;
+import com.example.monitoring.QueryBudget;
 import com.example.service.LessonService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,19 +22,28 @@ import java.util.Map;
 public class LessonController {
     private final LessonService lessonService;
 
+    @QueryBudget(2)
     @GetMapping
-    public ResponseEntity<Page<LessonDto>> getLessons(Pageable pageable) {
-        return ResponseEntity.ok(lessonService.getLessons(pageable));
+    public ResponseEntity<Page<LessonDto>> getLessons(
+            Pageable pageable,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(lessonService.getLessons(pageable, FieldSet.parse(fields)));
     }
 
+    @QueryBudget(1)
     @GetMapping("/{id}")
-    public ResponseEntity<LessonDto> getLesson(@PathVariable Long id) {
-        return ResponseEntity.ok(lessonService.getLesson(id));
+    public ResponseEntity<LessonDto> getLesson(
+            @PathVariable Long id,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(lessonService.getLesson(id, FieldSet.parse(fields)));
     }
 
+    @QueryBudget(1)
     @GetMapping("/class/{classId}")
-    public ResponseEntity<List<LessonDto>> getLessonsByClass(@PathVariable Long classId) {
-        return ResponseEntity.ok(lessonService.getLessonsByClass(classId));
+    public ResponseEntity<List<LessonDto>> getLessonsByClass(
+            @PathVariable Long classId,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(lessonService.getLessonsByClass(classId, FieldSet.parse(fields)));
     }
 
     @DeleteMapping("/{id}")
@@ -86,9 +97,12 @@ public class LessonController {
         return ResponseEntity.ok(lessonService.getAssignments(lessonId));
     }
 
+    @QueryBudget(2)
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<LessonDto>> getLessonsByStudent(@PathVariable Long studentId) {
-        return ResponseEntity.ok(lessonService.getLessonsByStudent(studentId));
+    public ResponseEntity<List<LessonDto>> getLessonsByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(lessonService.getLessonsByStudent(studentId, FieldSet.parse(fields)));
     }
 
     @GetMapping("/{lessonId}/stats")
@@ -1,6 +1,8 @@
 package com.example.controller;
 
+import com.example.dto.StudentDashboardDto;
 import com.example.dto.StudentDto;
+import com.example.service.StudentDashboardService;
 import com.example.service.StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class StudentController {
     private final StudentService studentService;
+    private final StudentDashboardService studentDashboardService;
     
     @GetMapping
     public ResponseEntity<Page<StudentDto>> getStudents(
@@ -27,6 +30,14 @@ public class StudentController {
         return ResponseEntity.ok(studentService.getStudent(id));
     }
     
+    /**
+     * 학생 앱 첫 화면: 수업, 숙제, 제출, 클리닉, 오늘 피드백을 한 번에
+     */
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<StudentDashboardDto> getDashboard(@PathVariable Long id) {
+        return ResponseEntity.ok(studentDashboardService.getDashboard(id));
+    }
+    
     @PostMapping
     public ResponseEntity<StudentDto> createStudent(@RequestBody StudentDto dto) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -1,5 +1,6 @@
 package com.example.controller;
 
+import com.example.dto.HomeworkGradeDto;
 import com.example.dto.StudentHomeworkDto;
 import com.example.service.StudentHomeworkService;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,20 @@ public class StudentHomeworkController {
         return ResponseEntity.ok(studentHomeworkService.updateIncorrectCount(studentId, homeworkId, incorrectCount, unsolvedCount));
     }
 
+    @PutMapping("/homework/{homeworkId}/grades")
+    public ResponseEntity<List<StudentHomeworkDto>> gradeHomework(
+            @PathVariable Long homeworkId,
+            @RequestBody List<HomeworkGradeDto> grades) {
+        return ResponseEntity.ok(studentHomeworkService.gradeHomework(homeworkId, grades));
+    }
+
+    @PutMapping("/lesson/{lessonId}/grades")
+    public ResponseEntity<List<StudentHomeworkDto>> gradeLessonHomeworks(
+            @PathVariable Long lessonId,
+            @RequestBody List<HomeworkGradeDto> grades) {
+        return ResponseEntity.ok(studentHomeworkService.gradeLessonHomeworks(lessonId, grades));
+    }
+
     @DeleteMapping("/student/{studentId}/homework/{homeworkId}")
     public ResponseEntity<Void> delete(
             @PathVariable Long studentId,
@@ -1,8 +1,13 @@
 package com.example.controller;
 
+import com.example.dto.GradingTicketDto;
 import com.example.dto.StudentSubmissionDto;
+import com.example.fields.FieldSet;
+import com.example.monitoring.QueryBudget;
+import com.example.service.GradingQueueService;
 import com.example.service.SubmissionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,21 +20,55 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SubmissionController {
     private final SubmissionService submissionService;
+    private final GradingQueueService gradingQueueService;
+
+    // 큐가 가득 찼을 때 다시 시도하라고 알려줄 시간(초)
+    private static final String QUEUE_RETRY_AFTER_SECONDS = "2";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     
+    /**
+     * 답안 제출 (Idempotency-Key가 같으면 재전송으로 보고 처음 결과를 돌려준다)
+     */
     @PostMapping
     public ResponseEntity<StudentSubmissionDto> submitAnswers(
             @RequestParam Long studentId,
             @RequestParam Long testId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody Map<Integer, String> answers) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(submissionService.submitAnswers(studentId, testId, answers));
+                .body(submissionService.submitAnswers(studentId, testId, answers, idempotencyKey));
     }
     
+    /**
+     * 채점 큐에 답안 접수 (시험 시간용, 채점 결과는 /queue/{ticketId}로 확인)
+     */
+    @PostMapping("/queue")
+    public ResponseEntity<GradingTicketDto> enqueueAnswers(
+            @RequestParam Long studentId,
+            @RequestParam Long testId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody Map<Integer, String> answers) {
+        return gradingQueueService.enqueue(studentId, testId, answers, idempotencyKey)
+                .map(ticket -> ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, QUEUE_RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    @GetMapping("/queue/{ticketId}")
+    public ResponseEntity<GradingTicketDto> getTicket(@PathVariable String ticketId) {
+        return gradingQueueService.getTicket(ticketId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @QueryBudget(1)
     @GetMapping("/{id}")
     public ResponseEntity<StudentSubmissionDto> getSubmission(@PathVariable Long id) {
         return ResponseEntity.ok(submissionService.getSubmission(id));
     }
     
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<StudentSubmissionDto> getSubmissionByStudentAndTest(
             @RequestParam Long studentId,
@@ -37,13 +76,19 @@ public class SubmissionController {
         return ResponseEntity.ok(submissionService.getSubmissionByStudentAndTest(studentId, testId));
     }
     
+    @QueryBudget(2)
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<StudentSubmissionDto>> getStudentSubmissions(@PathVariable Long studentId) {
-        return ResponseEntity.ok(submissionService.getStudentSubmissions(studentId));
+    public ResponseEntity<List<StudentSubmissionDto>> getStudentSubmissions(
+            @PathVariable Long studentId,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(submissionService.getStudentSubmissions(studentId, FieldSet.parse(fields)));
     }
 
+    @QueryBudget(1)
     @GetMapping("/test/{testId}")
-    public ResponseEntity<List<StudentSubmissionDto>> getTestSubmissions(@PathVariable Long testId) {
-        return ResponseEntity.ok(submissionService.getTestSubmissions(testId));
+    public ResponseEntity<List<StudentSubmissionDto>> getTestSubmissions(
+            @PathVariable Long testId,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(submissionService.getTestSubmissions(testId, FieldSet.parse(fields)));
     }
 }
\ No newline at end of file
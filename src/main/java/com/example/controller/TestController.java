@@ -4,13 +4,18 @@ import com.example.dto.TestAnswersDto;
 import com.example.dto.TestDto;
 import com.example.dto.TestQuestionDto;
 import com.example.dto.TestStatsDto;
+import com.example.fields.FieldSet;
+import com.example.monitoring.QueryBudget;
+import com.example.service.TestScoreboardService;
 import com.example.service.TestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -19,15 +24,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TestController {
     private final TestService testService;
+    private final TestScoreboardService testScoreboardService;
     
+    @QueryBudget(2)
     @GetMapping
-    public ResponseEntity<Page<TestDto>> getTests(Pageable pageable) {
-        return ResponseEntity.ok(testService.getTests(pageable));
+    public ResponseEntity<Page<TestDto>> getTests(
+            Pageable pageable,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(testService.getTests(pageable, FieldSet.parse(fields)));
     }
     
+    @QueryBudget(1)
     @GetMapping("/{id}")
-    public ResponseEntity<TestDto> getTest(@PathVariable Long id) {
-        return ResponseEntity.ok(testService.getTest(id));
+    public ResponseEntity<TestDto> getTest(
+            @PathVariable Long id,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(testService.getTest(id, FieldSet.parse(fields)));
     }
     
     @PostMapping
@@ -49,10 +61,16 @@ public class TestController {
         return ResponseEntity.noContent().build();
     }
     
+    @QueryBudget(4)
     @GetMapping("/{id}/stats")
     public ResponseEntity<TestStatsDto> getTestStats(@PathVariable Long id) {
         return ResponseEntity.ok(testService.getTestStats(id));
     }
+
+    @GetMapping(value = "/{id}/stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTestStats(@PathVariable Long id) {
+        return testScoreboardService.subscribe(id);
+    }
     
     @GetMapping("/{id}/questions")
     public ResponseEntity<List<TestQuestionDto>> getTestQuestions(@PathVariable Long id) {
@@ -76,11 +94,13 @@ public class TestController {
                 .body(testService.addQuestion(id, dto));
     }
 
+    @QueryBudget(1)
     @GetMapping("/unattached")
     public ResponseEntity<List<TestDto>> getUnattachedTests(
             @RequestParam Long academyId,
-            @RequestParam Long classId) {
-        return ResponseEntity.ok(testService.getUnattachedTests(academyId, classId));
+            @RequestParam Long classId,
+            @RequestParam(name = FieldSet.PARAM, required = false) String fields) {
+        return ResponseEntity.ok(testService.getUnattachedTests(academyId, classId, FieldSet.parse(fields)));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.example.datagen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테이블별로 행을 모았다가 JDBC batchUpdate로 저장
+ * 한 테이블이라도 batchSize에 도달하면 모든 테이블을 등록 순서대로 flush하므로,
+ * 부모 테이블을 먼저 등록하면 자식 행이 부모 행보다 먼저 저장되지 않는다 (FK 제약 유지).
+ * 드라이버 설정(rewriteBatchedStatements)과 관계없이 빠르도록 여러 행을 INSERT 하나에 넣고,
+ * flush 하나를 한 트랜잭션으로 커밋한다 (행마다 자동 커밋하지 않도록).
+ */
+class BatchInserter implements AutoCloseable {
+    // INSERT 하나에 넣는 최대 행 수 / 파라미터 수 (MySQL 프로토콜 한도 65,535)
+    private static final int MAX_ROWS_PER_STATEMENT = 200;
+    private static final int MAX_PARAMETERS_PER_STATEMENT = 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final List<Table> tables = new ArrayList<>();
+
+    BatchInserter(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        this.batchSize = batchSize;
+    }
+
+    Table table(String name, String columns) {
+        Table table = new Table(name, columns);
+        tables.add(table);
+        return table;
+    }
+
+    void flush() {
+        transaction.executeWithoutResult(status -> {
+            for (Table table : tables) {
+                table.flush();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    class Table {
+        private final String insert;
+        private final String row;
+        private final int columnCount;
+        private final int rowsPerStatement;
+        private final String fullStatement;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private Table(String name, String columns) {
+            this.columnCount = columns.split(",").length;
+            this.insert = "INSERT INTO " + name + " (" + columns + ") VALUES ";
+            this.row = "(" + "?, ".repeat(columnCount - 1) + "?)";
+            this.rowsPerStatement = Math.max(1, Math.min(MAX_ROWS_PER_STATEMENT, MAX_PARAMETERS_PER_STATEMENT / columnCount));
+            this.fullStatement = statement(rowsPerStatement);
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                BatchInserter.this.flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) return;
+            // rowsPerStatement개씩 묶은 INSERT는 JDBC 배치로, 남은 행은 INSERT 하나로
+            int full = rows.size() / rowsPerStatement * rowsPerStatement;
+            List<Object[]> statements = new ArrayList<>();
+            for (int from = 0; from < full; from += rowsPerStatement) {
+                statements.add(parameters(rows.subList(from, from + rowsPerStatement)));
+            }
+            if (!statements.isEmpty()) {
+                jdbcTemplate.batchUpdate(fullStatement, statements);
+            }
+            if (full < rows.size()) {
+                List<Object[]> rest = rows.subList(full, rows.size());
+                jdbcTemplate.update(statement(rest.size()), parameters(rest));
+            }
+            rows.clear();
+        }
+
+        private String statement(int rowCount) {
+            StringBuilder sql = new StringBuilder(insert.length() + rowCount * (row.length() + 2)).append(insert);
+            for (int i = 0; i < rowCount; i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(row);
+            }
+            return sql.toString();
+        }
+
+        private Object[] parameters(List<Object[]> chunk) {
+            Object[] parameters = new Object[chunk.size() * columnCount];
+            for (int i = 0; i < chunk.size(); i++) {
+                System.arraycopy(chunk.get(i), 0, parameters, i * columnCount, columnCount);
+            }
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.datagen;
+
+import com.example.entity.ClinicRegistrationStatus;
+import com.example.entity.ClinicStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 빈 DB에 합성 데이터를 JDBC 배치 INSERT로 적재
+ * ID를 직접 지정하고(빈 테이블 기준) 같은 seed면 날짜를 제외하고 같은 데이터가 만들어진다.
+ *
+ * 규칙:
+ * - 학생 PIN은 ID 끝 4자리 (학생 7 -> "0007"), 선생님은 suhui / 123456
+ * - 오늘 이전 수업의 시험/숙제만 제출·채점되어 있고, 오늘과 다음 주 수업은 미제출 상태
+ * - 클리닉은 반마다 주 1회, 숙제 완성도가 90% 미만인 학생이 신청 (지난 클리닉은 CLOSED/ATTENDED)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도현", "수아", "하윤", "지훈", "민서", "은우", "채원", "지호",
+            "유진", "도윤", "서준", "예은", "민재", "서아", "다은", "준혁", "소율", "시윤"};
+    private static final String[] SCHOOLS = {"서울고등학교", "강남고등학교", "대치고등학교", "휘문고등학교", "숙명여자고등학교"};
+    private static final String[] GRADES = {"고1", "고2", "고3"};
+    private static final String[] LEVELS = {"기본반", "심화반", "정규반", "특강반"};
+    private static final String[] CHOICES = {"1", "2", "3", "4", "5"};
+    private static final int[] LESSON_DAY_OFFSETS = {0, 3, 5};
+    private static final int CLINIC_THRESHOLD = 90;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> generate(SyntheticDataSpec spec) {
+        long start = System.nanoTime();
+        Random random = new Random(spec.getSeed());
+        LocalDate today = LocalDate.now();
+        Ids ids = new Ids();
+
+        try (BatchInserter inserter = new BatchInserter(jdbcTemplate, spec.getBatchSize())) {
+            // 부모 테이블부터 등록 (flush 순서 = 등록 순서)
+            BatchInserter.Table teachers = inserter.table("teachers", "id, name, username, pin, created_at, updated_at");
+            BatchInserter.Table academies = inserter.table("academies", "id, name, created_at, updated_at");
+            BatchInserter.Table classes = inserter.table("academy_classes",
+                    "id, name, academy_id, clinic_day_of_week, clinic_time, created_at, updated_at");
+            BatchInserter.Table students = inserter.table("students",
+                    "id, name, grade, school, pin, academy_id, class_id, created_at, updated_at");
+            BatchInserter.Table lessons = inserter.table("lessons",
+                    "id, lesson_date, academy_id, class_id, common_feedback, announcement, created_at, updated_at");
+            BatchInserter.Table tests = inserter.table("tests",
+                    "id, title, academy_id, class_id, lesson_id, created_at, updated_at");
+            BatchInserter.Table questions = inserter.table("test_questions",
+                    "id, test_id, number, answer, points, created_at, updated_at");
+            BatchInserter.Table submissions = inserter.table("student_submissions",
+                    "id, student_id, test_id, total_score, submitted_at, created_at, updated_at");
+            BatchInserter.Table details = inserter.table("student_submission_details",
+                    "id, submission_id, question_id, student_answer, is_correct, created_at, updated_at");
+            BatchInserter.Table homeworks = inserter.table("homeworks",
+                    "id, title, question_count, memo, due_date, academy_id, class_id, lesson_id, created_at, updated_at");
+            BatchInserter.Table studentHomeworks = inserter.table("student_homeworks",
+                    "id, student_id, homework_id, incorrect_count, unsolved_count, created_at, updated_at");
+            BatchInserter.Table clinics = inserter.table("clinics",
+                    "id, class_id, clinic_date, clinic_time, status, capacity, registered_count, created_at, updated_at");
+            BatchInserter.Table registrations = inserter.table("clinic_registrations",
+                    "id, clinic_id, student_id, status, created_at, updated_at");
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            teachers.add(ids.next("teachers"), "수희", "suhui", "123456", now, now);
+
+            for (int a = 0; a < spec.getAcademies(); a++) {
+                long academyId = ids.next("academies");
+                Timestamp academyCreated = at(today.minusWeeks(spec.getWeeks()), 9);
+                academies.add(academyId, "수희수학학원 " + (a + 1) + "관", academyCreated, academyCreated);
+
+                for (int c = 0; c < spec.getClassesPerAcademy(); c++) {
+                    long classId = ids.next("academy_classes");
+                    String grade = GRADES[c % GRADES.length];
+                    DayOfWeek clinicDay = c % 2 == 0 ? DayOfWeek.SATURDAY : DayOfWeek.SUNDAY;
+                    LocalTime clinicTime = LocalTime.of(10 + (c / 2 % 4) * 2, 0);
+                    classes.add(classId, grade + " 수학 " + LEVELS[c % LEVELS.length] + " " + (c / LEVELS.length + 1),
+                            academyId, clinicDay.name(), clinicTime, academyCreated, academyCreated);
+
+                    // 학생별 실력 (정답 확률), 숙제 완성도도 이 값을 따른다
+                    long[] studentIds = new long[spec.getStudentsPerClass()];
+                    double[] ability = new double[studentIds.length];
+                    for (int s = 0; s < studentIds.length; s++) {
+                        long studentId = ids.next("students");
+                        studentIds[s] = studentId;
+                        ability[s] = 0.4 + random.nextDouble() * 0.58;
+                        students.add(studentId,
+                                SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)],
+                                grade, SCHOOLS[random.nextInt(SCHOOLS.length)],
+                                String.format("%04d", studentId % 10000), academyId, classId,
+                                academyCreated, academyCreated);
+                    }
+
+                    // 과거 -> 다음 주 순서로 수업/시험/숙제 (w = -1이 다음 주)
+                    for (int w = spec.getWeeks() - 1; w >= -1; w--) {
+                        for (int k = spec.getLessonsPerWeek() - 1; k >= 0; k--) {
+                            LocalDate lessonDate = today.minusWeeks(w).minusDays(LESSON_DAY_OFFSETS[k]);
+                            if (w == -1) {
+                                lessonDate = today.plusWeeks(1).minusDays(LESSON_DAY_OFFSETS[k]);
+                            }
+                            boolean graded = lessonDate.isBefore(today);
+                            Timestamp lessonTime = at(lessonDate, 18);
+
+                            long lessonId = ids.next("lessons");
+                            lessons.add(lessonId, lessonDate, academyId, classId,
+                                    graded ? lessonDate + " 수업 공통 피드백" : null,
+                                    k == 0 ? "다음 주 시험 범위 안내" : null, lessonTime, lessonTime);
+
+                            // 숙제 (수업마다 1개, 다음 수업일까지)
+                            long homeworkId = ids.next("homeworks");
+                            int homeworkQuestions = 20 + random.nextInt(9) * 5;
+                            homeworks.add(homeworkId, lessonDate + " 숙제", homeworkQuestions, null,
+                                    lessonDate.plusDays(3), academyId, classId, lessonId, lessonTime, lessonTime);
+                            for (int s = 0; s < studentIds.length; s++) {
+                                Integer incorrect = null;
+                                Integer unsolved = null;
+                                if (graded) {
+                                    unsolved = random.nextInt(10) == 0 ? random.nextInt(homeworkQuestions / 4 + 1) : 0;
+                                    incorrect = binomial(random, homeworkQuestions - unsolved, 1 - ability[s]);
+                                }
+                                studentHomeworks.add(ids.next("student_homeworks"), studentIds[s], homeworkId,
+                                        incorrect, unsolved, lessonTime, lessonTime);
+                            }
+
+                            // 주마다 가장 최근 수업에 시험
+                            if (k != 0) continue;
+                            long testId = ids.next("tests");
+                            tests.add(testId, lessonDate + " 주간 테스트", academyId, classId, lessonId, lessonTime, lessonTime);
+                            long firstQuestionId = ids.peek("test_questions");
+                            String[] answerKey = new String[spec.getQuestionsPerTest()];
+                            double points = 100.0 / answerKey.length;
+                            for (int q = 0; q < answerKey.length; q++) {
+                                answerKey[q] = CHOICES[random.nextInt(CHOICES.length)];
+                                questions.add(ids.next("test_questions"), testId, q + 1, answerKey[q], points,
+                                        lessonTime, lessonTime);
+                            }
+                            if (!graded) continue;
+
+                            Timestamp submittedAt = at(lessonDate, 20);
+                            // 오래된 제출은 점수만 (답안은 같은 seed면 같도록 똑같이 뽑는다)
+                            boolean withDetails = w < spec.getDetailWeeks();
+                            for (int s = 0; s < studentIds.length; s++) {
+                                if (random.nextDouble() >= spec.getSubmissionRate()) continue;
+                                long submissionId = ids.next("student_submissions");
+                                int correct = 0;
+                                List<Object[]> rows = new ArrayList<>(answerKey.length);
+                                for (int q = 0; q < answerKey.length; q++) {
+                                    String answer;
+                                    double roll = random.nextDouble();
+                                    if (roll < 0.05) {
+                                        answer = null;
+                                    } else if (roll < 0.05 + 0.95 * ability[s]) {
+                                        answer = answerKey[q];
+                                    } else {
+                                        answer = CHOICES[random.nextInt(CHOICES.length)];
+                                    }
+                                    boolean isCorrect = answerKey[q].equals(answer);
+                                    if (isCorrect) correct++;
+                                    if (withDetails) {
+                                        rows.add(new Object[]{ids.next("student_submission_details"), submissionId,
+                                                firstQuestionId + q, answer, isCorrect, submittedAt, submittedAt});
+                                    }
+                                }
+                                submissions.add(submissionId, studentIds[s], testId,
+                                        (int) Math.round(correct * 100.0 / answerKey.length), submittedAt, submittedAt,
+                                        submittedAt);
+                                if (withDetails) {
+                                    for (Object[] row : rows) {
+                                        details.add(row);
+                                    }
+                                }
+                            }
+                        }
+
+                        // 주 1회 클리닉 (해당 주 수업 직후 주말)
+                        LocalDate clinicDate = (w == -1 ? today.plusWeeks(1) : today.minusWeeks(w))
+                                .with(TemporalAdjusters.previousOrSame(clinicDay));
+                        boolean past = clinicDate.isBefore(today);
+                        long clinicId = ids.next("clinics");
+                        Timestamp registeredAt = at(clinicDate.minusDays(2), 21);
+                        List<Object[]> clinicRegistrations = new ArrayList<>();
+                        for (int s = 0; s < studentIds.length; s++) {
+                            int expectedCompletion = (int) Math.round(ability[s] * 100);
+                            if (expectedCompletion >= CLINIC_THRESHOLD || random.nextInt(3) == 0) continue;
+                            clinicRegistrations.add(new Object[]{ids.next("clinic_registrations"), clinicId,
+                                    studentIds[s],
+                                    (past ? ClinicRegistrationStatus.ATTENDED : ClinicRegistrationStatus.REGISTERED).name(),
+                                    registeredAt, registeredAt});
+                        }
+                        Timestamp clinicCreated = at(clinicDate.minusDays(6), 0);
+                        clinics.add(clinicId, classId, clinicDate, clinicTime,
+                                (past ? ClinicStatus.CLOSED : ClinicStatus.OPEN).name(), null, clinicRegistrations.size(),
+                                clinicCreated, clinicCreated);
+                        for (Object[] row : clinicRegistrations) {
+                            registrations.add(row);
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, Long> counts = ids.counts();
+        log.info("Generated synthetic data in {} ms: {}", (System.nanoTime() - start) / 1_000_000, counts);
+        return counts;
+    }
+
+    private static Timestamp at(LocalDate date, int hour) {
+        return Timestamp.valueOf(date.atTime(hour, 0));
+    }
+
+    private static int binomial(Random random, int trials, double p) {
+        int successes = 0;
+        for (int i = 0; i < trials; i++) {
+            if (random.nextDouble() < p) successes++;
+        }
+        return successes;
+    }
+
+    /**
+     * 테이블별 ID 발급 (1부터)
+     */
+    private static class Ids {
+        private final Map<String, Long> last = new LinkedHashMap<>();
+
+        long next(String table) {
+            return last.merge(table, 1L, Long::sum);
+        }
+
+        long peek(String table) {
+            return last.getOrDefault(table, 0L) + 1;
+        }
+
+        Map<String, Long> counts() {
+            return last;
+        }
+    }
+
+}
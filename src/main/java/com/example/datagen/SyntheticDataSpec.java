@@ -0,0 +1,67 @@
+package com.example.datagen;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 합성 데이터 규모 설정
+ * 반마다 weeks주 전부터 다음 주까지 수업을 만들고, 주마다 가장 최근 수업에 시험 1개를 붙인다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class SyntheticDataSpec {
+    @Builder.Default
+    private int academies = 2;
+    @Builder.Default
+    private int classesPerAcademy = 3;
+    @Builder.Default
+    private int studentsPerClass = 10;
+    @Builder.Default
+    private int weeks = 8;              // 과거 수업 기간 (오늘 포함, 다음 주 수업은 별도로 1주 추가)
+    @Builder.Default
+    private int lessonsPerWeek = 2;     // 1~3 (오늘, 3일 전, 5일 전 순)
+    @Builder.Default
+    private int questionsPerTest = 10;
+    @Builder.Default
+    private double submissionRate = 0.9;
+    @Builder.Default
+    private int detailWeeks = Integer.MAX_VALUE;  // 문항별 답안을 남기는 최근 주 수 (이전 제출은 점수만, 기본: 전체)
+    @Builder.Default
+    private long seed = 42;
+    @Builder.Default
+    private int batchSize = 1000;
+
+    /**
+     * 개발용 기본 데이터 (반 6개, 학생 60명, 8주)
+     */
+    public static SyntheticDataSpec small() {
+        return SyntheticDataSpec.builder().build();
+    }
+
+    /**
+     * 성능 테스트용 (학원 20개, 반 340개, 학생 10,200명, 2년)
+     * 문항별 답안은 최근 4주만 남긴다: 2년 전부 남기면 1,890만 행(전체의 80%)이라 적재에 10분 가까이 걸린다.
+     */
+    public static SyntheticDataSpec large() {
+        return SyntheticDataSpec.builder()
+                .academies(20)
+                .classesPerAcademy(17)
+                .studentsPerClass(30)
+                .weeks(104)
+                .questionsPerTest(20)
+                .detailWeeks(4)
+                .build();
+    }
+
+    public static SyntheticDataSpec of(String scale) {
+        return switch (scale) {
+            case "small" -> small();
+            case "large" -> large();
+            default -> throw new IllegalArgumentException("Unknown data scale: " + scale + " (small, large)");
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 primary로 보내도록 고정 (read-your-writes)
+ * 요청 스레드에서는 ReadYourWritesFilter가 설정/해제한다.
+ */
+public final class ReadYourWrites {
+    /**
+     * 세션에 남기는 마지막 쓰기 요청 시각 (epoch millis)
+     */
+    public static final String LAST_WRITE_AT = "lastWriteAt";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
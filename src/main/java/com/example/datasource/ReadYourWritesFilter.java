@@ -0,0 +1,59 @@
+package com.example.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 같은 세션의 조회가 복제 지연 때문에 이전 데이터를 보지 않도록 primary로 고정한다.
+ * - 쓰기 요청(POST/PUT/PATCH/DELETE): 요청 전체를 primary로 처리하고, 성공하면 세션에 시각을 남긴다
+ * - 이후 window 동안 같은 세션의 요청은 읽기 전용 트랜잭션도 primary로 처리
+ * (예: 학생이 답안 제출 직후 데일리 피드백 조회)
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private final Duration window;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean write = isWrite(request.getMethod());
+        if (write || wroteRecently(request.getSession(false))) {
+            ReadYourWrites.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+            // 로그인처럼 요청 중에 만들어진 세션도 포함
+            HttpSession session = request.getSession(false);
+            if (write && session != null && response.getStatus() < 400) {
+                session.setAttribute(ReadYourWrites.LAST_WRITE_AT, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private boolean wroteRecently(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        Long lastWriteAt = (Long) session.getAttribute(ReadYourWrites.LAST_WRITE_AT);
+        return lastWriteAt != null && System.currentTimeMillis() - lastWriteAt < window.toMillis();
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * replica 상태 확인 (/actuator/health의 replica 항목, app.datasource.* 메트릭)
+ * 주기적으로 연결과 복제 지연(SHOW REPLICA STATUS)을 확인해서 실패하거나 지연이 maxLag를 넘으면
+ * 읽기를 primary로 돌리고, 회복되면 다시 replica로 보낸다.
+ * replica 장애로 애플리케이션 전체가 DOWN이 되지 않도록 상태는 항상 UP으로 두고 details로만 알린다.
+ */
+@Slf4j
+public class ReplicaHealthIndicator implements HealthIndicator {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    // replica 미설정이면 null
+    private final ReplicaRoutingDataSource routing;
+    private final Duration maxLag;
+    private volatile Long lastLagSeconds;
+    private volatile String lastFailure;
+    private boolean lagUnsupported;
+
+    public ReplicaHealthIndicator(DataSource dataSource, Duration maxLag, MeterRegistry registry) {
+        this.routing = unwrap(dataSource);
+        this.maxLag = maxLag;
+        if (routing != null) {
+            bindMetrics(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval:10s}")
+    public void check() {
+        if (routing == null) {
+            return;
+        }
+        try (Connection connection = routing.getReplica().getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                fail("connection is not valid");
+                return;
+            }
+            Long lag = replicationLag(statement);
+            lastLagSeconds = lag;
+            if (lag == null) {
+                fail("replication is not running");
+            } else if (lag > maxLag.toSeconds()) {
+                fail("replication lag " + lag + "s exceeds " + maxLag.toSeconds() + "s");
+            } else {
+                lastFailure = null;
+                routing.markReplicaUp();
+            }
+        } catch (SQLException | RuntimeException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (routing == null) {
+            return Health.up().withDetail("reads", "primary (replica not configured)").build();
+        }
+        Health.Builder builder = Health.up()
+                .withDetail("reads", routing.isReplicaAvailable() ? "replica" : "primary (fallback)")
+                .withDetail("routedToPrimary", routing.routedCount(ReplicaRoutingDataSource.Target.PRIMARY))
+                .withDetail("routedToReplica", routing.routedCount(ReplicaRoutingDataSource.Target.REPLICA))
+                .withDetail("fallbacks", routing.fallbackCount());
+        if (lastLagSeconds != null) {
+            builder.withDetail("lagSeconds", lastLagSeconds);
+        }
+        if (lastFailure != null) {
+            builder.withDetail("lastFailure", lastFailure);
+        }
+        return builder.build();
+    }
+
+    private void fail(String reason) {
+        lastFailure = reason;
+        routing.markReplicaDown(reason);
+    }
+
+    /**
+     * @return 복제 지연(초), 복제가 멈췄으면 null
+     * 복제 설정이 없는 DB(로컬 테스트용 독립 인스턴스)이거나 권한(REPLICATION CLIENT)이 없으면 지연은 확인하지 않고 0
+     */
+    private Long replicationLag(Statement statement) {
+        if (lagUnsupported) {
+            return 0L;
+        }
+        try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            lagUnsupported = true;
+            log.info("Replica lag check disabled ({}), only connectivity is checked", e.getMessage());
+            return 0L;
+        }
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        // replica 풀은 빈이 아니라 hikaricp.* 메트릭이 자동으로 붙지 않음 (풀은 첫 연결 때 시작하므로 그 전에 설정)
+        HikariDataSource replica = routing.getReplica();
+        if (replica.getMetricRegistry() == null && replica.getMetricsTrackerFactory() == null) {
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        for (ReplicaRoutingDataSource.Target target : ReplicaRoutingDataSource.Target.values()) {
+            FunctionCounter.builder("app.datasource.routed", routing, r -> r.routedCount(target))
+                    .description("Connections handed out by the read/write routing datasource")
+                    .tag("target", target.name().toLowerCase())
+                    .register(registry);
+        }
+        FunctionCounter.builder("app.datasource.replica.fallbacks", routing, ReplicaRoutingDataSource::fallbackCount)
+                .description("Read-only connections sent to primary because the replica could not be reached")
+                .register(registry);
+        Gauge.builder("app.datasource.replica.available", routing, r -> r.isReplicaAvailable() ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(registry);
+    }
+
+    private static ReplicaRoutingDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ReplicaRoutingDataSource.class)
+                    ? dataSource.unwrap(ReplicaRoutingDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica, 나머지는 primary로 보내는 DataSource
+ * - 트랜잭션의 readOnly 여부는 첫 SQL 실행 시점에 알 수 있으므로 LazyConnectionDataSourceProxy로 감싸서 사용한다
+ * - ReadYourWrites로 고정된 요청, replica 장애(연결 실패/상태 확인 실패/복제 지연) 중에는 primary로 보낸다
+ * - 장애로 표시되면 retryInterval 동안 replica를 쓰지 않고, 그 뒤 다시 시도한다
+ * AbstractRoutingDataSource를 쓰지 않는 이유: actuator db 상태 확인이 대상별로 펼쳐서 replica 장애가 전체 DOWN이 됨
+ * (replica 상태는 ReplicaHealthIndicator가 따로 보고)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final Duration retryInterval;
+    private final Map<Target, LongAdder> routed = Map.of(Target.PRIMARY, new LongAdder(), Target.REPLICA, new LongAdder());
+    private final LongAdder fallbacks = new LongAdder();
+    // replica를 다시 쓸 수 있는 시각 (System.nanoTime 기준), 0이면 정상
+    private volatile long replicaDownUntil;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica, Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryInterval = retryInterval;
+    }
+
+    private Target determineTarget() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWrites.isPinnedToPrimary()
+                && isReplicaAvailable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineTarget() == Target.PRIMARY) {
+            routed.get(Target.PRIMARY).increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            routed.get(Target.REPLICA).increment();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            // Hikari 풀 초기화 실패는 PoolInitializationException(RuntimeException)
+            markReplicaDown("connection failed: " + e.getMessage());
+            fallbacks.increment();
+            routed.get(Target.PRIMARY).increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("ReplicaRoutingDataSource does not support per-call credentials");
+    }
+
+    // Hikari 메트릭 등 unwrap은 primary 풀 기준
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    public boolean isReplicaAvailable() {
+        long downUntil = replicaDownUntil;
+        return downUntil == 0 || System.nanoTime() - downUntil >= 0;
+    }
+
+    public void markReplicaDown(String reason) {
+        boolean wasAvailable = isReplicaAvailable();
+        replicaDownUntil = System.nanoTime() + retryInterval.toNanos();
+        if (wasAvailable) {
+            log.warn("Replica unavailable, routing reads to primary for {}: {}", retryInterval, reason);
+        }
+    }
+
+    public void markReplicaUp() {
+        if (replicaDownUntil != 0) {
+            replicaDownUntil = 0;
+            log.info("Replica available again, routing read-only transactions to replica");
+        }
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    public long routedCount(Target target) {
+        return routed.get(target).sum();
+    }
+
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
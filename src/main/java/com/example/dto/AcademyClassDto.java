@@ -21,6 +21,7 @@ public class AcademyClassDto {
     private String academyName;
     private DayOfWeek clinicDayOfWeek;
     private LocalTime clinicTime;
+    private Integer clinicCapacity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -32,6 +33,7 @@ public class AcademyClassDto {
                 .academyName(academyClass.getAcademy() != null ? academyClass.getAcademy().getName() : null)
                 .clinicDayOfWeek(academyClass.getClinicDayOfWeek())
                 .clinicTime(academyClass.getClinicTime())
+                .clinicCapacity(academyClass.getClinicCapacity())
                 .createdAt(academyClass.getCreatedAt())
                 .updatedAt(academyClass.getUpdatedAt())
                 .build();
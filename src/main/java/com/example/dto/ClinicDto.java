@@ -1,6 +1,7 @@
 package com.example.dto;
 
 import com.example.entity.Clinic;
+import com.example.entity.ClinicRegistrationStatus;
 import com.example.entity.ClinicStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -24,8 +26,14 @@ public class ClinicDto {
     private LocalTime clinicTime;
     private ClinicStatus status;
     private Integer registrationCount;
+    private Map<ClinicRegistrationStatus, Integer> statusCounts; // 상태별 신청 수
+    private Integer capacity; // null = 제한 없음
+    private Integer remainingSeats; // null = 제한 없음
 
-    public static ClinicDto from(Clinic clinic) {
+    /**
+     * @param statusCounts 상태별 신청 수 (집계 쿼리 결과, 신청 컬렉션을 로딩하지 않기 위함)
+     */
+    public static ClinicDto from(Clinic clinic, Map<ClinicRegistrationStatus, Integer> statusCounts) {
         return ClinicDto.builder()
                 .id(clinic.getId())
                 .classId(clinic.getAcademyClass().getId())
@@ -35,7 +43,11 @@ public class ClinicDto {
                 .clinicDate(clinic.getClinicDate())
                 .clinicTime(clinic.getClinicTime())
                 .status(clinic.getStatus())
-                .registrationCount(clinic.getRegistrations().size())
+                .registrationCount(statusCounts.values().stream().mapToInt(Integer::intValue).sum())
+                .statusCounts(statusCounts)
+                .capacity(clinic.getCapacity())
+                .remainingSeats(clinic.getCapacity() != null ?
+                               Math.max(0, clinic.getCapacity() - clinic.getRegisteredCount()) : null)
                 .build();
     }
 }
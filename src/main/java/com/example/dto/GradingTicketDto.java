@@ -0,0 +1,35 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채점 큐 접수증 (POST /api/submissions/queue 응답, GET /api/submissions/queue/{ticketId}로 상태 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradingTicketDto {
+    private String ticketId;
+    private Long studentId;
+    private Long testId;
+    private Status status;
+    // 접수 시점 대기 건수 (자신 포함)
+    private Integer queuePosition;
+    private LocalDateTime queuedAt;
+    private LocalDateTime gradedAt;
+    // GRADED일 때
+    private Long submissionId;
+    private Integer totalScore;
+    // FAILED일 때
+    private String error;
+
+    public enum Status {
+        QUEUED, GRADED, FAILED
+    }
+}
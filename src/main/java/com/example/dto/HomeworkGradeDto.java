@@ -0,0 +1,17 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HomeworkGradeDto {
+    private Long studentId;
+    private Long homeworkId; // 수업 단위 채점에서만 사용 (없으면 학생에게 할당된 숙제)
+    private Integer incorrectCount; // 오답 개수 (null = 미제출)
+    private Integer unsolvedCount; // 미제출(풀지 않은) 문제 개수
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -27,6 +28,27 @@ public class LessonDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 요약 프로젝션(LessonRepository.LESSON_SUMMARY_SELECT)이 채우는 필드 (피드백/공지 TEXT와 생성/수정 시각 제외)
+     */
+    public static final Set<String> SUMMARY_FIELDS =
+            Set.of("id", "lessonDate", "academyId", "academyName", "classId", "className", "testId", "testTitle");
+
+    /**
+     * JPQL constructor expression용 요약
+     */
+    public LessonDto(Long id, LocalDate lessonDate, Long academyId, String academyName, Long classId,
+                     String className, Long testId, String testTitle) {
+        this.id = id;
+        this.lessonDate = lessonDate;
+        this.academyId = academyId;
+        this.academyName = academyName;
+        this.classId = classId;
+        this.className = className;
+        this.testId = testId;
+        this.testTitle = testTitle;
+    }
+
     public static LessonDto from(Lesson lesson) {
         return LessonDto.builder()
                 .id(lesson.getId())
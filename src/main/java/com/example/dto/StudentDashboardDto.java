@@ -0,0 +1,25 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 학생 앱 첫 화면 (GET /api/students/{id}/dashboard)
+ * 각 항목은 기존 학생별 엔드포인트 응답과 같다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentDashboardDto {
+    private StudentDto student;
+    private List<LessonDto> lessons; // /api/lessons/student/{id}
+    private List<StudentHomeworkDto> homeworks; // /api/student-homeworks/student/{id}
+    private List<StudentSubmissionDto> submissions; // /api/submissions/student/{id}
+    private StudentClinicInfoDto clinic; // /api/clinics/student/{id}/info
+    private DailyFeedbackDto todayFeedback; // /api/daily-feedback/student/{id}/today, 오늘 수업이 없으면 null
+}
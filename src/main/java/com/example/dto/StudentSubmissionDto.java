@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -26,6 +27,58 @@ public class StudentSubmissionDto {
     private LocalDateTime updatedAt;
     private List<SubmissionDetailDto> details;
 
+    /**
+     * 요약 프로젝션(StudentSubmissionRepository.SUBMISSION_SUMMARY_SELECT)이 채우는 필드
+     * (학생은 ID/이름만, 학원/반 조인과 생성/수정 시각 제외, 반 평균/등수는 서비스에서)
+     */
+    public static final Set<String> SUMMARY_FIELDS = Set.of("id", "student.id", "student.name", "testId",
+            "testTitle", "totalScore", "classAverage", "rank", "submittedAt");
+
+    /**
+     * JPQL constructor expression용 요약
+     */
+    public StudentSubmissionDto(Long id, Long studentId, String studentName, Long testId, String testTitle,
+                                Integer totalScore, LocalDateTime submittedAt) {
+        this.id = id;
+        this.student = StudentDto.builder()
+                .id(studentId)
+                .name(studentName)
+                .build();
+        this.testId = testId;
+        this.testTitle = testTitle;
+        this.totalScore = totalScore;
+        this.submittedAt = submittedAt;
+    }
+
+    /**
+     * JPQL constructor expression용 (학생/시험 정보를 조인해 한 번에 조회)
+     */
+    public StudentSubmissionDto(Long id, Long studentId, String studentName, String grade, String school,
+                                Long academyId, String academyName, Long classId, String className,
+                                LocalDateTime studentCreatedAt, LocalDateTime studentUpdatedAt,
+                                Long testId, String testTitle, Integer totalScore, LocalDateTime submittedAt,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.student = StudentDto.builder()
+                .id(studentId)
+                .name(studentName)
+                .grade(grade)
+                .school(school)
+                .academyId(academyId)
+                .academyName(academyName)
+                .classId(classId)
+                .className(className)
+                .createdAt(studentCreatedAt)
+                .updatedAt(studentUpdatedAt)
+                .build();
+        this.testId = testId;
+        this.testTitle = testTitle;
+        this.totalScore = totalScore;
+        this.submittedAt = submittedAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public static StudentSubmissionDto from(StudentSubmission submission) {
         return StudentSubmissionDto.builder()
                 .id(submission.getId())
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -23,7 +24,28 @@ public class TestDto {
     private LocalDateTime updatedAt;
     private Integer questionCount;
 
-    public static TestDto from(Test test) {
+    /**
+     * 요약 프로젝션(TestRepository.TEST_SUMMARY_SELECT)이 채우는 필드 (생성/수정 시각과 문제 수 서브쿼리 제외)
+     */
+    public static final Set<String> SUMMARY_FIELDS =
+            Set.of("id", "title", "academyId", "academyName", "classId", "className");
+
+    /**
+     * JPQL constructor expression용 요약
+     */
+    public TestDto(Long id, String title, Long academyId, String academyName, Long classId, String className) {
+        this.id = id;
+        this.title = title;
+        this.academyId = academyId;
+        this.academyName = academyName;
+        this.classId = classId;
+        this.className = className;
+    }
+
+    /**
+     * @param questionCount 문제 수 (COUNT 쿼리 결과, 문제 컬렉션을 로딩하지 않기 위함)
+     */
+    public static TestDto from(Test test, int questionCount) {
         return TestDto.builder()
                 .id(test.getId())
                 .title(test.getTitle())
@@ -33,7 +55,7 @@ public class TestDto {
                 .className(test.getAcademyClass() != null ? test.getAcademyClass().getName() : null)
                 .createdAt(test.getCreatedAt())
                 .updatedAt(test.getUpdatedAt())
-                .questionCount(test.getQuestions() != null ? test.getQuestions().size() : 0)
+                .questionCount(questionCount)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestScoreboardDto {
+    private Long testId;
+    private Integer submissionCount;
+    private Double averageScore;
+    private Integer maxScore;
+    private TestStatsDto.StudentScore lastSubmission; // 스냅샷이면 null
+    private List<QuestionCounter> questionStats;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QuestionCounter {
+        private Integer questionNumber;
+        private Integer correctCount;
+        private Integer answeredCount;
+        private Double correctRate;
+    }
+}
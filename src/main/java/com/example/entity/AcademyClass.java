@@ -41,6 +41,9 @@ public class AcademyClass {
     @Column(name = "clinic_time")
     private LocalTime clinicTime;
 
+    @Column(name = "clinic_capacity")
+    private Integer clinicCapacity; // 클리닉 기본 정원 (null = 제한 없음)
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,36 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학원별 shard 배치 (shard 디렉터리, 기본 shard에만 저장)
+ * 조회/변경은 요청의 shard와 무관하게 ShardDirectory가 기본 shard에 JDBC로 직접 한다.
+ * 행이 없는 학원은 기본 shard에 있다.
+ */
+@Entity
+@Table(name = "academy_shards")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AcademyShard {
+    @Id
+    @Column(name = "academy_id")
+    private Long academyId;
+
+    @Column(name = "shard", nullable = false, length = 50)
+    private String shard;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AcademyShardStatus status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
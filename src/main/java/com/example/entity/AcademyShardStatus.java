@@ -0,0 +1,6 @@
+package com.example.entity;
+
+public enum AcademyShardStatus {
+    ACTIVE,     // 정상
+    MIGRATING   // 다른 shard로 이동 중 (조회만 가능)
+}
@@ -16,7 +16,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "clinics")
+@Table(name = "clinics",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"class_id", "clinic_date"}))
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -42,6 +43,13 @@ public class Clinic {
     @Builder.Default
     private ClinicStatus status = ClinicStatus.OPEN;
 
+    @Column(name = "capacity")
+    private Integer capacity; // 정원 (null = 제한 없음)
+
+    @Column(name = "registered_count", nullable = false)
+    @Builder.Default
+    private Integer registeredCount = 0; // 좌석을 차지한 신청 수 (REGISTERED + ATTENDED)
+
     @OneToMany(mappedBy = "clinic", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ClinicRegistration> registrations = new ArrayList<>();
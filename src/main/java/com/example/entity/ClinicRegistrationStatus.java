@@ -2,6 +2,14 @@ package com.example.entity;
 
 public enum ClinicRegistrationStatus {
     REGISTERED,  // 신청함
+    WAITLISTED,  // 정원 초과로 대기 중
     ATTENDED,    // 참석함
-    CANCELLED    // 취소함
+    CANCELLED;   // 취소함
+
+    /**
+     * 클리닉 정원(좌석)을 차지하는 상태인지
+     */
+    public boolean holdsSeat() {
+        return this == REGISTERED || this == ATTENDED;
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이벤트 outbox (쓰기와 같은 트랜잭션에 기록, OutboxDispatcher가 비동기로 처리)
+ * 쓰기/조회는 Outbox, OutboxDispatcher가 JDBC로 직접 한다.
+ * 처리가 끝나면 processed_at이 채워지고, 재시도를 모두 실패한 이벤트는 last_error가 남는다.
+ * 실패한 이벤트는 next_attempt_at까지 다시 전달하지 않는다 (같은 aggregate의 이후 이벤트도 함께 기다림).
+ */
+@Entity
+@Table(name = "outbox_events",
+       indexes = {
+           @Index(name = "idx_outbox_events_pending", columnList = "processed_at, id"),
+           @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id, processed_at, next_attempt_at")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+}
@@ -12,7 +12,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "student_homeworks")
+@Table(name = "student_homeworks",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "homework_id"}))
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -14,22 +14,44 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "student_submissions")
+@Table(name = "student_submissions",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "test_id"}))
+// 채점: 답안과 문제만 (학생/시험은 호출하는 쪽에서 이미 알고 있음)
+@NamedEntityGraph(name = StudentSubmission.GRAPH_GRADING,
+        attributeNodes = @NamedAttributeNode(value = "details", subgraph = "details"),
+        subgraphs = @NamedSubgraph(name = "details", attributeNodes = @NamedAttributeNode("question")))
+// 조회(학생 본인 / 선생님 검토): DTO에 필요한 학생(학원, 반), 시험, 답안과 문제까지 한 번에
+@NamedEntityGraph(name = StudentSubmission.GRAPH_REVIEW,
+        attributeNodes = {
+                @NamedAttributeNode(value = "student", subgraph = "student"),
+                @NamedAttributeNode("test"),
+                @NamedAttributeNode(value = "details", subgraph = "details")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "student", attributeNodes = {
+                        @NamedAttributeNode("academy"),
+                        @NamedAttributeNode("academyClass")
+                }),
+                @NamedSubgraph(name = "details", attributeNodes = @NamedAttributeNode("question"))
+        })
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class StudentSubmission {
+    public static final String GRAPH_GRADING = "StudentSubmission.grading";
+    public static final String GRAPH_REVIEW = "StudentSubmission.review";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "test_id", nullable = false)
     private Test test;
 
@@ -39,6 +61,10 @@ public class StudentSubmission {
     @Column(name = "submitted_at")
     private LocalDateTime submittedAt;
 
+    // 마지막으로 저장한 제출 요청의 Idempotency-Key (같은 키로 다시 오면 재채점하지 않고 저장된 결과를 돌려줌)
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
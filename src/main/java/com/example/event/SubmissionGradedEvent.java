@@ -0,0 +1,23 @@
+package com.example.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 학생 답안 채점 완료 이벤트 (트랜잭션 커밋 후 스코어보드에 반영)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SubmissionGradedEvent {
+    private final Long testId;
+    private final Long submissionId;
+    private final Long studentId;
+    private final String studentName;
+    private final Integer totalScore;
+    // 문제 번호 -> 정답 여부
+    private final Map<Integer, Boolean> results;
+}
@@ -0,0 +1,13 @@
+package com.example.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시험 정답 변경으로 전체 재채점이 일어난 경우
+ */
+@Getter
+@AllArgsConstructor
+public class TestRegradedEvent {
+    private final Long testId;
+}
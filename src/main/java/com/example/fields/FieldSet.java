@@ -0,0 +1,126 @@
+package com.example.fields;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * fields= 쿼리 파라미터로 요청한 응답 필드 (예: fields=id,title,student.name)
+ * 점으로 중첩 필드를 고르고, 지정하지 않으면 전체 필드.
+ * 응답 직렬화는 SparseFieldsAdvice가 줄이고, 서비스는 within으로 더 가벼운 프로젝션 쿼리를 고른다.
+ */
+public final class FieldSet {
+    public static final String PARAM = "fields";
+
+    private static final FieldSet ALL = new FieldSet(Map.of());
+
+    // 비어 있으면 전체
+    private final Map<String, FieldSet> fields;
+
+    private FieldSet(Map<String, FieldSet> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    public static FieldSet parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        Map<String, Object> tree = new LinkedHashMap<>();
+        for (String path : value.split(",")) {
+            Map<String, Object> node = tree;
+            String[] names = path.trim().split("\\.");
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i].trim();
+                if (name.isEmpty()) {
+                    break;
+                }
+                boolean leaf = i == names.length - 1;
+                Object child = node.get(name);
+                if (leaf) {
+                    // "student"는 "student.name"보다 넓다
+                    node.put(name, Boolean.TRUE);
+                    break;
+                }
+                if (child == Boolean.TRUE) {
+                    break;
+                }
+                if (child == null) {
+                    child = new LinkedHashMap<String, Object>();
+                    node.put(name, child);
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> next = (Map<String, Object>) child;
+                node = next;
+            }
+        }
+        return tree.isEmpty() ? ALL : of(tree);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldSet of(Map<String, Object> tree) {
+        Map<String, FieldSet> fields = new LinkedHashMap<>();
+        tree.forEach((name, child) -> fields.put(name, child instanceof Map<?, ?> map && !map.isEmpty()
+                ? of((Map<String, Object>) map)
+                : ALL));
+        return new FieldSet(Collections.unmodifiableMap(fields));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public boolean includes(String field) {
+        return isAll() || fields.containsKey(field);
+    }
+
+    /**
+     * 중첩 객체에서 고를 필드 (부모 필드만 지정했으면 전체)
+     */
+    public FieldSet nested(String field) {
+        return fields.getOrDefault(field, ALL);
+    }
+
+    /**
+     * 요청한 필드가 모두 available(필드 경로, 부모 경로면 하위 전체 포함) 안에 있는지
+     * 가벼운 프로젝션이 응답에 필요한 컬럼을 모두 가지고 있는지 판단할 때 쓴다.
+     */
+    public boolean within(Set<String> available) {
+        if (isAll()) {
+            return false;
+        }
+        for (String path : paths()) {
+            if (!covered(path, available)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean covered(String path, Set<String> available) {
+        for (int dot = path.length(); dot > 0; dot = path.lastIndexOf('.', dot - 1)) {
+            if (available.contains(path.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<String> paths() {
+        List<String> paths = new ArrayList<>();
+        fields.forEach((name, child) -> {
+            if (child.isAll()) {
+                paths.add(name);
+            } else {
+                child.paths().forEach(path -> paths.add(name + "." + path));
+            }
+        });
+        return paths;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * fields= 요청의 응답 직렬화 필터: 직렬화 중인 객체의 JSON 위치(바깥 필드 이름들)로 FieldSet을 찾아서
+ * 고르지 않은 필드는 쓰지 않는다 (응답 전체를 트리로 만들었다가 지우지 않도록)
+ * module()이 모든 객체/Map 직렬화기에 필터 ID를 붙이고, 필터는 SparseFieldsAdvice가 요청마다 넘긴다.
+ * fields= 없는 응답은 기본 FilterProvider(none)에서 필터를 찾지 못해 평소대로 직렬화된다.
+ */
+public class SparseFieldsFilter extends SimpleBeanPropertyFilter {
+    public static final String ID = "sparseFields";
+    private static final String PAGE_CONTENT = "content";
+
+    private final FieldSet fields;
+    // Page 응답이면 content 안에서만 고른다 (페이지 정보는 그대로)
+    private final boolean page;
+
+    private SparseFieldsFilter(FieldSet fields, boolean page) {
+        this.fields = fields;
+        this.page = page;
+    }
+
+    public static FilterProvider of(FieldSet fields, boolean page) {
+        return new SimpleFilterProvider().addFilter(ID, new SparseFieldsFilter(fields, page));
+    }
+
+    /**
+     * ObjectMapper 기본값: 필터 없음 (모든 필드 직렬화)
+     */
+    public static FilterProvider none() {
+        return new SimpleFilterProvider().setFailOnUnknownId(false);
+    }
+
+    public static Module module() {
+        SimpleModule module = new SimpleModule("SparseFields");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public BeanSerializerBuilder updateBuilder(SerializationConfig config, BeanDescription beanDesc,
+                                                       BeanSerializerBuilder builder) {
+                if (builder.getFilterId() == null) {
+                    builder.setFilterId(ID);
+                }
+                return builder;
+            }
+
+            @Override
+            public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                         BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                return serializer instanceof MapSerializer map ? map.withFilterId(ID) : serializer;
+            }
+        });
+        return module;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (current(gen).includes(writer.getName())) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    /**
+     * 지금 쓰고 있는 객체에서 고를 필드
+     */
+    private FieldSet current(JsonGenerator gen) {
+        // 바깥 객체부터 이 객체를 담은 필드 이름 (목록은 원소마다 같은 경로)
+        Deque<String> path = new ArrayDeque<>();
+        for (JsonStreamContext context = gen.getOutputContext().getParent(); context != null;
+             context = context.getParent()) {
+            if (context.inObject() && context.getCurrentName() != null) {
+                path.push(context.getCurrentName());
+            }
+        }
+        Iterator<String> names = path.iterator();
+        if (page && (!names.hasNext() || !PAGE_CONTENT.equals(names.next()))) {
+            return FieldSet.all();
+        }
+        FieldSet current = fields;
+        while (names.hasNext()) {
+            current = current.nested(names.next());
+        }
+        return current;
+    }
+}
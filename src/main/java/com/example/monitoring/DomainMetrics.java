@@ -0,0 +1,128 @@
+package com.example.monitoring;
+
+import com.example.entity.Test;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채점, 피드백, 클리닉 신청 흐름의 도메인 메트릭 (/actuator/prometheus)
+ * academy/class 태그는 ID 값을 쓰고, boundedTag 필터로 종류 수를 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainMetrics {
+    public static final String PREFIX = "app.";
+    public static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+
+    /**
+     * 답안 제출 채점 한 건 (문제 수는 카운터로 누적해서 rate()로 초당 채점 문제 수를 본다)
+     */
+    public void recordGrading(Test test, int questionCount, long nanos) {
+        Tags tags = testTags(test);
+        Timer.builder("app.grading.submit")
+                .description("Grading latency of a single submission")
+                .tags(tags)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("app.grading.questions")
+                .description("Questions graded")
+                .tags(tags)
+                .register(registry)
+                .increment(questionCount);
+    }
+
+    /**
+     * 정답 변경에 따른 재채점
+     */
+    public void recordRegrade(Test test, int submissionCount, long nanos) {
+        Tags tags = testTags(test);
+        Timer.builder("app.grading.regrade")
+                .description("Latency of regrading every submission of a test")
+                .tags(tags)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("app.grading.regraded.submissions")
+                .description("Submissions regraded after answer changes")
+                .tags(tags)
+                .register(registry)
+                .increment(submissionCount);
+    }
+
+    /**
+     * 일일 피드백의 구간별 조립 시간
+     * @param branch today_homework, next_homework, today_test, total
+     */
+    public <T> T timeFeedback(String branch, Supplier<T> supplier) {
+        return Timer.builder("app.feedback.assembly")
+                .description("Daily feedback assembly latency by branch")
+                .tag("branch", branch)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry)
+                .record(supplier);
+    }
+
+    /**
+     * 클리닉 신청 결과
+     * @param outcome registered, waitlisted, duplicate, rejected
+     */
+    public void recordClinicRegistration(String outcome) {
+        Counter.builder("app.clinic.registrations")
+                .description("Clinic registration attempts by outcome")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 동시 신청과 경합해서 재시도한 횟수
+     */
+    public void recordClinicRegistrationConflict() {
+        Counter.builder("app.clinic.registration.conflicts")
+                .description("Clinic registrations retried after a concurrent update")
+                .register(registry)
+                .increment();
+    }
+
+    private Tags testTags(Test test) {
+        return Tags.of(
+                "academy", test.getAcademy() != null ? String.valueOf(test.getAcademy().getId()) : OTHER,
+                "class", test.getAcademyClass() != null ? String.valueOf(test.getAcademyClass().getId()) : OTHER);
+    }
+
+    /**
+     * app.* 메트릭에서 tagKey의 값 종류가 maxValues를 넘으면 이후 새 값은 "other"로 묶는다
+     */
+    public static MeterFilter boundedTag(String tagKey, int maxValues) {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                String value = id.getTag(tagKey);
+                if (value == null || !id.getName().startsWith(PREFIX) || seen.contains(value)) {
+                    return id;
+                }
+                if (seen.size() < maxValues && seen.add(value)) {
+                    return id;
+                }
+                return id.replaceTags(Tags.of(id.getTagsAsIterable()).and(Tag.of(tagKey, OTHER)));
+            }
+        };
+    }
+}
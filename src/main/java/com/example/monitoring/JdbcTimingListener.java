@@ -0,0 +1,39 @@
+package com.example.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션별로 생성되어 JDBC 실행 시간을 현재 요청의 프로파일에 더한다
+ * (hibernate.session.events.auto로 등록)
+ */
+public class JdbcTimingListener implements SessionEventListener {
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null && start != 0) {
+            profile.addDbNanos(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.monitoring;
+
+import java.lang.annotation.*;
+
+/**
+ * 요청 하나에서 실행될 수 있는 최대 SQL 수 (N+1 회귀 감지용)
+ * 초과하면 경고 로그를 남기고, app.query-budget.strict=true이면 요청을 실패시킨다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+    int value();
+}
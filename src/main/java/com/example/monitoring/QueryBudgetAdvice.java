@@ -0,0 +1,53 @@
+package com.example.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @QueryBudget이 붙은 엔드포인트의 SQL 수를 응답 직전에 검사
+ * (응답 본문을 쓰기 전이므로 헤더 추가와 요청 실패 처리가 가능하다)
+ */
+@Slf4j
+@RestControllerAdvice
+public class QueryBudgetAdvice implements ResponseBodyAdvice<Object> {
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    @Value("${app.query-budget.strict:false}")
+    private boolean strict;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int budget = returnType.getMethodAnnotation(QueryBudget.class).value();
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            return body;
+        }
+        int count = profile.getStatementCount();
+        response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(count));
+
+        if (count > budget) {
+            String handler = returnType.getContainingClass().getSimpleName() + "." + returnType.getMethod().getName();
+            log.warn("Query budget exceeded: {} ran {} statements (budget {}) for {}",
+                    handler, count, budget, request.getURI().getPath());
+            if (strict) {
+                throw new IllegalStateException("Query budget exceeded: " + handler +
+                        " ran " + count + " statements (budget " + budget + ")");
+            }
+        }
+        return body;
+    }
+}
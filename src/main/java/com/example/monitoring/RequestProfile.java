@@ -0,0 +1,118 @@
+package com.example.monitoring;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 하나의 실행 프로파일 (SQL 수/시간, 엔티티 로딩 수, 구간별 시간)
+ * 요청 스레드에 묶여 있고 RequestProfileFilter가 시작/종료한다.
+ */
+public class RequestProfile {
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+    private static final int MAX_FINGERPRINTS = 100;
+
+    private final long startNanos = System.nanoTime();
+    private long handlerEndNanos;
+    private int statementCount;
+    private long dbNanos;
+    private int entityLoadCount;
+    // SQL 지문 -> 실행 횟수
+    private final Map<String, Integer> fingerprints = new HashMap<>();
+
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * @return 현재 요청의 프로파일, 요청 스레드가 아니면 null
+     */
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void onStatement(String sql) {
+        statementCount++;
+        String fingerprint = SqlFingerprint.of(sql);
+        if (fingerprints.size() < MAX_FINGERPRINTS || fingerprints.containsKey(fingerprint)) {
+            fingerprints.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    void addDbNanos(long nanos) {
+        dbNanos += nanos;
+    }
+
+    void onEntityLoad() {
+        entityLoadCount++;
+    }
+
+    /**
+     * 핸들러 종료(응답 직렬화 시작) 시점 기록, 처음 호출만 유효
+     */
+    void markHandlerEnd() {
+        if (handlerEndNanos == 0) {
+            handlerEndNanos = System.nanoTime();
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public int getEntityLoadCount() {
+        return entityLoadCount;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getDbNanos() {
+        return dbNanos;
+    }
+
+    long getHandlerNanos(long endNanos) {
+        return (handlerEndNanos != 0 ? handlerEndNanos : endNanos) - startNanos;
+    }
+
+    long getSerializationNanos(long endNanos) {
+        return handlerEndNanos != 0 ? endNanos - handlerEndNanos : 0;
+    }
+
+    List<Map.Entry<String, Integer>> topFingerprints(int limit) {
+        return fingerprints.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    /**
+     * Server-Timing 헤더 값
+     * db: SQL 실행 시간, map: 핸들러 시간 중 DB를 뺀 나머지(엔티티 -> DTO 변환 등), load: 로딩된 엔티티 수
+     * 직렬화 시간은 헤더를 보낸 뒤에야 알 수 있으므로 느린 요청 기록에만 남긴다.
+     */
+    String toServerTiming(long endNanos) {
+        long handlerNanos = getHandlerNanos(endNanos);
+        return String.format(Locale.ROOT,
+                "db;dur=%.1f;desc=\"%d queries\", map;dur=%.1f, load;desc=\"%d entities\", app;dur=%.1f",
+                millis(dbNanos), statementCount,
+                millis(Math.max(0, handlerNanos - dbNanos)),
+                entityLoadCount,
+                millis(handlerNanos));
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
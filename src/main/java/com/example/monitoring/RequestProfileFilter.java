@@ -0,0 +1,45 @@
+package com.example.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * /api 요청마다 RequestProfile을 시작하고, 끝나면 느린 요청 샘플러에 기록한다.
+ * Server-Timing 헤더는 본문을 쓰기 직전에 RequestProfileAdvice가 붙이고,
+ * 본문이 없는 응답은 여기서 붙인다.
+ */
+@RequiredArgsConstructor
+public class RequestProfileFilter extends OncePerRequestFilter {
+    private final SlowRequestSampler sampler;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long endNanos = System.nanoTime();
+            if (!response.isCommitted() && !response.containsHeader(RequestProfile.SERVER_TIMING_HEADER)) {
+                response.setHeader(RequestProfile.SERVER_TIMING_HEADER, profile.toServerTiming(endNanos));
+            }
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sampler.record(request.getMethod(), request.getRequestURI(),
+                    pattern != null ? pattern.toString() : null,
+                    response.getStatus(), profile, endNanos);
+            RequestProfile.clear();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가장 느렸던 요청 N개를 보관 (show-sql 없이 어떤 호출이 느려졌는지 확인하기 위함)
+ * 최소 힙으로 유지하고, 현재 N번째보다 빠른 요청은 락 없이 건너뛴다.
+ */
+@Component
+public class SlowRequestSampler {
+    private static final int FINGERPRINT_LIMIT = 10;
+
+    private final int capacity;
+    private final PriorityQueue<SlowRequest> slowest =
+            new PriorityQueue<>(Comparator.comparingDouble(SlowRequest::getTotalMs));
+    private volatile double thresholdMs;
+
+    public SlowRequestSampler(@Value("${app.monitoring.slow-requests.size:20}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    void record(String method, String uri, String pattern, int status, RequestProfile profile, long endNanos) {
+        double totalMs = RequestProfile.millis(endNanos - profile.getStartNanos());
+        if (totalMs <= thresholdMs) {
+            return;
+        }
+
+        long handlerNanos = profile.getHandlerNanos(endNanos);
+        List<SqlCount> fingerprints = profile.topFingerprints(FINGERPRINT_LIMIT).stream()
+                .map(e -> new SqlCount(e.getKey(), e.getValue()))
+                .toList();
+        SlowRequest request = SlowRequest.builder()
+                .timestamp(LocalDateTime.now())
+                .method(method)
+                .uri(uri)
+                .pattern(pattern)
+                .status(status)
+                .totalMs(totalMs)
+                .dbMs(RequestProfile.millis(profile.getDbNanos()))
+                .mappingMs(RequestProfile.millis(Math.max(0, handlerNanos - profile.getDbNanos())))
+                .serializationMs(RequestProfile.millis(profile.getSerializationNanos(endNanos)))
+                .statementCount(profile.getStatementCount())
+                .entityLoadCount(profile.getEntityLoadCount())
+                .fingerprints(fingerprints)
+                .build();
+
+        synchronized (slowest) {
+            slowest.add(request);
+            if (slowest.size() > capacity) {
+                slowest.poll();
+            }
+            if (slowest.size() == capacity) {
+                thresholdMs = slowest.peek().getTotalMs();
+            }
+        }
+    }
+
+    /**
+     * @return 느린 순서로 정렬된 요청 목록
+     */
+    public List<SlowRequest> snapshot() {
+        List<SlowRequest> result;
+        synchronized (slowest) {
+            result = new ArrayList<>(slowest);
+        }
+        result.sort(Comparator.comparingDouble(SlowRequest::getTotalMs).reversed());
+        return result;
+    }
+
+    public void reset() {
+        synchronized (slowest) {
+            slowest.clear();
+            thresholdMs = 0;
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class SlowRequest {
+        private final LocalDateTime timestamp;
+        private final String method;
+        private final String uri;
+        private final String pattern;
+        private final int status;
+        private final double totalMs;
+        private final double dbMs;
+        private final double mappingMs;
+        private final double serializationMs;
+        private final int statementCount;
+        private final int entityLoadCount;
+        private final List<SqlCount> fingerprints;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SqlCount {
+        private final String sql;
+        private final int count;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/slowrequests: 가장 느렸던 요청과 SQL 지문
+ * DELETE /actuator/slowrequests: 초기화
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+    private final SlowRequestSampler sampler;
+
+    @ReadOperation
+    public List<SlowRequestSampler.SlowRequest> slowRequests() {
+        return sampler.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sampler.reset();
+    }
+}
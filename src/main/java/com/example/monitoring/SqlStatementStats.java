@@ -0,0 +1,85 @@
+package com.example.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 지문별 실행 통계 (pg_stat_statements와 비슷한 형태)
+ * 카운터는 LongAdder/LongAccumulator라 여러 요청이 동시에 기록해도 락을 잡지 않는다.
+ */
+@Component
+public class SqlStatementStats {
+    static final String OTHER = "(other)";
+    private static final int MAX_FINGERPRINTS = 1000;
+
+    private volatile ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param rows SELECT는 읽은 행 수, INSERT/UPDATE/DELETE는 변경된 행 수
+     */
+    void record(String sql, long nanos, long rows) {
+        ConcurrentMap<String, Counter> current = counters;
+        String fingerprint = SqlFingerprint.of(sql);
+        Counter counter = current.get(fingerprint);
+        if (counter == null) {
+            // 지문 종류가 너무 많으면(리터럴이 박힌 SQL 등) 하나로 모은다
+            String key = current.size() < MAX_FINGERPRINTS ? fingerprint : OTHER;
+            counter = current.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.calls.increment();
+        counter.totalNanos.add(nanos);
+        counter.maxNanos.accumulate(nanos);
+        counter.rows.add(rows);
+    }
+
+    /**
+     * @return 총 실행 시간이 긴 순서
+     */
+    public List<StatementStat> snapshot(int limit) {
+        return counters.entrySet().stream()
+                .map(e -> e.getValue().toStat(e.getKey()))
+                .sorted(Comparator.comparingDouble(StatementStat::getTotalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        counters = new ConcurrentHashMap<>();
+    }
+
+    private static class Counter {
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        final LongAdder rows = new LongAdder();
+
+        StatementStat toStat(String sql) {
+            long count = calls.sum();
+            long total = totalNanos.sum();
+            return new StatementStat(sql, count,
+                    RequestProfile.millis(total),
+                    count == 0 ? 0 : RequestProfile.millis(total / count),
+                    RequestProfile.millis(maxNanos.get()),
+                    rows.sum());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StatementStat {
+        private final String sql;
+        private final long calls;
+        private final double totalMs;
+        private final double meanMs;
+        private final double maxMs;
+        private final long rows;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/sqlstats?limit=50: SQL 지문별 호출 수, 총/평균/최대 시간, 행 수 (총 시간 순)
+ * DELETE /actuator/sqlstats: 초기화
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SqlStatementStats stats;
+
+    @ReadOperation
+    public List<SqlStatementStats.StatementStat> sqlStats(@Nullable Integer limit) {
+        return stats.snapshot(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        stats.reset();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 시작 완료 시 준비 시간과 가장 오래 걸린 시작 단계를 로그로 남긴다
+ * 전체 단계 목록은 /actuator/startup (Application에서 BufferingApplicationStartup을 설정한 경우)
+ */
+@Slf4j
+@Component
+public class StartupTimingReporter {
+    private final int topSteps;
+
+    public StartupTimingReporter(@Value("${app.monitoring.startup.top-steps:10}") int topSteps) {
+        this.topSteps = topSteps;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Application ready in {} ms (JVM uptime {} ms)",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1, uptimeMs);
+
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> slowest = startup.getBufferedTimeline().getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topSteps)
+                .toList();
+        for (StartupTimeline.TimelineEvent step : slowest) {
+            log.info("  startup step {} ms: {}{}", step.getDuration().toMillis(),
+                    step.getStartupStep().getName(), describe(step.getStartupStep().getTags()));
+        }
+    }
+
+    private static String describe(StartupStep.Tags tags) {
+        StringJoiner joiner = new StringJoiner(", ", " [", "]").setEmptyValue("");
+        for (StartupStep.Tag tag : tags) {
+            joiner.add(tag.getKey() + "=" + tag.getValue());
+        }
+        return joiner.toString();
+    }
+}
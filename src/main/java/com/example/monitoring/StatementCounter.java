@@ -0,0 +1,18 @@
+package com.example.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL을 현재 요청의 프로파일에 기록
+ */
+public class StatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.onStatement(sql);
+        }
+        return sql;
+    }
+}
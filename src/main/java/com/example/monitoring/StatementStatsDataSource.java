@@ -0,0 +1,171 @@
+package com.example.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 모든 JDBC 실행(Hibernate, JdbcTemplate 공통)을 SqlStatementStats에 기록하는 DataSource
+ * 실행 시간은 execute 호출 구간, 행 수는 ResultSet.next() 횟수 또는 변경된 행 수
+ */
+public class StatementStatsDataSource extends DelegatingDataSource {
+    private final SqlStatementStats stats;
+
+    public StatementStatsDataSource(DataSource targetDataSource, SqlStatementStats stats) {
+        super(targetDataSource);
+        this.stats = stats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementStatsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementStatsDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement" ->
+                        proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" ->
+                        proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private String batchSql;
+        private RowCounter openResult;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1) {
+                batchSql = (String) args[0];
+            }
+            if (name.equals("close")) {
+                flushOpenResult();
+            }
+            if (!name.startsWith("execute")) {
+                return StatementStatsDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s
+                    : preparedSql != null ? preparedSql : batchSql;
+            long start = System.nanoTime();
+            Object result = StatementStatsDataSource.invoke(target, method, args);
+            long nanos = System.nanoTime() - start;
+            if (sql == null) {
+                return result;
+            }
+
+            if (result instanceof ResultSet resultSet) {
+                // 행 수는 ResultSet을 다 읽고 닫을 때 기록
+                flushOpenResult();
+                openResult = new RowCounter(resultSet, sql, nanos);
+                return proxy(ResultSet.class, openResult);
+            }
+            stats.record(sql, nanos, affectedRows(result));
+            return result;
+        }
+
+        private void flushOpenResult() {
+            if (openResult != null) {
+                openResult.record();
+                openResult = null;
+            }
+        }
+
+        private long affectedRows(Object result) {
+            if (result instanceof Number n) {
+                return Math.max(0, n.longValue());
+            }
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int c : counts) rows += Math.max(0, c);
+            } else if (result instanceof long[] counts) {
+                for (long c : counts) rows += Math.max(0, c);
+            }
+            return rows;
+        }
+    }
+
+    private class RowCounter implements InvocationHandler {
+        private final ResultSet target;
+        private final String sql;
+        private final long nanos;
+        private long rows;
+        private boolean recorded;
+
+        RowCounter(ResultSet target, String sql, long nanos) {
+            this.target = target;
+            this.sql = sql;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementStatsDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) rows++;
+                }
+                case "close" -> record();
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        void record() {
+            if (!recorded) {
+                recorded = true;
+                stats.record(sql, nanos, rows);
+            }
+        }
+    }
+}
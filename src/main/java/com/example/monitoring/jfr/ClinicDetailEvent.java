@@ -0,0 +1,27 @@
+package com.example.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.ClinicDetail")
+@Label("Build Clinic Detail")
+@Category({"Suhui Secretary", "Clinic"})
+@StackTrace(false)
+@Description("ClinicService.getClinicDetail")
+public class ClinicDetailEvent extends Event {
+    @Label("Clinic ID")
+    public long clinicId;
+
+    @Label("Students")
+    public int studentCount;
+
+    @Label("Registrations")
+    public int registrationCount;
+
+    @Label("Incomplete Homework Rows")
+    public int homeworkCount;
+}
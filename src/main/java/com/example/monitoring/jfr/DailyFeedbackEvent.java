@@ -0,0 +1,30 @@
+package com.example.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.DailyFeedback")
+@Label("Assemble Daily Feedback")
+@Category({"Suhui Secretary", "Feedback"})
+@StackTrace(false)
+@Description("DailyFeedbackService.getDailyFeedback")
+public class DailyFeedbackEvent extends Event {
+    @Label("Student ID")
+    public long studentId;
+
+    @Label("Lesson ID")
+    public long lessonId;
+
+    @Label("Today Homework")
+    public boolean todayHomework;
+
+    @Label("Next Homework")
+    public boolean nextHomework;
+
+    @Label("Today Test")
+    public boolean todayTest;
+}
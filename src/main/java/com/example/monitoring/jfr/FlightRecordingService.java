@@ -0,0 +1,108 @@
+package com.example.monitoring.jfr;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * 상시 JFR 녹화 (JDK default 프로파일 + 도메인 이벤트, 오버헤드 1% 내외)
+ * JVM 옵션 -XX:StartFlightRecording:name=suhui 로 이미 시작된 녹화가 있으면 그것을 사용한다.
+ * 장애 후 /actuator/jfr로 최근 구간을 덤프해서 어떤 서비스/입력이 느렸는지 확인한다.
+ */
+@Slf4j
+@Component
+public class FlightRecordingService {
+    public static final String RECORDING_NAME = "suhui";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDir;
+
+    private Recording ownRecording;
+
+    public FlightRecordingService(@Value("${app.monitoring.jfr.enabled:false}") boolean enabled,
+                                  @Value("${app.monitoring.jfr.max-age:6h}") Duration maxAge,
+                                  @Value("${app.monitoring.jfr.max-size-mb:250}") long maxSizeMb,
+                                  @Value("${app.monitoring.jfr.dump-dir:${java.io.tmpdir}}") String dumpDir) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpDir = Path.of(dumpDir);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || !FlightRecorder.isAvailable() || findRecording().isPresent()) {
+            return;
+        }
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAge);
+            recording.setMaxSize(maxSizeBytes);
+            recording.start();
+            ownRecording = recording;
+            log.info("Started flight recording '{}' (maxAge={}, maxSize={}MB)",
+                    RECORDING_NAME, maxAge, maxSizeBytes / 1024 / 1024);
+        } catch (IOException | ParseException | IllegalStateException e) {
+            log.warn("Could not start flight recording: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 녹화를 파일로 덤프 (녹화는 계속된다). 이전 덤프 파일은 지운다.
+     * @return 덤프 파일, 진행 중인 녹화가 없으면 empty
+     */
+    public synchronized Optional<Path> dump() throws IOException {
+        Optional<Recording> recording = findRecording();
+        if (recording.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Files.createDirectories(dumpDir);
+        try (var previous = Files.newDirectoryStream(dumpDir, RECORDING_NAME + "-*.jfr")) {
+            for (Path file : previous) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Path file = dumpDir.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+        recording.get().dump(file);
+        return Optional.of(file);
+    }
+
+    private Optional<Recording> findRecording() {
+        if (!FlightRecorder.isAvailable()) {
+            return Optional.empty();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(r -> RECORDING_NAME.equals(r.getName()) && r.getState() == RecordingState.RUNNING)
+                .findFirst();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ownRecording != null) {
+            ownRecording.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.GradeSubmission")
+@Label("Grade Submission")
+@Category({"Suhui Secretary", "Grading"})
+@StackTrace(false)
+@Description("SubmissionService.submitAnswers")
+public class GradeSubmissionEvent extends Event {
+    @Label("Student ID")
+    public long studentId;
+
+    @Label("Test ID")
+    public long testId;
+
+    @Label("Questions")
+    public int questionCount;
+
+    @Label("Total Score")
+    public int totalScore;
+}
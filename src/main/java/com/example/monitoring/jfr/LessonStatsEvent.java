@@ -0,0 +1,27 @@
+package com.example.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.LessonStats")
+@Label("Build Lesson Stats")
+@Category({"Suhui Secretary", "Lesson"})
+@StackTrace(false)
+@Description("LessonService.getLessonStudentStats")
+public class LessonStatsEvent extends Event {
+    @Label("Lesson ID")
+    public long lessonId;
+
+    @Label("Students")
+    public int studentCount;
+
+    @Label("Test Score Rows")
+    public int testScoreCount;
+
+    @Label("Homework Rows")
+    public int homeworkCount;
+}
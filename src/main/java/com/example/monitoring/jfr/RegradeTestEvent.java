@@ -0,0 +1,27 @@
+package com.example.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.RegradeTest")
+@Label("Regrade Test")
+@Category({"Suhui Secretary", "Grading"})
+@StackTrace(false)
+@Description("TestService.recalculateScores")
+public class RegradeTestEvent extends Event {
+    @Label("Test ID")
+    public long testId;
+
+    @Label("Submissions")
+    public int submissionCount;
+
+    @Label("Answer Rows")
+    public int detailCount;
+
+    @Label("Questions")
+    public int questionCount;
+}
@@ -0,0 +1,146 @@
+package com.example.outbox;
+
+import com.example.entity.ClinicRegistrationStatus;
+import com.example.entity.ClinicStatus;
+
+import java.time.LocalDate;
+
+/**
+ * outbox에 기록하는 도메인 변경 이벤트
+ * 같은 aggregate(aggregateType + aggregateId)의 이벤트는 기록된 순서대로 핸들러에 전달된다.
+ * 이벤트 종류(event_type)는 클래스 이름으로 저장하므로 이름을 바꾸면 처리 전인 이벤트를 읽지 못한다.
+ */
+public sealed interface ChangeEvent {
+    String STUDENT = "student";
+    String CLINIC = "clinic";
+    String CLASS = "class";
+
+    String aggregateType();
+
+    Long aggregateId();
+
+    /**
+     * 답안 제출/재제출 채점 완료
+     */
+    record SubmissionGraded(Long submissionId, Long studentId, Long testId, Integer totalScore)
+            implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return STUDENT;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return studentId;
+        }
+    }
+
+    /**
+     * 숙제 오답/미풀이 수 입력 (개별 또는 반 전체 채점)
+     */
+    record HomeworkGraded(Long studentId, Long homeworkId, Integer incorrectCount, Integer unsolvedCount)
+            implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return STUDENT;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return studentId;
+        }
+    }
+
+    /**
+     * 수업 숙제 배정 (previousHomeworkId: 바뀌기 전 숙제, 처음 배정이면 null)
+     */
+    record HomeworkAssigned(Long lessonId, Long studentId, Long homeworkId, Long previousHomeworkId)
+            implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return STUDENT;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return studentId;
+        }
+    }
+
+    /**
+     * 숙제 배정/채점 삭제
+     */
+    record HomeworkUnassigned(Long studentId, Long homeworkId) implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return STUDENT;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return studentId;
+        }
+    }
+
+    /**
+     * 수업별 선생님 피드백 작성/수정
+     */
+    record InstructorFeedbackUpdated(Long studentId, Long lessonId) implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return STUDENT;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return studentId;
+        }
+    }
+
+    /**
+     * 클리닉 생성/정원 변경/종료 (일괄 생성된 클리닉은 clinicId가 null)
+     */
+    record ClinicChanged(Long classId, Long clinicId, LocalDate clinicDate, ClinicStatus status, Integer capacity)
+            implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return CLASS;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return classId;
+        }
+    }
+
+    /**
+     * 클리닉 삭제
+     */
+    record ClinicDeleted(Long classId, Long clinicId) implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return CLASS;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return classId;
+        }
+    }
+
+    /**
+     * 클리닉 신청 상태 변경 (신청, 대기, 취소, 승격, 참석 체크)
+     */
+    record ClinicRegistrationChanged(Long clinicId, Long registrationId, Long studentId,
+                                     ClinicRegistrationStatus status) implements ChangeEvent {
+        @Override
+        public String aggregateType() {
+            return CLINIC;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return clinicId;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 변경 이벤트를 현재 트랜잭션에 outbox_events로 기록
+ * 쓰기가 롤백되면 이벤트도 함께 사라지고, 커밋된 이벤트만 OutboxDispatcher가 처리한다.
+ * 샤딩을 쓰면 현재 shard의 outbox_events에 기록된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, attempts, created_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ChangeEvent event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * 여러 이벤트를 배치 INSERT 한 번으로 기록 (순서대로)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<? extends ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (ChangeEvent event : events) {
+            rows.add(new Object[]{event.aggregateType(), event.aggregateId(),
+                    event.getClass().getSimpleName(), serialize(event), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String serialize(ChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize change event", e);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.outbox;
+
+import com.example.service.JobLeaseService;
+import com.example.sharding.ShardContext;
+import com.example.sharding.Shards;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * outbox_events를 주기적으로 읽어서 등록된 OutboxHandler에 묶음으로 전달
+ * - 여러 인스턴스 중 실행권(JobLease)을 얻은 하나만 전달한다 (aggregate별 순서 유지)
+ * - shard마다 처리 전 이벤트를 id 순서로 batchSize개씩 읽고, 핸들러별로 한 트랜잭션에 넘긴다
+ * - 핸들러가 실패한 aggregate는 이번 묶음에서 더 진행하지 않고, 실패한 이벤트의 next_attempt_at까지
+ *   (retryInitial부터 두 배씩, 최대 retryMax) 그 aggregate의 이벤트를 전달하지 않는다 (최소 한 번 전달)
+ * - maxAttempts번 실패한 이벤트는 last_error를 남기고 건너뛴다 (이후 이벤트가 막히지 않도록)
+ */
+@Slf4j
+public class OutboxDispatcher {
+    private static final String LEASE_NAME = "outbox-dispatcher";
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT e.id, e.aggregate_type, e.aggregate_id, e.event_type, e.payload, e.attempts, e.created_at " +
+            "FROM outbox_events e WHERE e.processed_at IS NULL " +
+            "AND (e.next_attempt_at IS NULL OR e.next_attempt_at <= ?) " +
+            // 재시도를 기다리는 앞선 이벤트가 있는 aggregate는 순서를 지키려고 함께 기다린다
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events w WHERE w.aggregate_type = e.aggregate_type " +
+            "AND w.aggregate_id = e.aggregate_id AND w.processed_at IS NULL AND w.next_attempt_at > ? AND w.id < e.id) " +
+            "ORDER BY e.id LIMIT ?";
+    private static final String FAIL_SQL =
+            "UPDATE outbox_events SET attempts = attempts + 1, last_error = ?, processed_at = ?, next_attempt_at = ? " +
+            "WHERE id = ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM outbox_events WHERE processed_at < ? LIMIT " + PURGE_BATCH_SIZE;
+
+    private final Shards shards;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+    private final List<OutboxHandler<?>> handlers;
+    private final Map<String, Class<? extends ChangeEvent>> eventTypes = new HashMap<>();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryInitial;
+    private final Duration retryMax;
+    private final Duration leaseDuration;
+    private final Duration retention;
+
+    // shard -> 가장 오래된 처리 전 이벤트의 나이 (마지막 확인 시점)
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+
+    public OutboxDispatcher(Shards shards, JobLeaseService jobLeaseService, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, List<OutboxHandler<?>> handlers, MeterRegistry registry,
+                            int batchSize, int maxAttempts, Duration retryInitial, Duration retryMax,
+                            Duration leaseDuration, Duration retention) {
+        this.shards = shards;
+        this.jobLeaseService = jobLeaseService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryInitial = retryInitial;
+        this.retryMax = retryMax;
+        this.leaseDuration = leaseDuration;
+        this.retention = retention;
+        for (Class<?> type : ChangeEvent.class.getPermittedSubclasses()) {
+            eventTypes.put(type.getSimpleName(), type.asSubclass(ChangeEvent.class));
+        }
+
+        processedCounter = events(registry, "processed");
+        failedCounter = events(registry, "failed");
+        deadCounter = events(registry, "dead");
+        TimeGauge.builder("app.outbox.lag", lagMillis,
+                        TimeUnit.MILLISECONDS, m -> m.values().stream().mapToLong(Long::longValue).max().orElse(0))
+                .description("Age of the oldest pending outbox event")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1s}")
+    public void poll() {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+            return;
+        }
+        // 실행권이 끝나기 전에 멈춘다 (다른 인스턴스와 동시에 전달하지 않도록)
+        long deadline = System.nanoTime() + leaseDuration.toNanos() / 2;
+        for (String shard : shards.names()) {
+            try {
+                while (dispatch(shard) && System.nanoTime() < deadline) {
+                    // 묶음이 가득 차 있었으면 바로 이어서 처리
+                }
+            } catch (DataAccessException e) {
+                log.warn("Outbox dispatch failed on shard {}: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 처리가 끝난 지 retention이 지난 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:1h}")
+    public void purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        for (String shard : shards.names()) {
+            JdbcTemplate jdbc = shards.jdbc(shard);
+            int deleted;
+            try {
+                do {
+                    deleted = jdbc.update(PURGE_SQL, before);
+                } while (deleted == PURGE_BATCH_SIZE);
+            } catch (DataAccessException e) {
+                log.warn("Outbox purge failed on shard {}: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * shard 하나의 처리 전 이벤트 한 묶음을 전달
+     * @return 묶음이 가득 찼고 모두 처리되어서 바로 다음 묶음을 읽어도 되면 true
+     */
+    private boolean dispatch(String shard) {
+        JdbcTemplate jdbc = shards.jdbc(shard);
+        Timestamp readAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Pending> batch = jdbc.query(SELECT_PENDING_SQL, (rs, rowNum) -> new Pending(
+                rs.getLong("id"),
+                rs.getString("aggregate_type") + ":" + rs.getLong("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getInt("attempts"),
+                rs.getTimestamp("created_at").toLocalDateTime()), readAt, readAt, batchSize);
+        if (batch.isEmpty()) {
+            lagMillis.put(shard, 0L);
+            return false;
+        }
+        lagMillis.put(shard, Math.max(0, Duration.between(batch.get(0).createdAt, LocalDateTime.now()).toMillis()));
+
+        // 실패한 aggregate -> 이번 묶음에서 더 전달하지 않음
+        Set<String> blocked = new HashSet<>();
+        Map<Pending, String> failures = new LinkedHashMap<>();
+        List<Pending> readable = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (blocked.contains(pending.aggregateKey)) {
+                continue;
+            }
+            try {
+                pending.event = deserialize(pending);
+                readable.add(pending);
+            } catch (RuntimeException e) {
+                blocked.add(pending.aggregateKey);
+                failures.put(pending, e.getMessage());
+            }
+        }
+
+        for (OutboxHandler<?> handler : handlers) {
+            List<Pending> events = readable.stream()
+                    .filter(p -> handler.eventType().isInstance(p.event) && !blocked.contains(p.aggregateKey))
+                    .collect(Collectors.toList());
+            if (events.isEmpty()) {
+                continue;
+            }
+            try {
+                deliver(shard, handler, events);
+            } catch (RuntimeException batchFailure) {
+                // 어느 이벤트가 실패했는지 하나씩 다시 전달해서 찾는다
+                for (Pending pending : events) {
+                    if (blocked.contains(pending.aggregateKey)) {
+                        continue;
+                    }
+                    try {
+                        deliver(shard, handler, List.of(pending));
+                    } catch (RuntimeException e) {
+                        log.warn("Outbox handler {} failed on event {} ({}): {}",
+                                handler.getClass().getSimpleName(), pending.id, pending.eventType, e.getMessage());
+                        blocked.add(pending.aggregateKey);
+                        failures.put(pending, e.getClass().getSimpleName() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+
+        List<Long> processed = batch.stream()
+                .filter(p -> !blocked.contains(p.aggregateKey))
+                .map(p -> p.id)
+                .collect(Collectors.toList());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        markProcessed(jdbc, processed, now);
+        failures.forEach((pending, error) -> markFailed(jdbc, pending, error, now));
+        return failures.isEmpty() && batch.size() == batchSize;
+    }
+
+    private void deliver(String shard, OutboxHandler<?> handler, List<Pending> events) {
+        List<ChangeEvent> payloads = events.stream().map(p -> p.event).collect(Collectors.toList());
+        ShardContext.callOn(shard, () -> transaction.execute(status -> {
+            invoke(handler, payloads);
+            return null;
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends ChangeEvent> void invoke(OutboxHandler<E> handler, List<ChangeEvent> events) {
+        handler.handle((List<E>) (List<?>) events);
+    }
+
+    private ChangeEvent deserialize(Pending pending) {
+        Class<? extends ChangeEvent> type = eventTypes.get(pending.eventType);
+        if (type == null) {
+            throw new RuntimeException("Unknown event type: " + pending.eventType);
+        }
+        try {
+            return objectMapper.readValue(pending.payload, type);
+        } catch (Exception e) {
+            throw new RuntimeException("Unreadable " + pending.eventType + " payload: " + e.getMessage(), e);
+        }
+    }
+
+    private void markProcessed(JdbcTemplate jdbc, List<Long> ids, Timestamp now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(now);
+        args.addAll(ids);
+        jdbc.update("UPDATE outbox_events SET processed_at = ? WHERE id IN (" + placeholders + ")", args.toArray());
+        processedCounter.increment(ids.size());
+    }
+
+    private void markFailed(JdbcTemplate jdbc, Pending pending, String error, Timestamp now) {
+        boolean dead = pending.attempts + 1 >= maxAttempts;
+        String message = error == null ? "unknown" : error;
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+        Timestamp nextAttemptAt = dead ? null : Timestamp.valueOf(now.toLocalDateTime().plus(backoff(pending.attempts)));
+        jdbc.update(FAIL_SQL, message, dead ? now : null, nextAttemptAt, pending.id);
+        if (dead) {
+            log.error("Giving up on outbox event {} ({}, {}) after {} attempts: {}",
+                    pending.id, pending.eventType, pending.aggregateKey, maxAttempts, message);
+            deadCounter.increment();
+        } else {
+            failedCounter.increment();
+        }
+    }
+
+    /**
+     * attempts번 실패한 뒤 다음 전달까지 기다릴 시간 (retryInitial, 2배, 4배 ... 최대 retryMax)
+     */
+    Duration backoff(int attempts) {
+        Duration delay = retryInitial;
+        for (int i = 0; i < attempts && delay.compareTo(retryMax) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(retryMax) < 0 ? delay : retryMax;
+    }
+
+    private static Counter events(MeterRegistry registry, String result) {
+        return Counter.builder("app.outbox.events")
+                .description("Outbox events by dispatch result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static class Pending {
+        final long id;
+        final String aggregateKey;
+        final String eventType;
+        final String payload;
+        final int attempts;
+        final LocalDateTime createdAt;
+        ChangeEvent event;
+
+        Pending(long id, String aggregateKey, String eventType, String payload, int attempts, LocalDateTime createdAt) {
+            this.id = id;
+            this.aggregateKey = aggregateKey;
+            this.eventType = eventType;
+            this.payload = payload;
+            this.attempts = attempts;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트를 받아서 파생 데이터를 갱신하는 프로젝션 (빈으로 등록하면 OutboxDispatcher가 호출)
+ * 이벤트는 최소 한 번 전달되므로(실패하면 이후 이벤트와 함께 다시 전달) 같은 이벤트를 다시 받아도 결과가 같아야 한다.
+ */
+public interface OutboxHandler<E extends ChangeEvent> {
+
+    /**
+     * 처리할 이벤트 종류
+     */
+    Class<E> eventType();
+
+    /**
+     * 이벤트 묶음 처리 (aggregate별로 기록 순서를 유지, 이벤트의 shard에서 트랜잭션 하나로 실행)
+     * 예외를 던지면 묶음 전체가 롤백되고 이벤트를 하나씩 다시 전달해서 실패한 이벤트를 찾는다.
+     */
+    void handle(List<E> events);
+}
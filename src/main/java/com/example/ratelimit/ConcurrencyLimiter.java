@@ -0,0 +1,78 @@
+package com.example.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB를 많이 쓰는 엔드포인트 전체의 동시 처리 수 제한
+ * 커넥션 풀을 기다리며 쌓이는 대신 maxWait 안에 자리가 나지 않으면 바로 거절해서
+ * 다른 요청이 커넥션을 받을 수 있게 한다. max가 0이면 제한하지 않는다.
+ * 경로 앞에 메서드를 붙이면("POST /api/submissions") 그 메서드만, 없으면 모든 메서드를 제한한다.
+ */
+public final class ConcurrencyLimiter {
+    private final int max;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final List<Endpoint> endpoints;
+
+    /**
+     * @param method null이면 모든 메서드
+     */
+    private record Endpoint(String method, PathPattern path) {
+        boolean matches(String requestMethod, PathContainer requestPath) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && path.matches(requestPath);
+        }
+    }
+
+    public ConcurrencyLimiter(int max, Duration maxWait, List<String> paths, MeterRegistry registry) {
+        this.max = max;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(Math.max(max, 0));
+        this.endpoints = paths.stream()
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .map(ConcurrencyLimiter::endpoint)
+                .toList();
+
+        Gauge.builder("app.ratelimit.concurrency.active", this, limiter -> limiter.max - limiter.permits.availablePermits())
+                .description("Requests in flight on rate limited DB-heavy endpoints")
+                .register(registry);
+    }
+
+    public boolean appliesTo(String method, String path) {
+        if (max <= 0) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        return endpoints.stream().anyMatch(endpoint -> endpoint.matches(method, container));
+    }
+
+    /**
+     * @return 자리를 얻었으면 true (끝나면 release 호출)
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    // "POST /api/submissions" 또는 "/api/tests/*/stats"
+    private static Endpoint endpoint(String entry) {
+        int space = entry.indexOf(' ');
+        if (space < 0) {
+            return new Endpoint(null, PathPatternParser.defaultInstance.parse(entry));
+        }
+        return new Endpoint(entry.substring(0, space),
+                PathPatternParser.defaultInstance.parse(entry.substring(space + 1).trim()));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 로그인/답안 제출 요청 제한 (DB에 닿기 전에 거절)
+ * - 학생별, IP별 토큰 버킷: 반복해서 재시도하는 클라이언트 하나가 커넥션 풀을 독차지하지 않도록
+ *   (같은 학원 와이파이에서 한 반이 함께 들어오므로 IP별 한도는 넉넉하게)
+ * - DB를 많이 쓰는 엔드포인트 전체의 동시 처리 수 제한
+ * 초과하면 429 + Retry-After, 거절 수는 app.ratelimit.rejected{limit}
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String LOGIN_PATH = "/api/auth/student/login";
+    private static final String SUBMISSIONS_PATH = "/api/submissions";
+    // 로그인 본문은 {"studentId":..,"pin":".."} 정도라 이보다 크면 받지 않는다
+    private static final int MAX_LOGIN_BODY_BYTES = 4096;
+    private static final long CONCURRENCY_RETRY_AFTER_SECONDS = 1;
+    private static final String REJECTED_BODY = "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}";
+
+    private final TokenBuckets loginByStudent;
+    private final TokenBuckets loginByIp;
+    private final TokenBuckets submitByStudent;
+    private final TokenBuckets submitByIp;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+
+    public RateLimitFilter(TokenBuckets loginByStudent, TokenBuckets loginByIp,
+                           TokenBuckets submitByStudent, TokenBuckets submitByIp,
+                           ConcurrencyLimiter concurrencyLimiter, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.loginByStudent = loginByStudent;
+        this.loginByIp = loginByIp;
+        this.submitByStudent = submitByStudent;
+        this.submitByIp = submitByIp;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI();
+        boolean post = "POST".equals(request.getMethod());
+
+        if (post && path.equals(LOGIN_PATH)) {
+            byte[] body = request.getInputStream().readNBytes(MAX_LOGIN_BODY_BYTES + 1);
+            if (body.length > MAX_LOGIN_BODY_BYTES) {
+                response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                return;
+            }
+            if (rejected(response, "login-ip", loginByIp, request.getRemoteAddr())
+                    || rejected(response, "login-student", loginByStudent, studentIdOf(body))) {
+                return;
+            }
+            request = new CachedBodyRequest(request, body);
+        } else if (post && path.startsWith(SUBMISSIONS_PATH)) {
+            if (rejected(response, "submit-ip", submitByIp, request.getRemoteAddr())
+                    || rejected(response, "submit-student", submitByStudent, studentIdOf(request))) {
+                return;
+            }
+        }
+
+        if (!concurrencyLimiter.appliesTo(request.getMethod(), path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = concurrencyLimiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response, "concurrency", CONCURRENCY_RETRY_AFTER_SECONDS);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    /**
+     * 키가 없으면(본문/파라미터 누락) 제한하지 않는다 (컨트롤러가 400)
+     */
+    private boolean rejected(HttpServletResponse response, String limit, TokenBuckets buckets, String key)
+            throws IOException {
+        if (key == null) {
+            return false;
+        }
+        long waitNanos = buckets.tryAcquire(key);
+        if (waitNanos == 0) {
+            return false;
+        }
+        reject(response, limit, Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        return true;
+    }
+
+    private void reject(HttpServletResponse response, String limit, long retryAfterSeconds) throws IOException {
+        Counter.builder("app.ratelimit.rejected")
+                .description("Requests shed by the rate limiter")
+                .tag("limit", limit)
+                .register(registry)
+                .increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(REJECTED_BODY);
+    }
+
+    private String studentIdOf(byte[] loginBody) {
+        try {
+            JsonNode studentId = objectMapper.readTree(loginBody).path("studentId");
+            return studentId.isValueNode() && !studentId.isNull() ? studentId.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String studentIdOf(HttpServletRequest request) {
+        String studentId = request.getParameter("studentId");
+        if (studentId != null) {
+            return studentId;
+        }
+        HttpSession session = request.getSession(false);
+        Object userId = session != null ? session.getAttribute("userId") : null;
+        return userId != null ? userId.toString() : null;
+    }
+
+    /**
+     * 제한 확인에 읽은 로그인 본문을 컨트롤러가 다시 읽을 수 있도록
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽을 수 있다고 알리고 끝을 알린다
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
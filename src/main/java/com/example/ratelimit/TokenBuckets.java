@@ -0,0 +1,73 @@
+package com.example.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(학생 ID, IP)별 토큰 버킷
+ * 메모리는 maxKeys개로 제한한다: 가득 찬 버킷은 새로 만든 것과 같으므로 주기적으로 지우고,
+ * 그래도 키가 maxKeys개를 넘으면(IP를 바꿔가며 보내는 경우 등) 새 키는 공용 버킷 하나를 같이 쓴다.
+ * capacity가 0이면 제한하지 않는다.
+ */
+public final class TokenBuckets {
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final long FULL_SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final int maxKeys;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    private final AtomicLong lastSweepNanos;
+
+    public TokenBuckets(String name, int capacity, Duration refill, int maxKeys, MeterRegistry registry) {
+        this.capacity = capacity;
+        this.intervalNanos = refill.toNanos();
+        this.maxKeys = maxKeys;
+        long now = System.nanoTime();
+        this.overflow = new TokenBucket(capacity, intervalNanos, now);
+        this.lastSweepNanos = new AtomicLong(now);
+
+        Gauge.builder("app.ratelimit.keys", buckets, Map::size)
+                .description("Keys with a partially used token bucket")
+                .tag("limit", name)
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지의 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        if (!isEnabled()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            sweepIfDue(now);
+            bucket = buckets.size() < maxKeys
+                    ? buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, intervalNanos, now))
+                    : overflow;
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    private void sweepIfDue(long now) {
+        long last = lastSweepNanos.get();
+        long interval = buckets.size() >= maxKeys ? FULL_SWEEP_INTERVAL_NANOS : SWEEP_INTERVAL_NANOS;
+        if (now - last < interval || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        // 지우는 순간 다른 요청이 쓴 토큰 하나는 잊을 수 있다 (그만큼 너그러워질 뿐)
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.repository;
 
 import com.example.entity.AcademyClass;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,7 @@ import java.util.List;
 @Repository
 public interface AcademyClassRepository extends JpaRepository<AcademyClass, Long> {
     List<AcademyClass> findByAcademyId(Long academyId);
+
+    @Query("SELECT ac FROM AcademyClass ac WHERE ac.clinicDayOfWeek IS NOT NULL AND ac.clinicTime IS NOT NULL")
+    List<AcademyClass> findAllWithClinicSchedule();
 }
@@ -3,10 +3,12 @@ package com.example.repository;
 import com.example.entity.ClinicRegistration;
 import com.example.entity.ClinicRegistrationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,17 @@ public interface ClinicRegistrationRepository extends JpaRepository<ClinicRegist
     @Query("SELECT cr FROM ClinicRegistration cr WHERE cr.clinic.id = :clinicId")
     List<ClinicRegistration> findByClinicId(@Param("clinicId") Long clinicId);
 
+    @Query("SELECT cr FROM ClinicRegistration cr JOIN FETCH cr.student " +
+           "WHERE cr.clinic.id = :clinicId ORDER BY cr.id ASC")
+    List<ClinicRegistration> findByClinicIdWithStudent(@Param("clinicId") Long clinicId);
+
+    /**
+     * 클리닉별, 상태별 신청 수 [clinicId, status, count]
+     */
+    @Query("SELECT cr.clinic.id, cr.status, COUNT(cr) FROM ClinicRegistration cr " +
+           "WHERE cr.clinic.id IN :clinicIds GROUP BY cr.clinic.id, cr.status")
+    List<Object[]> countByClinicIdsGroupByStatus(@Param("clinicIds") List<Long> clinicIds);
+
     @Query("SELECT cr FROM ClinicRegistration cr WHERE cr.student.id = :studentId " +
            "AND cr.clinic.clinicDate >= :today ORDER BY cr.clinic.clinicDate ASC")
     List<ClinicRegistration> findUpcomingByStudentId(@Param("studentId") Long studentId,
@@ -30,4 +43,33 @@ public interface ClinicRegistrationRepository extends JpaRepository<ClinicRegist
            "AND cr.status = :status")
     List<ClinicRegistration> findByClinicIdAndStatus(@Param("clinicId") Long clinicId,
                                                        @Param("status") ClinicRegistrationStatus status);
+
+    // 대기 순번: 대기 상태가 된 시각 순
+    @Query("SELECT cr FROM ClinicRegistration cr WHERE cr.clinic.id = :clinicId " +
+           "AND cr.status = com.example.entity.ClinicRegistrationStatus.WAITLISTED " +
+           "ORDER BY cr.updatedAt ASC, cr.id ASC")
+    List<ClinicRegistration> findWaitlistByClinicId(@Param("clinicId") Long clinicId);
+
+    /**
+     * 현재 상태가 expected일 때만 상태를 변경한다 (1 = 성공 / 0 = 다른 요청이 먼저 변경함)
+     */
+    @Modifying
+    @Query("UPDATE ClinicRegistration cr SET cr.status = :status, cr.updatedAt = :now " +
+           "WHERE cr.id = :id AND cr.status = :expected")
+    int updateStatusIf(@Param("id") Long id,
+                       @Param("expected") ClinicRegistrationStatus expected,
+                       @Param("status") ClinicRegistrationStatus status,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 상태가 expected인 신청들만 상태를 변경한다 (변경된 행 수, ids보다 적으면 다른 요청이 먼저 변경함)
+     */
+    @Modifying
+    @Query("UPDATE ClinicRegistration cr SET cr.status = :status, cr.updatedAt = :now " +
+           "WHERE cr.clinic.id = :clinicId AND cr.id IN :ids AND cr.status = :expected")
+    int updateStatusByIdsIf(@Param("clinicId") Long clinicId,
+                            @Param("ids") List<Long> ids,
+                            @Param("expected") ClinicRegistrationStatus expected,
+                            @Param("status") ClinicRegistrationStatus status,
+                            @Param("now") LocalDateTime now);
 }
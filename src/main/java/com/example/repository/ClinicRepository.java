@@ -2,6 +2,7 @@ package com.example.repository;
 
 import com.example.entity.Clinic;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,12 +14,14 @@ import java.util.Optional;
 @Repository
 public interface ClinicRepository extends JpaRepository<Clinic, Long> {
 
-    @Query("SELECT c FROM Clinic c WHERE c.academyClass.id = :classId " +
+    @Query("SELECT c FROM Clinic c JOIN FETCH c.academyClass ac JOIN FETCH ac.academy " +
+           "WHERE ac.id = :classId " +
            "AND c.clinicDate >= :today ORDER BY c.clinicDate ASC, c.clinicTime ASC")
     List<Clinic> findUpcomingClinicsByClass(@Param("classId") Long classId,
                                              @Param("today") LocalDate today);
 
-    @Query("SELECT c FROM Clinic c WHERE c.academyClass.id = :classId " +
+    @Query("SELECT c FROM Clinic c JOIN FETCH c.academyClass ac JOIN FETCH ac.academy " +
+           "WHERE ac.id = :classId " +
            "ORDER BY c.clinicDate DESC, c.clinicTime DESC")
     List<Clinic> findByAcademyClassIdOrderByClinicDateDesc(@Param("classId") Long classId);
 
@@ -26,4 +29,30 @@ public interface ClinicRepository extends JpaRepository<Clinic, Long> {
            "AND c.clinicDate = :clinicDate")
     Optional<Clinic> findByClassIdAndDate(@Param("classId") Long classId,
                                            @Param("clinicDate") LocalDate clinicDate);
+
+    @Query("SELECT c.academyClass.id, c.clinicDate FROM Clinic c " +
+           "WHERE c.clinicDate BETWEEN :from AND :to")
+    List<Object[]> findClassIdAndDateBetween(@Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("UPDATE Clinic c SET c.status = com.example.entity.ClinicStatus.CLOSED " +
+           "WHERE c.status = com.example.entity.ClinicStatus.OPEN AND c.clinicDate < :today")
+    int closeOpenClinicsBefore(@Param("today") LocalDate today);
+
+    /**
+     * 정원이 남아 있을 때만 좌석 하나를 차지한다 (조건부 UPDATE, 1 = 성공 / 0 = 정원 초과)
+     */
+    @Modifying
+    @Query("UPDATE Clinic c SET c.registeredCount = c.registeredCount + 1 " +
+           "WHERE c.id = :clinicId AND (c.capacity IS NULL OR c.registeredCount < c.capacity)")
+    int tryReserveSeat(@Param("clinicId") Long clinicId);
+
+    /**
+     * 정원과 무관하게 좌석 수를 조정한다 (선생님의 출석 처리, 취소 시 반환 등)
+     */
+    @Modifying
+    @Query("UPDATE Clinic c SET c.registeredCount = c.registeredCount + :delta " +
+           "WHERE c.id = :clinicId AND c.registeredCount + :delta >= 0")
+    int addSeats(@Param("clinicId") Long clinicId, @Param("delta") int delta);
 }
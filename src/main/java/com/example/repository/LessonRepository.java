@@ -1,6 +1,9 @@
 package com.example.repository;
 
+import com.example.dto.LessonDto;
 import com.example.entity.Lesson;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,4 +31,35 @@ LessonRepository extends JpaRepository<Lesson, Long> {
            "AND l.lessonDate > :currentDate ORDER BY l.lessonDate ASC")
     List<Lesson> findNextLessonsAfter(@Param("classId") Long classId,
                                        @Param("currentDate") LocalDate currentDate);
+
+    // 목록 조회용 프로젝션: 학원/반/시험을 조인해 DTO 컬럼만 한 번에 조회
+    String LESSON_DTO_SELECT = "SELECT new com.example.dto.LessonDto(" +
+            "l.id, l.lessonDate, a.id, a.name, c.id, c.name, t.id, t.title, " +
+            "l.commonFeedback, l.announcement, l.createdAt, l.updatedAt) " +
+            "FROM Lesson l JOIN l.academy a JOIN l.academyClass c LEFT JOIN l.test t ";
+
+    // fields=로 요약 필드만 요청한 경우: 피드백/공지 TEXT와 생성/수정 시각을 읽지 않는다
+    String LESSON_SUMMARY_SELECT = "SELECT new com.example.dto.LessonDto(" +
+            "l.id, l.lessonDate, a.id, a.name, c.id, c.name, t.id, t.title) " +
+            "FROM Lesson l JOIN l.academy a JOIN l.academyClass c LEFT JOIN l.test t ";
+
+    @Query(value = LESSON_DTO_SELECT,
+           countQuery = "SELECT COUNT(l) FROM Lesson l")
+    Page<LessonDto> findAllDtos(Pageable pageable);
+
+    @Query(value = LESSON_SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(l) FROM Lesson l")
+    Page<LessonDto> findAllSummaryDtos(Pageable pageable);
+
+    @Query(LESSON_DTO_SELECT + "WHERE c.id = :classId ORDER BY l.lessonDate DESC")
+    List<LessonDto> findDtosByClassId(@Param("classId") Long classId);
+
+    @Query(LESSON_SUMMARY_SELECT + "WHERE c.id = :classId ORDER BY l.lessonDate DESC")
+    List<LessonDto> findSummaryDtosByClassId(@Param("classId") Long classId);
+
+    @Query(LESSON_DTO_SELECT + "WHERE l.id = :id")
+    Optional<LessonDto> findDtoById(@Param("id") Long id);
+
+    @Query(LESSON_SUMMARY_SELECT + "WHERE l.id = :id")
+    Optional<LessonDto> findSummaryDtoById(@Param("id") Long id);
 }
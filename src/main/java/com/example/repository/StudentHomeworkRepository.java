@@ -2,6 +2,8 @@ package com.example.repository;
 
 import com.example.entity.StudentHomework;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,8 @@ public interface StudentHomeworkRepository extends JpaRepository<StudentHomework
     List<StudentHomework> findByHomeworkId(Long homeworkId);
     List<StudentHomework> findByHomeworkIdIn(List<Long> homeworkIds);
     Optional<StudentHomework> findByStudentIdAndHomeworkId(Long studentId, Long homeworkId);
+
+    @Query("SELECT sh FROM StudentHomework sh JOIN FETCH sh.homework h LEFT JOIN FETCH h.lesson l LEFT JOIN FETCH l.test " +
+           "WHERE sh.student.id IN :studentIds ORDER BY sh.id")
+    List<StudentHomework> findByStudentIdInWithHomework(@Param("studentIds") List<Long> studentIds);
 }
@@ -3,13 +3,23 @@ package com.example.repository;
 import com.example.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Page<Student> findByNameContaining(String name, Pageable pageable);
     Optional<Student> findByIdAndPin(Long id, String pin);
+    List<Student> findByAcademyClassId(Long classId);
+
+    @Query("SELECT s.academyClass.id FROM Student s WHERE s.id = :id")
+    Optional<Long> findClassIdById(Long id);
+
+    @EntityGraph(attributePaths = {"academy", "academyClass"})
+    Optional<Student> findWithAcademyAndClassById(Long id);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.repository;
 
 import com.example.entity.StudentSubmissionDetail;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -9,6 +10,7 @@ import java.util.List;
 
 @Repository
 public interface StudentSubmissionDetailRepository extends JpaRepository<StudentSubmissionDetail, Long> {
+    @EntityGraph(attributePaths = "question")
     List<StudentSubmissionDetail> findBySubmissionId(Long submissionId);
     
     @Query("SELECT d.question.number, COUNT(CASE WHEN d.isCorrect = true THEN 1 END) * 100.0 / COUNT(*) " +
@@ -17,4 +19,9 @@ public interface StudentSubmissionDetailRepository extends JpaRepository<Student
            "GROUP BY d.question.number " +
            "ORDER BY d.question.number")
     List<Object[]> getQuestionCorrectRatesByTestId(Long testId);
+
+    @Query("SELECT d.submission.student.id, d.question.number, d.isCorrect " +
+           "FROM StudentSubmissionDetail d " +
+           "WHERE d.submission.test.id = :testId")
+    List<Object[]> findResultsByTestId(Long testId);
 }
\ No newline at end of file
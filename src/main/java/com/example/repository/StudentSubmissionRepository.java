@@ -1,10 +1,13 @@
 package com.example.repository;
 
+import com.example.dto.StudentSubmissionDto;
 import com.example.entity.StudentSubmission;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +16,64 @@ public interface StudentSubmissionRepository extends JpaRepository<StudentSubmis
     List<StudentSubmission> findByTestId(Long testId);
     List<StudentSubmission> findByStudentId(Long studentId);
     Optional<StudentSubmission> findByStudentIdAndTestId(Long studentId, Long testId);
+
+    @EntityGraph(StudentSubmission.GRAPH_GRADING)
+    Optional<StudentSubmission> findForGradingByStudentIdAndTestId(Long studentId, Long testId);
+
+    @EntityGraph(StudentSubmission.GRAPH_GRADING)
+    List<StudentSubmission> findForGradingByTestId(Long testId);
+
+    @EntityGraph(StudentSubmission.GRAPH_REVIEW)
+    Optional<StudentSubmission> findForReviewById(Long id);
+
+    @EntityGraph(StudentSubmission.GRAPH_REVIEW)
+    Optional<StudentSubmission> findForReviewByStudentIdAndTestId(Long studentId, Long testId);
     
     @Query("SELECT AVG(s.totalScore) FROM StudentSubmission s WHERE s.test.id = :testId")
     Double getAverageScoreByTestId(Long testId);
+
+    @Query("SELECT s.student.id, s.student.name, s.totalScore FROM StudentSubmission s WHERE s.test.id = :testId")
+    List<Object[]> findScoresByTestId(Long testId);
+
+    /**
+     * 기존 제출 (채점 큐 일괄 저장용) [studentId, submissionId, idempotencyKey, totalScore]
+     */
+    @Query("SELECT s.student.id, s.id, s.idempotencyKey, s.totalScore FROM StudentSubmission s " +
+           "WHERE s.test.id = :testId AND s.student.id IN :studentIds")
+    List<Object[]> findExistingByTestIdAndStudentIdIn(Long testId, Collection<Long> studentIds);
+
+    // 목록 조회용 프로젝션: 학생/학원/반/시험을 조인해 DTO 컬럼만 한 번에 조회
+    String SUBMISSION_DTO_SELECT = "SELECT new com.example.dto.StudentSubmissionDto(" +
+            "s.id, st.id, st.name, st.grade, st.school, a.id, a.name, c.id, c.name, " +
+            "st.createdAt, st.updatedAt, t.id, t.title, s.totalScore, s.submittedAt, " +
+            "s.createdAt, s.updatedAt) " +
+            "FROM StudentSubmission s JOIN s.student st JOIN st.academy a JOIN st.academyClass c " +
+            "JOIN s.test t ";
+
+    // fields=로 요약 필드만 요청한 경우: 학원/반을 조인하지 않고 학생은 ID/이름만
+    String SUBMISSION_SUMMARY_SELECT = "SELECT new com.example.dto.StudentSubmissionDto(" +
+            "s.id, st.id, st.name, t.id, t.title, s.totalScore, s.submittedAt) " +
+            "FROM StudentSubmission s JOIN s.student st JOIN s.test t ";
+
+    @Query(SUBMISSION_DTO_SELECT + "WHERE t.id = :testId")
+    List<StudentSubmissionDto> findDtosByTestId(Long testId);
+
+    @Query(SUBMISSION_SUMMARY_SELECT + "WHERE t.id = :testId")
+    List<StudentSubmissionDto> findSummaryDtosByTestId(Long testId);
+
+    @Query(SUBMISSION_DTO_SELECT + "WHERE st.id = :studentId")
+    List<StudentSubmissionDto> findDtosByStudentId(Long studentId);
+
+    @Query(SUBMISSION_SUMMARY_SELECT + "WHERE st.id = :studentId")
+    List<StudentSubmissionDto> findSummaryDtosByStudentId(Long studentId);
+
+    /**
+     * 학생이 제출한 시험별 반 평균과 자기보다 점수가 높은 제출 수 (등수 - 1)
+     * [testId, average, higherCount]
+     */
+    @Query("SELECT s.test.id, AVG(o.totalScore), SUM(CASE WHEN o.totalScore > s.totalScore THEN 1 ELSE 0 END) " +
+           "FROM StudentSubmission s, StudentSubmission o " +
+           "WHERE s.student.id = :studentId AND o.test.id = s.test.id " +
+           "GROUP BY s.test.id")
+    List<Object[]> getClassStatsByStudentId(Long studentId);
 }
\ No newline at end of file
@@ -9,5 +9,6 @@ import java.util.List;
 @Repository
 public interface TestQuestionRepository extends JpaRepository<TestQuestion, Long> {
     List<TestQuestion> findByTestIdOrderByNumber(Long testId);
+    long countByTestId(Long testId);
     void deleteByTestId(Long testId);
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.example.repository;
 
+import com.example.dto.TestDto;
 import com.example.entity.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TestRepository extends JpaRepository<Test, Long> {
@@ -15,4 +19,39 @@ public interface TestRepository extends JpaRepository<Test, Long> {
     List<Test> findUnattachedByAcademyIdAndClassId(
             @Param("academyId") Long academyId,
             @Param("classId") Long classId);
+
+    // 목록 조회용 프로젝션: 문제 수는 컬렉션을 읽지 않고 서브쿼리로 센다
+    String TEST_DTO_SELECT = "SELECT new com.example.dto.TestDto(" +
+            "t.id, t.title, a.id, a.name, c.id, c.name, t.createdAt, t.updatedAt, " +
+            "CAST((SELECT COUNT(q) FROM TestQuestion q WHERE q.test = t) AS Integer)) " +
+            "FROM Test t JOIN t.academy a JOIN t.academyClass c ";
+
+    // fields=로 요약 필드만 요청한 경우: 생성/수정 시각과 문제 수 서브쿼리 제외
+    String TEST_SUMMARY_SELECT = "SELECT new com.example.dto.TestDto(" +
+            "t.id, t.title, a.id, a.name, c.id, c.name) " +
+            "FROM Test t JOIN t.academy a JOIN t.academyClass c ";
+
+    @Query(value = TEST_DTO_SELECT,
+           countQuery = "SELECT COUNT(t) FROM Test t")
+    Page<TestDto> findAllDtos(Pageable pageable);
+
+    @Query(value = TEST_SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(t) FROM Test t")
+    Page<TestDto> findAllSummaryDtos(Pageable pageable);
+
+    @Query(TEST_DTO_SELECT + "WHERE a.id = :academyId AND c.id = :classId AND t.lesson IS NULL")
+    List<TestDto> findUnattachedDtosByAcademyIdAndClassId(
+            @Param("academyId") Long academyId,
+            @Param("classId") Long classId);
+
+    @Query(TEST_SUMMARY_SELECT + "WHERE a.id = :academyId AND c.id = :classId AND t.lesson IS NULL")
+    List<TestDto> findUnattachedSummaryDtosByAcademyIdAndClassId(
+            @Param("academyId") Long academyId,
+            @Param("classId") Long classId);
+
+    @Query(TEST_DTO_SELECT + "WHERE t.id = :id")
+    Optional<TestDto> findDtoById(@Param("id") Long id);
+
+    @Query(TEST_SUMMARY_SELECT + "WHERE t.id = :id")
+    Optional<TestDto> findSummaryDtoById(@Param("id") Long id);
 }
\ No newline at end of file
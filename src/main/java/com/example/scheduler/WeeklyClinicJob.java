@@ -0,0 +1,76 @@
+package com.example.scheduler;
+
+import com.example.service.ClinicService;
+import com.example.service.JobLeaseService;
+import com.example.sharding.Shards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * 매주 클리닉 자동 생성 + 지난 클리닉 종료
+ * 여러 인스턴스가 떠 있어도 실행권(JobLease)을 얻은 하나만 수행한다 (수동 실행 POST /api/clinics/generate-weekly 포함).
+ * 날짜는 cron과 같은 app.clinic.generation.zone 기준 (컨테이너 JVM은 UTC라서 월요일 00:05 KST에 아직 일요일)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyClinicJob {
+    private static final String LEASE_NAME = "weekly-clinic-generation";
+    // 같은 주기 안에서 다른 인스턴스가 다시 실행하지 않도록 작업 시간보다 넉넉하게 잡는다
+    private static final Duration LEASE_DURATION = Duration.ofHours(1);
+
+    private final ClinicService clinicService;
+    private final JobLeaseService jobLeaseService;
+    private final Shards shards;
+
+    @Value("${app.clinic.generation.zone:Asia/Seoul}")
+    private ZoneId zone;
+
+    public record Result(int created, int closed) {
+    }
+
+    @Scheduled(cron = "${app.clinic.generation.cron:0 5 0 * * MON}",
+               zone = "${app.clinic.generation.zone:Asia/Seoul}")
+    public void run() {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            log.debug("Weekly clinic job is held by another instance, skipping");
+            return;
+        }
+        execute();
+    }
+
+    /**
+     * 선생님이 수동으로 실행 (끝나면 실행권을 바로 반납)
+     * @return 다른 인스턴스의 예약/수동 실행이 실행권을 보유 중이면 empty
+     */
+    public Optional<Result> runNow() {
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(execute());
+        } finally {
+            jobLeaseService.release(LEASE_NAME);
+        }
+    }
+
+    private Result execute() {
+        LocalDate today = LocalDate.now(zone);
+        // shard마다 실행 (실행권은 기본 shard의 job_leases 하나로 관리)
+        int closed = shards.onEachShard(() -> clinicService.closePastClinics(today)).stream()
+                .mapToInt(Integer::intValue).sum();
+        int created = shards.onEachShard(() -> clinicService.generateWeeklyClinics(today)).stream()
+                .mapToInt(Integer::intValue).sum();
+        log.info("Weekly clinic job ({}): closed {} past clinics, created {} clinics",
+                jobLeaseService.getOwner(), closed, created);
+        return new Result(created, closed);
+    }
+}
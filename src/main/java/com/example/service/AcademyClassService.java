@@ -65,6 +65,7 @@ public class AcademyClassService {
         // Update clinic settings
         academyClass.setClinicDayOfWeek(dto.getClinicDayOfWeek());
         academyClass.setClinicTime(dto.getClinicTime());
+        academyClass.setClinicCapacity(dto.getClinicCapacity());
 
         academyClass = academyClassRepository.save(academyClass);
         return AcademyClassDto.from(academyClass);
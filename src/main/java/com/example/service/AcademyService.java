@@ -2,20 +2,60 @@ package com.example.service;
 
 import com.example.dto.AcademyDto;
 import com.example.entity.Academy;
+import com.example.entity.AcademyShardStatus;
 import com.example.repository.AcademyRepository;
+import com.example.sharding.ShardContext;
+import com.example.sharding.ShardDirectory;
+import com.example.sharding.Shards;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AcademyService {
+    // 여러 shard의 학원 목록 정렬에 쓸 수 있는 속성
+    private static final Map<String, Comparator<AcademyDto>> SORT_PROPERTIES = Map.of(
+            "id", by(AcademyDto::getId),
+            "name", by(AcademyDto::getName),
+            "createdAt", by(AcademyDto::getCreatedAt),
+            "updatedAt", by(AcademyDto::getUpdatedAt));
+
+    private static final RowMapper<AcademyDto> ACADEMY_ROW = (rs, rowNum) -> AcademyDto.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+
     private final AcademyRepository academyRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Shards shards;
+    private final ShardDirectory shardDirectory;
 
     public Page<AcademyDto> getAcademies(Pageable pageable) {
+        if (shards.isSharded()) {
+            return getAcademiesAcrossShards(pageable);
+        }
         return academyRepository.findAll(pageable).map(AcademyDto::from);
     }
 
@@ -25,10 +65,30 @@ public class AcademyService {
         return AcademyDto.from(academy);
     }
 
+    /**
+     * 새 학원은 ShardDirectory가 고른 shard에 만들고 디렉터리에 기록한다
+     * 디렉터리 기록은 학원 insert가 커밋되기 전에 하므로, 기록이 실패하면 학원도 롤백된다.
+     * 기록한 뒤 학원 커밋이 실패하면 기록을 지워서 디렉터리가 없는 학원을 가리키지 않게 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AcademyDto createAcademy(AcademyDto dto) {
-        Academy academy = dto.toEntity();
-        academy = academyRepository.save(academy);
-        return AcademyDto.from(academy);
+        String shard = shardDirectory.shardForNewAcademy();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long[] assigned = new Long[1];
+        try {
+            return ShardContext.callOn(shard, () -> transaction.execute(status -> {
+                // IDENTITY라서 save 시점에 insert되어 id가 정해진다
+                Academy academy = academyRepository.save(dto.toEntity());
+                shardDirectory.assign(academy.getId(), shard, AcademyShardStatus.ACTIVE);
+                assigned[0] = academy.getId();
+                return AcademyDto.from(academy);
+            }));
+        } catch (RuntimeException e) {
+            if (assigned[0] != null) {
+                shardDirectory.remove(assigned[0]);
+            }
+            throw e;
+        }
     }
 
     public AcademyDto updateAcademy(Long id, AcademyDto dto) {
@@ -42,5 +102,60 @@ public class AcademyService {
 
     public void deleteAcademy(Long id) {
         academyRepository.deleteById(id);
+        // 디렉터리는 기본 shard에 있으므로 삭제가 커밋된 뒤에 정리
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shardDirectory.remove(id);
+            }
+        });
+    }
+
+    /**
+     * 모든 shard의 학원을 모아서 정렬/페이지 처리 (학원 수는 많지 않음)
+     * 이동 중이라 두 shard에 있는 학원은 디렉터리의 shard 것만 사용한다.
+     */
+    private Page<AcademyDto> getAcademiesAcrossShards(Pageable pageable) {
+        List<AcademyDto> academies = new ArrayList<>();
+        for (String shard : shards.names()) {
+            for (AcademyDto academy : shards.jdbc(shard).query(
+                    "SELECT id, name, created_at, updated_at FROM academies", ACADEMY_ROW)) {
+                if (shard.equals(shardDirectory.shardOf(academy.getId()))) {
+                    academies.add(academy);
+                }
+            }
+        }
+        academies.sort(comparator(pageable.getSort()));
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(academies);
+        }
+        int from = (int) Math.min(pageable.getOffset(), academies.size());
+        int to = Math.min(from + pageable.getPageSize(), academies.size());
+        return new PageImpl<>(academies.subList(from, to), pageable, academies.size());
+    }
+
+    private static Comparator<AcademyDto> comparator(Sort sort) {
+        Comparator<AcademyDto> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<AcademyDto> next = SORT_PROPERTIES.get(order.getProperty());
+            if (next == null) {
+                continue;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<AcademyDto> byId = Comparator.comparing(AcademyDto::getId);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    // 값이 없는 학원은 뒤로
+    private static <T extends Comparable<? super T>> Comparator<AcademyDto> by(Function<AcademyDto, T> property) {
+        return Comparator.comparing(property, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
     }
 }
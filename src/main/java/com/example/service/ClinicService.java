@@ -2,28 +2,59 @@ package com.example.service;
 
 import com.example.dto.*;
 import com.example.entity.*;
+import com.example.monitoring.DomainMetrics;
+import com.example.monitoring.jfr.ClinicDetailEvent;
+import com.example.outbox.ChangeEvent;
+import com.example.outbox.Outbox;
 import com.example.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ClinicService {
+    private static final int REGISTER_MAX_ATTEMPTS = 3;
+
     private final ClinicRepository clinicRepository;
     private final ClinicRegistrationRepository clinicRegistrationRepository;
     private final AcademyClassRepository academyClassRepository;
     private final StudentRepository studentRepository;
     private final StudentHomeworkRepository studentHomeworkRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainMetrics domainMetrics;
+    private final Outbox outbox;
 
     /**
      * 이번주 클리닉 생성 (반의 기본 설정 기반)
@@ -51,17 +82,76 @@ public class ClinicService {
                 .academyClass(academyClass)
                 .clinicDate(clinicDate)
                 .clinicTime(academyClass.getClinicTime())
+                .capacity(academyClass.getClinicCapacity())
                 .status(ClinicStatus.OPEN)
                 .build();
 
         clinic = clinicRepository.save(clinic);
-        return ClinicDto.from(clinic);
+        appendClinicChanged(clinic);
+        return ClinicDto.from(clinic, Map.of());
+    }
+
+    /**
+     * 클리닉 요일/시간이 설정된 모든 반의 이번주 클리닉 일괄 생성
+     * (존재 여부는 한 번에 조회, 생성은 배치 INSERT)
+     * @return 생성된 클리닉 수
+     */
+    public int generateWeeklyClinics(LocalDate today) {
+        List<AcademyClass> classes = academyClassRepository.findAllWithClinicSchedule();
+        if (classes.isEmpty()) {
+            return 0;
+        }
+
+        // createClinicForThisWeek와 같은 기준: 오늘 이후 가장 가까운 클리닉 요일
+        Set<String> existing = new HashSet<>();
+        for (Object[] row : clinicRepository.findClassIdAndDateBetween(today, today.plusDays(6))) {
+            existing.add(row[0] + "@" + row[1]);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        List<ChangeEvent> events = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (AcademyClass academyClass : classes) {
+            LocalDate clinicDate = today.with(TemporalAdjusters.nextOrSame(academyClass.getClinicDayOfWeek()));
+            if (existing.contains(academyClass.getId() + "@" + clinicDate)) {
+                continue;
+            }
+            rows.add(new Object[]{
+                    academyClass.getId(),
+                    Date.valueOf(clinicDate),
+                    Time.valueOf(academyClass.getClinicTime()),
+                    ClinicStatus.OPEN.name(),
+                    academyClass.getClinicCapacity(),
+                    0,
+                    now,
+                    now
+            });
+            events.add(new ChangeEvent.ClinicChanged(academyClass.getId(), null, clinicDate,
+                    ClinicStatus.OPEN, academyClass.getClinicCapacity()));
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO clinics (class_id, clinic_date, clinic_time, status, capacity, " +
+                    "registered_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    rows);
+            outbox.appendAll(events);
+        }
+        return rows.size();
+    }
+
+    /**
+     * 날짜가 지났는데 아직 OPEN인 클리닉 일괄 종료
+     * @return 종료된 클리닉 수
+     */
+    public int closePastClinics(LocalDate today) {
+        return clinicRepository.closeOpenClinicsBefore(today);
     }
 
     /**
      * 특정 날짜로 클리닉 생성
      */
-    public ClinicDto createClinic(Long classId, LocalDate clinicDate, java.time.LocalTime clinicTime) {
+    public ClinicDto createClinic(Long classId, LocalDate clinicDate, java.time.LocalTime clinicTime, Integer capacity) {
         AcademyClass academyClass = academyClassRepository.findById(classId)
                 .orElseThrow(() -> new RuntimeException("Class not found"));
 
@@ -74,11 +164,13 @@ public class ClinicService {
                 .academyClass(academyClass)
                 .clinicDate(clinicDate)
                 .clinicTime(clinicTime)
+                .capacity(capacity != null ? capacity : academyClass.getClinicCapacity())
                 .status(ClinicStatus.OPEN)
                 .build();
 
         clinic = clinicRepository.save(clinic);
-        return ClinicDto.from(clinic);
+        appendClinicChanged(clinic);
+        return ClinicDto.from(clinic, Map.of());
     }
 
     /**
@@ -86,10 +178,7 @@ public class ClinicService {
      */
     @Transactional(readOnly = true)
     public List<ClinicDto> getClinicsByClass(Long classId) {
-        return clinicRepository.findByAcademyClassIdOrderByClinicDateDesc(classId)
-                .stream()
-                .map(ClinicDto::from)
-                .collect(Collectors.toList());
+        return toDtos(clinicRepository.findByAcademyClassIdOrderByClinicDateDesc(classId));
     }
 
     /**
@@ -104,7 +193,7 @@ public class ClinicService {
             return Optional.empty();
         }
 
-        return Optional.of(ClinicDto.from(upcomingClinics.get(0)));
+        return Optional.of(toDto(upcomingClinics.get(0)));
     }
 
     /**
@@ -112,28 +201,33 @@ public class ClinicService {
      */
     @Transactional(readOnly = true)
     public ClinicDetailDto getClinicDetail(Long clinicId) {
+        ClinicDetailEvent event = new ClinicDetailEvent();
+        event.begin();
         Clinic clinic = clinicRepository.findById(clinicId)
                 .orElseThrow(() -> new RuntimeException("Clinic not found"));
 
         // Get all students in the class
-        List<Student> students = studentRepository.findAll().stream()
-                .filter(s -> s.getAcademyClass() != null &&
-                            s.getAcademyClass().getId().equals(clinic.getAcademyClass().getId()))
-                .collect(Collectors.toList());
+        List<Student> students = studentRepository.findByAcademyClassId(clinic.getAcademyClass().getId());
 
         // Get all registrations for this clinic
-        List<ClinicRegistration> registrations = clinicRegistrationRepository.findByClinicId(clinicId);
+        List<ClinicRegistration> registrations = clinicRegistrationRepository.findByClinicIdWithStudent(clinicId);
         var registrationMap = registrations.stream()
                 .collect(Collectors.toMap(r -> r.getStudent().getId(), ClinicRegistrationDto::from));
 
+        // Get incomplete homeworks (completion < 90%) for the whole class in one query
+        Map<Long, List<StudentHomework>> incompleteByStudent = students.isEmpty()
+                ? Map.of()
+                : studentHomeworkRepository.findByStudentIdInWithHomework(
+                        students.stream().map(Student::getId).collect(Collectors.toList()))
+                .stream()
+                .filter(sh -> sh.getCompletion() != null && sh.getCompletion() < 90)
+                .collect(Collectors.groupingBy(sh -> sh.getStudent().getId()));
+
         // Build student list with homework info
         List<ClinicDetailDto.StudentClinicHomeworkDto> studentDtos = students.stream()
                 .map(student -> {
-                    // Get incomplete homeworks (completion < 90%)
-                    List<StudentHomework> incompleteHomeworks = studentHomeworkRepository
-                            .findByStudentId(student.getId()).stream()
-                            .filter(sh -> sh.getCompletion() != null && sh.getCompletion() < 90)
-                            .collect(Collectors.toList());
+                    List<StudentHomework> incompleteHomeworks =
+                            incompleteByStudent.getOrDefault(student.getId(), List.of());
 
                     List<ClinicDetailDto.HomeworkProgressDto> homeworkDtos = incompleteHomeworks.stream()
                             .map(sh -> ClinicDetailDto.HomeworkProgressDto.builder()
@@ -159,20 +253,48 @@ public class ClinicService {
                 })
                 .collect(Collectors.toList());
 
+        event.clinicId = clinicId;
+        event.studentCount = students.size();
+        event.registrationCount = registrations.size();
+        event.homeworkCount = incompleteByStudent.values().stream().mapToInt(List::size).sum();
+        event.commit();
+
         return ClinicDetailDto.builder()
-                .clinic(ClinicDto.from(clinic))
+                .clinic(toDto(clinic))
                 .students(studentDtos)
                 .build();
     }
 
     /**
      * 학생이 클리닉 신청
+     * 정원이 남아 있으면 REGISTERED, 가득 찼으면 WAITLISTED로 접수된다.
+     * 같은 신청이 중복으로 들어와도 기존 신청을 그대로 반환한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ClinicRegistrationDto registerForClinic(Long clinicId, Long studentId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> doRegisterForClinic(clinicId, studentId));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                // 같은 학생의 동시 신청과 경합한 경우: 새 트랜잭션에서 먼저 처리된 신청을 다시 읽는다
+                domainMetrics.recordClinicRegistrationConflict();
+                if (attempt >= REGISTER_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying clinic registration (clinic={}, student={}): {}",
+                        clinicId, studentId, e.getMessage());
+            } catch (RuntimeException e) {
+                // 마감, 지난 클리닉, 존재하지 않는 클리닉/학생
+                domainMetrics.recordClinicRegistration("rejected");
+                throw e;
+            }
+        }
+    }
+
+    private ClinicRegistrationDto doRegisterForClinic(Long clinicId, Long studentId) {
         Clinic clinic = clinicRepository.findById(clinicId)
                 .orElseThrow(() -> new RuntimeException("Clinic not found"));
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
 
         // Check if clinic is open
         if (clinic.getStatus() != ClinicStatus.OPEN) {
@@ -184,38 +306,80 @@ public class ClinicService {
             throw new RuntimeException("지난 클리닉에는 신청할 수 없습니다");
         }
 
-        // Check if already registered
         Optional<ClinicRegistration> existing = clinicRegistrationRepository
                 .findByClinicIdAndStudentId(clinicId, studentId);
+        if (existing.isPresent() && existing.get().getStatus() != ClinicRegistrationStatus.CANCELLED) {
+            // Already registered (or waitlisted): duplicate request
+            domainMetrics.recordClinicRegistration("duplicate");
+            return ClinicRegistrationDto.from(existing.get());
+        }
+
+        // 좌석 확보 (조건부 UPDATE, 실패하면 대기자로 접수)
+        ClinicRegistrationStatus status = clinicRepository.tryReserveSeat(clinicId) == 1
+                ? ClinicRegistrationStatus.REGISTERED
+                : ClinicRegistrationStatus.WAITLISTED;
+
         if (existing.isPresent()) {
-            if (existing.get().getStatus() == ClinicRegistrationStatus.CANCELLED) {
-                // Re-register
-                existing.get().setStatus(ClinicRegistrationStatus.REGISTERED);
-                return ClinicRegistrationDto.from(clinicRegistrationRepository.save(existing.get()));
+            // Re-register after cancellation
+            ClinicRegistration registration = existing.get();
+            int updated = clinicRegistrationRepository.updateStatusIf(registration.getId(),
+                    ClinicRegistrationStatus.CANCELLED, status, LocalDateTime.now());
+            if (updated == 0) {
+                // 다른 요청이 먼저 재신청함 -> 롤백 후 재시도 (확보한 좌석도 함께 반환됨)
+                throw new OptimisticLockingFailureException("Registration was modified concurrently");
             }
-            throw new RuntimeException("이미 신청되었습니다");
+            ClinicRegistrationDto dto = ClinicRegistrationDto.from(registration);
+            dto.setStatus(status);
+            outbox.append(new ChangeEvent.ClinicRegistrationChanged(clinicId, registration.getId(), studentId, status));
+            recordRegistrationOutcome(status);
+            return dto;
         }
 
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new RuntimeException("Student not found"));
+
         ClinicRegistration registration = ClinicRegistration.builder()
                 .clinic(clinic)
                 .student(student)
-                .status(ClinicRegistrationStatus.REGISTERED)
+                .status(status)
                 .build();
 
-        registration = clinicRegistrationRepository.save(registration);
+        // 동시 신청이 먼저 INSERT했다면 유니크 제약 위반 -> 롤백 후 재시도
+        registration = clinicRegistrationRepository.saveAndFlush(registration);
+        outbox.append(new ChangeEvent.ClinicRegistrationChanged(clinicId, registration.getId(), studentId, status));
+        recordRegistrationOutcome(status);
         return ClinicRegistrationDto.from(registration);
     }
 
+    private void recordRegistrationOutcome(ClinicRegistrationStatus status) {
+        domainMetrics.recordClinicRegistration(
+                status == ClinicRegistrationStatus.WAITLISTED ? "waitlisted" : "registered");
+    }
+
     /**
-     * 신청 취소
+     * 신청 취소 (좌석을 반환하고 대기자를 승격)
+     * 취소하는 사이 대기자 승격 등으로 상태가 바뀌면 새 트랜잭션에서 다시 읽어서 취소한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelRegistration(Long clinicId, Long studentId) {
-        ClinicRegistration registration = clinicRegistrationRepository
-                .findByClinicIdAndStudentId(clinicId, studentId)
-                .orElseThrow(() -> new RuntimeException("Registration not found"));
-
-        registration.setStatus(ClinicRegistrationStatus.CANCELLED);
-        clinicRegistrationRepository.save(registration);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transaction.executeWithoutResult(status -> {
+                    ClinicRegistration registration = clinicRegistrationRepository
+                            .findByClinicIdAndStudentId(clinicId, studentId)
+                            .orElseThrow(() -> new RuntimeException("Registration not found"));
+                    changeStatus(registration, ClinicRegistrationStatus.CANCELLED);
+                });
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= REGISTER_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying clinic cancellation (clinic={}, student={}): {}",
+                        clinicId, studentId, e.getMessage());
+            }
+        }
     }
 
     /**
@@ -225,9 +389,204 @@ public class ClinicService {
         ClinicRegistration registration = clinicRegistrationRepository.findById(registrationId)
                 .orElseThrow(() -> new RuntimeException("Registration not found"));
 
-        registration.setStatus(status);
-        registration = clinicRegistrationRepository.save(registration);
-        return ClinicRegistrationDto.from(registration);
+        ClinicRegistrationDto dto = ClinicRegistrationDto.from(registration);
+        dto.setStatus(changeStatus(registration, status));
+        return dto;
+    }
+
+    /**
+     * 클리닉 단위 일괄 참석 체크
+     * 바꿀 신청들을 잠그고(SELECT ... FOR UPDATE) 읽은 현재 상태로 (이전 상태, 변경할 상태)를 묶어서
+     * 이전 상태가 그대로인 신청만 바꾸는 UPDATE를 묶음마다 한 번씩 실행하고, 좌석 수는 실제로 바뀐 행 수로 반영한다.
+     * 그래도 바뀐 행 수가 맞지 않거나 잠금 경합(교착)이 나면 롤백하고 새 트랜잭션에서 다시 읽어서 처리한다.
+     * @param statuses registrationId -> 변경할 상태
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ClinicRegistrationDto> updateAttendanceBulk(Long clinicId,
+                                                            Map<Long, ClinicRegistrationStatus> statuses) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> doUpdateAttendanceBulk(clinicId, statuses));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= REGISTER_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying bulk attendance (clinic={}): {}", clinicId, e.getMessage());
+            }
+        }
+    }
+
+    private List<ClinicRegistrationDto> doUpdateAttendanceBulk(Long clinicId,
+                                                               Map<Long, ClinicRegistrationStatus> statuses) {
+        // 학생 취소/대기자 승격과 겹치지 않도록 바꿀 신청을 먼저 잠그고 최신 상태를 읽는다
+        Map<Long, ClinicRegistrationStatus> current = lockStatuses(clinicId, statuses.keySet());
+        List<ClinicRegistration> registrations = clinicRegistrationRepository.findByClinicIdWithStudent(clinicId);
+        Map<Long, ClinicRegistration> registrationMap = registrations.stream()
+                .collect(Collectors.toMap(ClinicRegistration::getId, r -> r));
+
+        Map<StatusTransition, List<Long>> idsByTransition = new LinkedHashMap<>();
+        List<ChangeEvent> events = new ArrayList<>();
+        for (Map.Entry<Long, ClinicRegistrationStatus> entry : statuses.entrySet()) {
+            ClinicRegistration registration = registrationMap.get(entry.getKey());
+            if (registration == null || !current.containsKey(entry.getKey())) {
+                throw new RuntimeException("Registration " + entry.getKey() + " is not in this clinic");
+            }
+
+            ClinicRegistrationStatus previous = current.get(entry.getKey());
+            ClinicRegistrationStatus status = entry.getValue();
+            if (status == null || status == previous) {
+                continue;
+            }
+
+            idsByTransition.computeIfAbsent(new StatusTransition(previous, status), t -> new ArrayList<>())
+                    .add(registration.getId());
+            events.add(new ChangeEvent.ClinicRegistrationChanged(clinicId, registration.getId(),
+                    registration.getStudent().getId(), status));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int seatDelta = 0;
+        for (Map.Entry<StatusTransition, List<Long>> entry : idsByTransition.entrySet()) {
+            StatusTransition transition = entry.getKey();
+            List<Long> ids = entry.getValue();
+            int updated = clinicRegistrationRepository.updateStatusByIdsIf(
+                    clinicId, ids, transition.previous(), transition.status(), now);
+            if (updated != ids.size()) {
+                throw new OptimisticLockingFailureException("신청 상태가 변경되었습니다. 다시 시도해주세요");
+            }
+            seatDelta += updated * transition.seatDelta();
+        }
+        outbox.appendAll(events);
+
+        Set<Long> promoted = new HashSet<>();
+        if (seatDelta != 0) {
+            clinicRepository.addSeats(clinicId, seatDelta);
+            if (seatDelta < 0) {
+                promoted.addAll(promoteWaitlisted(clinicId));
+            }
+        }
+
+        return registrations.stream()
+                .map(registration -> {
+                    ClinicRegistrationDto dto = ClinicRegistrationDto.from(registration);
+                    ClinicRegistrationStatus status = statuses.get(registration.getId());
+                    if (promoted.contains(registration.getId())) {
+                        dto.setStatus(ClinicRegistrationStatus.REGISTERED);
+                    } else if (status != null) {
+                        dto.setStatus(status);
+                    }
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 클리닉의 신청들을 id 순서로 잠그고 현재 상태를 읽는다 (다른 클리닉의 신청 ID는 결과에 없음)
+     */
+    private Map<Long, ClinicRegistrationStatus> lockStatuses(Long clinicId, Collection<Long> ids) {
+        Map<Long, ClinicRegistrationStatus> statuses = new HashMap<>();
+        if (ids.isEmpty()) {
+            return statuses;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(clinicId);
+        args.addAll(ids);
+        jdbcTemplate.query("SELECT id, status FROM clinic_registrations WHERE clinic_id = ? AND id IN (" +
+                        String.join(", ", Collections.nCopies(ids.size(), "?")) + ") ORDER BY id FOR UPDATE",
+                rs -> {
+                    statuses.put(rs.getLong("id"), ClinicRegistrationStatus.valueOf(rs.getString("status")));
+                }, args.toArray());
+        return statuses;
+    }
+
+    /**
+     * 일괄 참석 체크의 상태 변경 묶음 (좌석을 차지하게 되면 +1, 내놓게 되면 -1)
+     */
+    private record StatusTransition(ClinicRegistrationStatus previous, ClinicRegistrationStatus status) {
+        int seatDelta() {
+            if (previous.holdsSeat() == status.holdsSeat()) {
+                return 0;
+            }
+            return status.holdsSeat() ? 1 : -1;
+        }
+    }
+
+    /**
+     * 클리닉 정원 변경 (늘어난 만큼 대기자를 승격)
+     */
+    public ClinicDto updateCapacity(Long clinicId, Integer capacity) {
+        Clinic clinic = clinicRepository.findById(clinicId)
+                .orElseThrow(() -> new RuntimeException("Clinic not found"));
+        if (capacity != null && capacity < 0) {
+            throw new RuntimeException("정원은 0 이상이어야 합니다");
+        }
+
+        clinic.setCapacity(capacity);
+        clinic = clinicRepository.saveAndFlush(clinic);
+        appendClinicChanged(clinic);
+        int promoted = promoteWaitlisted(clinicId).size();
+
+        ClinicDto dto = toDto(clinic);
+        if (capacity != null) {
+            dto.setRemainingSeats(Math.max(0, capacity - clinic.getRegisteredCount() - promoted));
+        }
+        return dto;
+    }
+
+    /**
+     * 신청 상태 변경 + 좌석 수 반영
+     * @return 변경 후 상태
+     */
+    private ClinicRegistrationStatus changeStatus(ClinicRegistration registration, ClinicRegistrationStatus status) {
+        ClinicRegistrationStatus previous = registration.getStatus();
+        if (previous == status) {
+            return status;
+        }
+
+        int updated = clinicRegistrationRepository.updateStatusIf(
+                registration.getId(), previous, status, LocalDateTime.now());
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("신청 상태가 변경되었습니다. 다시 시도해주세요");
+        }
+
+        Long clinicId = registration.getClinic().getId();
+        outbox.append(new ChangeEvent.ClinicRegistrationChanged(clinicId, registration.getId(),
+                registration.getStudent().getId(), status));
+        if (previous.holdsSeat() && !status.holdsSeat()) {
+            clinicRepository.addSeats(clinicId, -1);
+            promoteWaitlisted(clinicId);
+        } else if (!previous.holdsSeat() && status.holdsSeat()) {
+            // 선생님이 직접 참석 처리한 경우 정원과 무관하게 좌석을 차지
+            clinicRepository.addSeats(clinicId, 1);
+        }
+        return status;
+    }
+
+    /**
+     * 남은 좌석만큼 대기자를 순서대로 승격
+     * @return 승격된 신청 ID 목록
+     */
+    private List<Long> promoteWaitlisted(Long clinicId) {
+        List<Long> promoted = new ArrayList<>();
+        List<ChangeEvent> events = new ArrayList<>();
+        for (ClinicRegistration candidate : clinicRegistrationRepository.findWaitlistByClinicId(clinicId)) {
+            if (clinicRepository.tryReserveSeat(clinicId) == 0) {
+                break;
+            }
+            int updated = clinicRegistrationRepository.updateStatusIf(candidate.getId(),
+                    ClinicRegistrationStatus.WAITLISTED, ClinicRegistrationStatus.REGISTERED, LocalDateTime.now());
+            if (updated == 0) {
+                // 이미 취소/승격된 대기자 -> 좌석 반환 후 다음 대기자
+                clinicRepository.addSeats(clinicId, -1);
+            } else {
+                promoted.add(candidate.getId());
+                events.add(new ChangeEvent.ClinicRegistrationChanged(clinicId, candidate.getId(),
+                        candidate.getStudent().getId(), ClinicRegistrationStatus.REGISTERED));
+            }
+        }
+        outbox.appendAll(events);
+        return promoted;
     }
 
     /**
@@ -235,11 +594,21 @@ public class ClinicService {
      */
     @Transactional(readOnly = true)
     public StudentClinicInfoDto getStudentClinicInfo(Long studentId) {
-        Student student = studentRepository.findById(studentId)
+        Long classId = studentRepository.findClassIdById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
+        return getStudentClinicInfo(studentId, classId,
+                studentHomeworkRepository.findByStudentIdInWithHomework(List.of(studentId)));
+    }
+
+    /**
+     * 학생 클리닉 정보 (반과 숙제 목록을 이미 조회한 경우: 학생 대시보드)
+     * @param studentHomeworks 학생의 숙제 (숙제/수업을 함께 조회한 것)
+     */
+    public StudentClinicInfoDto getStudentClinicInfo(Long studentId, Long classId,
+                                                     List<StudentHomework> studentHomeworks) {
         // Get upcoming clinic for student's class
-        Optional<ClinicDto> upcomingClinic = getUpcomingClinic(student.getAcademyClass().getId());
+        Optional<ClinicDto> upcomingClinic = getUpcomingClinic(classId);
 
         if (upcomingClinic.isEmpty()) {
             return StudentClinicInfoDto.builder()
@@ -255,8 +624,7 @@ public class ClinicService {
                 .findByClinicIdAndStudentId(upcomingClinic.get().getId(), studentId);
 
         // Get incomplete homeworks (completion < 90%)
-        List<StudentHomework> incompleteHomeworks = studentHomeworkRepository
-                .findByStudentId(studentId).stream()
+        List<StudentHomework> incompleteHomeworks = studentHomeworks.stream()
                 .filter(sh -> sh.getCompletion() != null && sh.getCompletion() < 90)
                 .collect(Collectors.toList());
 
@@ -287,7 +655,8 @@ public class ClinicService {
 
         clinic.setStatus(ClinicStatus.CLOSED);
         clinic = clinicRepository.save(clinic);
-        return ClinicDto.from(clinic);
+        appendClinicChanged(clinic);
+        return toDto(clinic);
     }
 
     /**
@@ -303,5 +672,35 @@ public class ClinicService {
         }
 
         clinicRepository.deleteById(clinicId);
+        outbox.append(new ChangeEvent.ClinicDeleted(clinic.getAcademyClass().getId(), clinicId));
+    }
+
+    private void appendClinicChanged(Clinic clinic) {
+        outbox.append(new ChangeEvent.ClinicChanged(clinic.getAcademyClass().getId(), clinic.getId(),
+                clinic.getClinicDate(), clinic.getStatus(), clinic.getCapacity()));
+    }
+
+    private ClinicDto toDto(Clinic clinic) {
+        return toDtos(List.of(clinic)).get(0);
+    }
+
+    /**
+     * 신청 수는 신청 컬렉션을 로딩하지 않고 상태별 집계 쿼리 한 번으로 채운다
+     */
+    private List<ClinicDto> toDtos(List<Clinic> clinics) {
+        if (clinics.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<ClinicRegistrationStatus, Integer>> counts = new HashMap<>();
+        List<Long> clinicIds = clinics.stream().map(Clinic::getId).collect(Collectors.toList());
+        for (Object[] row : clinicRegistrationRepository.countByClinicIdsGroupByStatus(clinicIds)) {
+            counts.computeIfAbsent((Long) row[0], k -> new EnumMap<>(ClinicRegistrationStatus.class))
+                    .put((ClinicRegistrationStatus) row[1], ((Long) row[2]).intValue());
+        }
+
+        return clinics.stream()
+                .map(c -> ClinicDto.from(c, counts.getOrDefault(c.getId(), Map.of())))
+                .collect(Collectors.toList());
     }
 }
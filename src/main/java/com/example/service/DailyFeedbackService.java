@@ -3,6 +3,10 @@ package com.example.service;
 import com.example.dto.DailyFeedbackDto;
 import com.example.dto.StudentLessonDto;
 import com.example.entity.*;
+import com.example.monitoring.DomainMetrics;
+import com.example.monitoring.jfr.DailyFeedbackEvent;
+import com.example.outbox.ChangeEvent;
+import com.example.outbox.Outbox;
 import com.example.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +27,8 @@ public class DailyFeedbackService {
     private final StudentSubmissionRepository studentSubmissionRepository;
     private final StudentSubmissionDetailRepository studentSubmissionDetailRepository;
     private final StudentRepository studentRepository;
+    private final DomainMetrics domainMetrics;
+    private final Outbox outbox;
 
     public DailyFeedbackDto getTodayFeedback(Long studentId) {
         Student student = studentRepository.findById(studentId)
@@ -40,6 +46,19 @@ public class DailyFeedbackService {
     }
 
     public DailyFeedbackDto getDailyFeedback(Long studentId, Long lessonId) {
+        DailyFeedbackEvent event = new DailyFeedbackEvent();
+        event.begin();
+        DailyFeedbackDto feedback = domainMetrics.timeFeedback("total", () -> assembleDailyFeedback(studentId, lessonId));
+        event.studentId = studentId;
+        event.lessonId = lessonId;
+        event.todayHomework = feedback.getTodayHomework() != null;
+        event.nextHomework = feedback.getNextHomework() != null;
+        event.todayTest = feedback.getTodayTest() != null;
+        event.commit();
+        return feedback;
+    }
+
+    private DailyFeedbackDto assembleDailyFeedback(Long studentId, Long lessonId) {
         Lesson lesson = lessonRepository.findById(lessonId)
                 .orElseThrow(() -> new RuntimeException("Lesson not found"));
         StudentLesson studentLesson = studentLessonRepository
@@ -51,24 +70,28 @@ public class DailyFeedbackService {
         feedback.setLessonDate(lesson.getLessonDate());
 
         // A. Today's homework - 학생에게 할당된 숙제만 조회
-        if (!lesson.getHomeworks().isEmpty()) {
-            Optional<Homework> assignedHomework = getAssignedHomework(studentId, lesson.getHomeworks());
-            assignedHomework.ifPresent(homework ->
-                feedback.setTodayHomework(getHomeworkSummary(studentId, homework)));
-        }
+        feedback.setTodayHomework(domainMetrics.timeFeedback("today_homework", () ->
+            lesson.getHomeworks().isEmpty() ? null
+                : getAssignedHomework(studentId, lesson.getHomeworks())
+                    .map(homework -> getHomeworkSummary(studentId, homework))
+                    .orElse(null)));
 
         // Next homework - 다음 수업에서 학생에게 할당된 숙제만 조회
-        List<Lesson> nextLessons = lessonRepository.findNextLessonsAfter(
-            lesson.getAcademyClass().getId(), lesson.getLessonDate());
-        if (!nextLessons.isEmpty() && !nextLessons.get(0).getHomeworks().isEmpty()) {
-            Optional<Homework> nextAssignedHomework = getAssignedHomework(studentId, nextLessons.get(0).getHomeworks());
-            nextAssignedHomework.ifPresent(homework ->
-                feedback.setNextHomework(getHomeworkSummary(studentId, homework)));
-        }
+        feedback.setNextHomework(domainMetrics.timeFeedback("next_homework", () -> {
+            List<Lesson> nextLessons = lessonRepository.findNextLessonsAfter(
+                lesson.getAcademyClass().getId(), lesson.getLessonDate());
+            if (nextLessons.isEmpty() || nextLessons.get(0).getHomeworks().isEmpty()) {
+                return null;
+            }
+            return getAssignedHomework(studentId, nextLessons.get(0).getHomeworks())
+                .map(homework -> getHomeworkSummary(studentId, homework))
+                .orElse(null);
+        }));
 
         // B. Today's test with incorrect questions and academy accuracy
         if (lesson.getTest() != null) {
-            feedback.setTodayTest(getTestFeedback(studentId, lesson.getTest()));
+            feedback.setTodayTest(domainMetrics.timeFeedback("today_test", () ->
+                getTestFeedback(studentId, lesson.getTest())));
         }
 
         // C. Instructor feedback
@@ -97,7 +120,9 @@ public class DailyFeedbackService {
 
         studentLesson.setInstructorFeedback(feedback);
         studentLesson.setFeedbackAuthor(authorName);
-        return StudentLessonDto.from(studentLessonRepository.save(studentLesson));
+        studentLesson = studentLessonRepository.save(studentLesson);
+        outbox.append(new ChangeEvent.InstructorFeedbackUpdated(studentId, lessonId));
+        return StudentLessonDto.from(studentLesson);
     }
 
     private DailyFeedbackDto.HomeworkSummary getHomeworkSummary(Long studentId, Homework homework) {
@@ -153,18 +178,9 @@ public class DailyFeedbackService {
                 .orElse(0.0);
 
         // Calculate rank
-        List<Integer> scores = allSubmissions.stream()
+        int rank = ScoreCalculator.rankOf(allSubmissions.stream()
                 .map(StudentSubmission::getTotalScore)
-                .sorted((a, b) -> b.compareTo(a)) // Descending order
-                .collect(Collectors.toList());
-
-        int rank = 1;
-        for (int i = 0; i < scores.size(); i++) {
-            if (scores.get(i).equals(sub.getTotalScore())) {
-                rank = i + 1;
-                break;
-            }
-        }
+                .collect(Collectors.toList()), sub.getTotalScore());
 
         return DailyFeedbackDto.TestFeedback.builder()
                 .testId(test.getId())
@@ -0,0 +1,301 @@
+package com.example.service;
+
+import com.example.dto.GradingTicketDto;
+import com.example.dto.StudentSubmissionDto;
+import com.example.repository.StudentRepository;
+import com.example.repository.TestRepository;
+import com.example.sharding.ShardContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시험 시간용 채점 큐 (POST /api/submissions/queue)
+ * 요청 스레드는 학생/시험만 확인하고 제한된 크기의 큐에 넣은 뒤 바로 접수증을 돌려준다.
+ * worker 스레드 하나가 큐를 batchSize개씩 꺼내 SubmissionService.submitAnswersBatch로 한 트랜잭션에 채점/저장하므로
+ * 같은 시험 행을 두고 학생마다 트랜잭션이 경합하지 않는다.
+ * 큐가 가득 차면 접수하지 않는다 (호출하는 쪽에서 503 + Retry-After).
+ * 접수증 상태는 이 인스턴스 메모리에만 있으므로, 다른 인스턴스에서는 GET /api/submissions?studentId=&testId=로 확인한다.
+ * 같은 Idempotency-Key로 다시 접수하면 접수증이 남아 있는 동안은 처음 접수증을 그대로 돌려준다.
+ */
+@Slf4j
+public class GradingQueueService implements SmartLifecycle {
+    // 웹 서버가 요청을 더 받지 않게 된 뒤에 멈추고(남은 큐 처리), 웹 서버보다 먼저 시작한다
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long IDLE_POLL_MILLIS = 200;
+
+    private final SubmissionService submissionService;
+    private final StudentRepository studentRepository;
+    private final TestRepository testRepository;
+    private final BlockingQueue<Job> queue;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration ticketTtl;
+    private final Duration drainTimeout;
+
+    private final Map<String, GradingTicketDto> tickets = new ConcurrentHashMap<>();
+    // "studentId:testId:Idempotency-Key" -> ticketId
+    private final Map<String, String> ticketIdsByKey = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread worker;
+    private long nextCleanupNanos;
+
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizes;
+    private final Timer waitTimer;
+
+    public GradingQueueService(SubmissionService submissionService, StudentRepository studentRepository,
+                               TestRepository testRepository, MeterRegistry registry,
+                               int capacity, int batchSize, Duration linger, Duration ticketTtl,
+                               Duration drainTimeout) {
+        this.submissionService = submissionService;
+        this.studentRepository = studentRepository;
+        this.testRepository = testRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.ticketTtl = ticketTtl;
+        this.drainTimeout = drainTimeout;
+
+        Gauge.builder("app.grading.queue.size", queue, Collection::size)
+                .description("Submissions waiting in the grading queue")
+                .register(registry);
+        rejectedCounter = Counter.builder("app.grading.queue.rejected")
+                .description("Submissions rejected because the grading queue was full")
+                .register(registry);
+        failedCounter = Counter.builder("app.grading.queue.failed")
+                .description("Queued submissions that could not be graded")
+                .register(registry);
+        batchSizes = DistributionSummary.builder("app.grading.queue.batch")
+                .description("Submissions graded per batch")
+                .register(registry);
+        waitTimer = Timer.builder("app.grading.queue.latency")
+                .description("Time from enqueue to graded")
+                .register(registry);
+    }
+
+    /**
+     * 답안 접수
+     * @return 접수증, 큐가 가득 찼거나 종료 중이면 empty
+     */
+    public Optional<GradingTicketDto> enqueue(Long studentId, Long testId, Map<Integer, String> answers) {
+        return enqueue(studentId, testId, answers, null);
+    }
+
+    public Optional<GradingTicketDto> enqueue(Long studentId, Long testId, Map<Integer, String> answers,
+                                              String idempotencyKey) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new RuntimeException("Student not found");
+        }
+        if (!testRepository.existsById(testId)) {
+            throw new RuntimeException("Test not found");
+        }
+        if (!running) {
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+
+        GradingTicketDto ticket = GradingTicketDto.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .studentId(studentId)
+                .testId(testId)
+                .status(GradingTicketDto.Status.QUEUED)
+                .queuedAt(LocalDateTime.now())
+                .build();
+        ticket.setQueuePosition(queue.size() + 1);
+
+        // 요청의 shard에 저장되도록 함께 넣어둔다
+        Job job = new Job(ticket, ShardContext.current(),
+                new SubmissionService.AnswerSheet(studentId, testId, new HashMap<>(answers), idempotencyKey),
+                System.nanoTime());
+        if (idempotencyKey == null) {
+            return submit(job) ? Optional.of(ticket) : Optional.empty();
+        }
+
+        // 같은 키로 동시에 들어와도 키별로 원자적으로 처리해서 접수증 하나만 만들고 큐에 넣는다
+        GradingTicketDto[] accepted = new GradingTicketDto[1];
+        ticketIdsByKey.compute(studentId + ":" + testId + ":" + idempotencyKey, (key, previousId) -> {
+            GradingTicketDto previous = previousId == null ? null : tickets.get(previousId);
+            if (previous != null) {
+                accepted[0] = previous;
+                return previousId;
+            }
+            if (submit(job)) {
+                accepted[0] = ticket;
+                return ticket.getTicketId();
+            }
+            return null;
+        });
+        return Optional.ofNullable(accepted[0]);
+    }
+
+    /**
+     * 접수증을 등록하고 큐에 넣는다 (큐가 가득 차면 접수증도 지우고 false)
+     */
+    private boolean submit(Job job) {
+        // worker가 채점 결과로 바꾸기 전에 먼저 등록한다
+        tickets.put(job.ticket.getTicketId(), job.ticket);
+        if (queue.offer(job)) {
+            return true;
+        }
+        tickets.remove(job.ticket.getTicketId());
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public Optional<GradingTicketDto> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "grading-queue");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Grading queue stopped with {} submissions not graded", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Job first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<Job> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    // 조금 기다려서 묶음을 키운다 (시험 종료 직후처럼 몰릴 때 트랜잭션 수를 줄임)
+                    if (batch.size() < batchSize && !linger.isZero()) {
+                        Job next = queue.poll(linger.toMillis(), TimeUnit.MILLISECONDS);
+                        if (next != null) {
+                            batch.add(next);
+                            queue.drainTo(batch, batchSize - batch.size());
+                        }
+                    }
+                    process(batch);
+                }
+                cleanupTickets();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Grading queue worker failed", e);
+            }
+        }
+    }
+
+    private void process(List<Job> batch) {
+        batchSizes.record(batch.size());
+        Map<String, List<Job>> byShard = new LinkedHashMap<>();
+        for (Job job : batch) {
+            byShard.computeIfAbsent(job.shard == null ? "" : job.shard, k -> new ArrayList<>()).add(job);
+        }
+
+        byShard.forEach((shard, jobs) -> ShardContext.callOn(shard.isEmpty() ? null : shard, () -> {
+            try {
+                List<SubmissionService.GradedSheet> results = submissionService.submitAnswersBatch(
+                        jobs.stream().map(job -> job.sheet).toList());
+                for (int i = 0; i < jobs.size(); i++) {
+                    complete(jobs.get(i), results.get(i).submissionId(), results.get(i).totalScore());
+                }
+            } catch (RuntimeException e) {
+                // 묶음 중 하나 때문에 전체가 롤백된 경우: 하나씩 기존 방식으로 채점해서 나머지는 살린다
+                log.warn("Batch grading of {} submissions failed, grading one by one: {}", jobs.size(), e.getMessage());
+                for (Job job : jobs) {
+                    gradeOne(job);
+                }
+            }
+            return null;
+        }));
+    }
+
+    private void gradeOne(Job job) {
+        try {
+            StudentSubmissionDto dto = submissionService.submitAnswers(
+                    job.sheet.studentId(), job.sheet.testId(), job.sheet.answers(), job.sheet.idempotencyKey());
+            complete(job, dto.getId(), dto.getTotalScore());
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            GradingTicketDto ticket = copy(job.ticket);
+            ticket.setStatus(GradingTicketDto.Status.FAILED);
+            ticket.setGradedAt(LocalDateTime.now());
+            ticket.setError(e.getMessage());
+            tickets.put(ticket.getTicketId(), ticket);
+        }
+    }
+
+    private void complete(Job job, Long submissionId, Integer totalScore) {
+        GradingTicketDto ticket = copy(job.ticket);
+        ticket.setStatus(GradingTicketDto.Status.GRADED);
+        ticket.setGradedAt(LocalDateTime.now());
+        ticket.setSubmissionId(submissionId);
+        ticket.setTotalScore(totalScore);
+        tickets.put(ticket.getTicketId(), ticket);
+        waitTimer.record(System.nanoTime() - job.enqueuedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 처리가 끝나고 ticketTtl이 지난 접수증 정리
+     */
+    private void cleanupTickets() {
+        long now = System.nanoTime();
+        if (now < nextCleanupNanos) {
+            return;
+        }
+        nextCleanupNanos = now + ticketTtl.toNanos() / 10;
+        LocalDateTime expired = LocalDateTime.now().minus(ticketTtl);
+        tickets.values().removeIf(ticket -> ticket.getGradedAt() != null && ticket.getGradedAt().isBefore(expired));
+        ticketIdsByKey.values().removeIf(ticketId -> !tickets.containsKey(ticketId));
+    }
+
+    // 조회 중인 접수증을 바꾸지 않도록 상태가 바뀔 때마다 새 객체로 교체한다
+    private static GradingTicketDto copy(GradingTicketDto ticket) {
+        return GradingTicketDto.builder()
+                .ticketId(ticket.getTicketId())
+                .studentId(ticket.getStudentId())
+                .testId(ticket.getTestId())
+                .status(ticket.getStatus())
+                .queuePosition(ticket.getQueuePosition())
+                .queuedAt(ticket.getQueuedAt())
+                .build();
+    }
+
+    private record Job(GradingTicketDto ticket, String shard, SubmissionService.AnswerSheet sheet,
+                       long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.service;
+
+import com.example.repository.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 기반 작업 실행권
+ * 모든 인스턴스에서 같은 시각에 스케줄이 돌더라도 실행권을 얻은 인스턴스만 작업을 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobLeaseService {
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String owner = resolveOwner();
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(duration);
+
+        if (jobLeaseRepository.tryAcquire(name, owner, now, lockedUntil) == 1) {
+            return true;
+        }
+        if (jobLeaseRepository.existsById(name)) {
+            return false;
+        }
+
+        // 최초 실행: 행이 없으면 INSERT (동시에 INSERT한 인스턴스가 있으면 그쪽이 보유)
+        try {
+            jdbcTemplate.update("INSERT INTO job_leases (name, owner, locked_until) VALUES (?, ?, ?)",
+                    name, owner, lockedUntil);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 내가 보유한 실행권을 바로 반납 (다른 인스턴스가 보유 중이면 변경 없음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        jobLeaseRepository.release(name, owner, LocalDateTime.now());
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
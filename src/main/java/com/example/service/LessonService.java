@@ -5,6 +5,10 @@ import com.example.dto.LessonDto;
 import com.example.dto.LessonStudentStatsDto;
 import com.example.dto.StudentHomeworkAssignmentDto;
 import com.example.entity.*;
+import com.example.fields.FieldSet;
+import com.example.monitoring.jfr.LessonStatsEvent;
+import com.example.outbox.ChangeEvent;
+import com.example.outbox.Outbox;
 import com.example.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,6 +32,7 @@ public class LessonService {
     private final StudentRepository studentRepository;
     private final StudentSubmissionRepository studentSubmissionRepository;
     private final StudentHomeworkRepository studentHomeworkRepository;
+    private final Outbox outbox;
 
     /**
      * Get or create lesson for a specific date/class
@@ -51,23 +56,25 @@ public class LessonService {
     }
 
     @Transactional(readOnly = true)
-    public Page<LessonDto> getLessons(Pageable pageable) {
-        return lessonRepository.findAll(pageable).map(LessonDto::from);
+    public Page<LessonDto> getLessons(Pageable pageable, FieldSet fields) {
+        return fields.within(LessonDto.SUMMARY_FIELDS)
+                ? lessonRepository.findAllSummaryDtos(pageable)
+                : lessonRepository.findAllDtos(pageable);
     }
 
     @Transactional(readOnly = true)
-    public LessonDto getLesson(Long id) {
-        Lesson lesson = lessonRepository.findById(id)
+    public LessonDto getLesson(Long id, FieldSet fields) {
+        return (fields.within(LessonDto.SUMMARY_FIELDS)
+                ? lessonRepository.findSummaryDtoById(id)
+                : lessonRepository.findDtoById(id))
                 .orElseThrow(() -> new RuntimeException("Lesson not found"));
-        return LessonDto.from(lesson);
     }
 
     @Transactional(readOnly = true)
-    public List<LessonDto> getLessonsByClass(Long classId) {
-        return lessonRepository.findByAcademyClassIdOrderByLessonDateDesc(classId)
-                .stream()
-                .map(LessonDto::from)
-                .collect(Collectors.toList());
+    public List<LessonDto> getLessonsByClass(Long classId, FieldSet fields) {
+        return fields.within(LessonDto.SUMMARY_FIELDS)
+                ? lessonRepository.findSummaryDtosByClassId(classId)
+                : lessonRepository.findDtosByClassId(classId);
     }
 
     public void deleteLesson(Long id) {
@@ -202,14 +209,11 @@ public class LessonService {
      * Get lessons for a specific student (based on their class)
      */
     @Transactional(readOnly = true)
-    public List<LessonDto> getLessonsByStudent(Long studentId) {
-        Student student = studentRepository.findById(studentId)
+    public List<LessonDto> getLessonsByStudent(Long studentId, FieldSet fields) {
+        Long classId = studentRepository.findClassIdById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
-        return lessonRepository.findByAcademyClassIdOrderByLessonDateDesc(student.getAcademyClass().getId())
-                .stream()
-                .map(LessonDto::from)
-                .collect(Collectors.toList());
+        return getLessonsByClass(classId, fields);
     }
 
     /**
@@ -253,6 +257,8 @@ public class LessonService {
      */
     @Transactional(readOnly = true)
     public LessonStudentStatsDto getLessonStudentStats(Long lessonId) {
+        LessonStatsEvent event = new LessonStatsEvent();
+        event.begin();
         Lesson lesson = lessonRepository.findById(lessonId)
                 .orElseThrow(() -> new RuntimeException("Lesson not found"));
 
@@ -280,29 +286,7 @@ public class LessonService {
                         .build());
             }
 
-            // Sort by score (descending), null scores at the end
-            testScores.sort((a, b) -> {
-                if (a.getScore() == null) return 1;
-                if (b.getScore() == null) return -1;
-                return b.getScore().compareTo(a.getScore());
-            });
-
-            // Assign ranks
-            int rank = 1;
-            Integer prevScore = null;
-            int sameRankCount = 0;
-            for (LessonStudentStatsDto.StudentTestScore score : testScores) {
-                if (score.getScore() != null) {
-                    if (prevScore != null && prevScore.equals(score.getScore())) {
-                        sameRankCount++;
-                    } else {
-                        rank += sameRankCount;
-                        sameRankCount = 1;
-                    }
-                    score.setRank(rank);
-                    prevScore = score.getScore();
-                }
-            }
+            ScoreCalculator.assignRanks(testScores);
 
             // Calculate average
             double average = submissions.stream()
@@ -361,6 +345,11 @@ public class LessonService {
             stats.setHomeworkAverage(average);
         }
 
+        event.lessonId = lessonId;
+        event.studentCount = students.size();
+        event.testScoreCount = stats.getTestScores() != null ? stats.getTestScores().size() : 0;
+        event.homeworkCount = stats.getHomeworkCompletions() != null ? stats.getHomeworkCompletions().size() : 0;
+        event.commit();
         return stats;
     }
 
@@ -392,6 +381,7 @@ public class LessonService {
                 .collect(Collectors.toList());
 
         Set<Long> validHomeworkIds = new HashSet<>(lessonHomeworkIds);
+        List<ChangeEvent> events = new ArrayList<>();
 
         // Process each assignment
         for (Map.Entry<Long, Long> entry : assignments.entrySet()) {
@@ -414,6 +404,7 @@ public class LessonService {
                     .filter(sh -> sh.getStudent().getId().equals(studentId))
                     .collect(Collectors.toList());
 
+            Long previousHomeworkId = null;
             if (!existingAssignments.isEmpty()) {
                 StudentHomework existingAssignment = existingAssignments.get(0);
 
@@ -434,6 +425,7 @@ public class LessonService {
 
                 // If not submitted yet, delete old assignment and create new one
                 studentHomeworkRepository.delete(existingAssignment);
+                previousHomeworkId = existingAssignment.getHomework().getId();
             }
 
             // Create new assignment
@@ -443,7 +435,9 @@ public class LessonService {
                     .incorrectCount(null)  // Not submitted yet
                     .build();
             studentHomeworkRepository.save(sh);
+            events.add(new ChangeEvent.HomeworkAssigned(lessonId, studentId, homeworkId, previousHomeworkId));
         }
+        outbox.appendAll(events);
     }
 
     /**
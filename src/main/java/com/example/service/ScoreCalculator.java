@@ -0,0 +1,131 @@
+package com.example.service;
+
+import com.example.dto.LessonStudentStatsDto;
+import com.example.entity.StudentSubmission;
+import com.example.entity.StudentSubmissionDetail;
+import com.example.entity.TestQuestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 채점/재채점/석차 계산 (DB 접근 없이 엔티티만 다룸)
+ * 서비스와 JMH 벤치마크(src/jmh)가 같은 코드를 사용한다.
+ */
+public final class ScoreCalculator {
+
+    private ScoreCalculator() {
+    }
+
+    /**
+     * 제출 답안 채점
+     * 문항별 상세 답안을 만들고 배점 기반 총점(100점 만점, 반올림)을 submission에 기록한다.
+     */
+    public static List<StudentSubmissionDetail> grade(StudentSubmission submission, List<TestQuestion> questions,
+                                                      Map<Integer, String> answers) {
+        List<StudentSubmissionDetail> details = new ArrayList<>();
+        double earnedPoints = 0.0;
+        double totalPoints = 0.0;
+
+        for (TestQuestion question : questions) {
+            String studentAnswer = answers.get(question.getNumber());
+            boolean isCorrect = question.getAnswer() != null &&
+                              question.getAnswer().equals(studentAnswer);
+
+            StudentSubmissionDetail detail = StudentSubmissionDetail.builder()
+                    .submission(submission)
+                    .question(question)
+                    .studentAnswer(studentAnswer)
+                    .isCorrect(isCorrect)
+                    .build();
+
+            details.add(detail);
+
+            // 배점 합산
+            totalPoints += question.getPoints();
+            if (isCorrect) {
+                earnedPoints += question.getPoints();
+            }
+        }
+
+        // 총점 계산 (배점 기반, 반올림)
+        int totalScore = totalPoints == 0 ? 0 : (int) Math.round((earnedPoints / totalPoints) * 100);
+        submission.setTotalScore(totalScore);
+        return details;
+    }
+
+    /**
+     * 정답 변경 후 기존 제출 재채점
+     * 문항 번호로 정답을 다시 매칭하고 정답 수 기준 총점(100점 만점)을 submission에 기록한다.
+     */
+    public static int regrade(StudentSubmission submission, List<TestQuestion> questions) {
+        int correctCount = 0;
+
+        for (StudentSubmissionDetail detail : submission.getDetails()) {
+            TestQuestion question = questions.stream()
+                    .filter(q -> q.getNumber().equals(detail.getQuestion().getNumber()))
+                    .findFirst()
+                    .orElse(null);
+
+            if (question != null && question.getAnswer() != null) {
+                boolean isCorrect = question.getAnswer().equals(detail.getStudentAnswer());
+                detail.setIsCorrect(isCorrect);
+                if (isCorrect) correctCount++;
+            }
+        }
+
+        // 총점 계산 (100점 만점 기준)
+        int totalScore = questions.isEmpty() ? 0 : (correctCount * 100 / questions.size());
+        submission.setTotalScore(totalScore);
+        return totalScore;
+    }
+
+    /**
+     * 같은 시험 응시자 점수 중 score의 석차 (동점은 같은 석차)
+     */
+    public static int rankOf(List<Integer> allScores, Integer score) {
+        List<Integer> scores = allScores.stream()
+                .sorted((a, b) -> b.compareTo(a)) // Descending order
+                .collect(Collectors.toList());
+
+        int rank = 1;
+        for (int i = 0; i < scores.size(); i++) {
+            if (scores.get(i).equals(score)) {
+                rank = i + 1;
+                break;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * 점수 내림차순 정렬(미응시는 뒤로) 후 석차 부여 (동점은 같은 석차, 다음 석차는 건너뜀)
+     */
+    public static void assignRanks(List<LessonStudentStatsDto.StudentTestScore> testScores) {
+        // Sort by score (descending), null scores at the end
+        testScores.sort((a, b) -> {
+            if (a.getScore() == null) return 1;
+            if (b.getScore() == null) return -1;
+            return b.getScore().compareTo(a.getScore());
+        });
+
+        // Assign ranks
+        int rank = 1;
+        Integer prevScore = null;
+        int sameRankCount = 0;
+        for (LessonStudentStatsDto.StudentTestScore score : testScores) {
+            if (score.getScore() != null) {
+                if (prevScore != null && prevScore.equals(score.getScore())) {
+                    sameRankCount++;
+                } else {
+                    rank += sameRankCount;
+                    sameRankCount = 1;
+                }
+                score.setRank(rank);
+                prevScore = score.getScore();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 키별 직렬화용 락 묶음 (인스턴스 안에서만 유효)
+ * 락 개수가 고정이라 키가 아무리 많아도 메모리가 늘지 않고, 같은 키는 항상 같은 락을 쓴다.
+ * 다른 키가 드물게 같은 락을 공유할 수 있지만 그만큼 잠깐 기다릴 뿐이다.
+ */
+final class StripedLocks {
+    private final ReentrantLock[] locks;
+    private final Duration timeout;
+
+    StripedLocks(int stripes, Duration timeout) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.timeout = timeout;
+    }
+
+    <T> T withLock(Object key, Supplier<T> action) {
+        ReentrantLock lock = locks[index(key)];
+        acquire(lock);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 키의 락을 모두 잡고 실행 (항상 같은 순서로 잡아서 교착을 피한다)
+     */
+    <T> T withLocks(Collection<?> keys, Supplier<T> action) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Object key : keys) {
+            indexes.add(index(key));
+        }
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                acquire(locks[index]);
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            for (int index : indexes) {
+                if (acquired-- == 0) {
+                    break;
+                }
+                locks[index].unlock();
+            }
+        }
+    }
+
+    private int index(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("같은 답안을 처리하는 중입니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for submission lock", e);
+        }
+    }
+}
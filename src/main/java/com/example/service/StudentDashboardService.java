@@ -0,0 +1,138 @@
+package com.example.service;
+
+import com.example.datasource.ReadYourWrites;
+import com.example.dto.DailyFeedbackDto;
+import com.example.dto.LessonDto;
+import com.example.dto.StudentDashboardDto;
+import com.example.dto.StudentDto;
+import com.example.dto.StudentHomeworkDto;
+import com.example.dto.StudentSubmissionDto;
+import com.example.entity.Student;
+import com.example.entity.StudentHomework;
+import com.example.fields.FieldSet;
+import com.example.repository.LessonRepository;
+import com.example.repository.StudentHomeworkRepository;
+import com.example.repository.StudentRepository;
+import com.example.sharding.ShardContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 학생 앱 첫 화면 (GET /api/students/{id}/dashboard)
+ * 학생 앱이 열릴 때 보내던 5개 요청(수업, 숙제, 제출, 클리닉, 오늘 피드백)을 한 번에 처리한다.
+ * 학생/반은 한 번만 조회하고, 숙제 목록은 숙제 항목과 클리닉 항목이 같이 쓰며, 오늘 수업은 수업 목록에서 찾는다.
+ *
+ * parallel이면 항목별로 별도 읽기 전용 트랜잭션에서 동시에 조회한다 (가상 스레드).
+ * 응답은 빨라지지만 요청 하나가 커넥션을 항목 수만큼 쓰고, 항목 쿼리는 요청 프로파일(@QueryBudget)에 잡히지 않는다.
+ */
+public class StudentDashboardService {
+    private final StudentRepository studentRepository;
+    private final LessonRepository lessonRepository;
+    private final StudentHomeworkRepository studentHomeworkRepository;
+    private final SubmissionService submissionService;
+    private final ClinicService clinicService;
+    private final DailyFeedbackService dailyFeedbackService;
+    private final TransactionTemplate readOnlyTransaction;
+    // 순차 조회면 null
+    private final ExecutorService executor;
+
+    public StudentDashboardService(StudentRepository studentRepository, LessonRepository lessonRepository,
+                                   StudentHomeworkRepository studentHomeworkRepository,
+                                   SubmissionService submissionService, ClinicService clinicService,
+                                   DailyFeedbackService dailyFeedbackService,
+                                   PlatformTransactionManager transactionManager, boolean parallel) {
+        this.studentRepository = studentRepository;
+        this.lessonRepository = lessonRepository;
+        this.studentHomeworkRepository = studentHomeworkRepository;
+        this.submissionService = submissionService;
+        this.clinicService = clinicService;
+        this.dailyFeedbackService = dailyFeedbackService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = parallel ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    public StudentDashboardDto getDashboard(Long studentId) {
+        if (executor == null) {
+            // 한 트랜잭션(영속성 컨텍스트)에서 조회해서 숙제 DTO의 학생도 다시 읽지 않는다
+            return readOnlyTransaction.execute(status -> assemble(studentId));
+        }
+        return assemble(studentId);
+    }
+
+    private StudentDashboardDto assemble(Long studentId) {
+        try {
+            return load(studentId);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private StudentDashboardDto load(Long studentId) {
+        // 병렬 조회 스레드로 넘길 요청 상태 (thenCompose 콜백은 요청 스레드가 아닌 곳에서 실행됨)
+        String shard = ShardContext.current();
+        boolean pinnedToPrimary = ReadYourWrites.isPinnedToPrimary();
+
+        Student student = section(shard, pinnedToPrimary, () -> studentRepository.findWithAcademyAndClassById(studentId)
+                .orElseThrow(() -> new RuntimeException("Student not found"))).join();
+        Long classId = student.getAcademyClass().getId();
+
+        CompletableFuture<List<LessonDto>> lessons = section(shard, pinnedToPrimary, () -> lessonRepository.findDtosByClassId(classId));
+        CompletableFuture<StudentDashboardDto> homeworksAndClinic = section(shard, pinnedToPrimary, () -> {
+            List<StudentHomework> studentHomeworks =
+                    studentHomeworkRepository.findByStudentIdInWithHomework(List.of(studentId));
+            return StudentDashboardDto.builder()
+                    .homeworks(studentHomeworks.stream()
+                            .map(StudentHomeworkDto::from)
+                            .collect(Collectors.toList()))
+                    .clinic(clinicService.getStudentClinicInfo(studentId, classId, studentHomeworks))
+                    .build();
+        });
+        CompletableFuture<List<StudentSubmissionDto>> submissions =
+                section(shard, pinnedToPrimary, () -> submissionService.getStudentSubmissions(studentId, FieldSet.all()));
+        CompletableFuture<DailyFeedbackDto> todayFeedback = lessons.thenCompose(list -> {
+            LocalDate today = LocalDate.now();
+            return list.stream()
+                    .filter(lesson -> today.equals(lesson.getLessonDate()))
+                    .findFirst()
+                    .map(lesson -> section(shard, pinnedToPrimary,
+                            () -> dailyFeedbackService.getDailyFeedback(studentId, lesson.getId())))
+                    .orElse(CompletableFuture.completedFuture(null));
+        });
+
+        StudentDashboardDto dashboard = homeworksAndClinic.join();
+        dashboard.setStudent(StudentDto.from(student));
+        dashboard.setLessons(lessons.join());
+        dashboard.setSubmissions(submissions.join());
+        dashboard.setTodayFeedback(todayFeedback.join());
+        return dashboard;
+    }
+
+    /**
+     * 순차 조회면 바로 실행, 병렬이면 요청의 shard/primary 고정 상태로 별도 트랜잭션에서 실행
+     */
+    private <T> CompletableFuture<T> section(String shard, boolean pinnedToPrimary, Supplier<T> loader) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(loader.get());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            if (pinnedToPrimary) {
+                ReadYourWrites.pinToPrimary();
+            }
+            try {
+                return ShardContext.callOn(shard, () -> readOnlyTransaction.execute(status -> loader.get()));
+            } finally {
+                ReadYourWrites.clear();
+            }
+        }, executor);
+    }
+}
@@ -1,26 +1,44 @@
 package com.example.service;
 
+import com.example.dto.HomeworkGradeDto;
 import com.example.dto.StudentHomeworkDto;
 import com.example.entity.Homework;
 import com.example.entity.Student;
 import com.example.entity.StudentHomework;
+import com.example.outbox.ChangeEvent;
+import com.example.outbox.Outbox;
 import com.example.repository.HomeworkRepository;
 import com.example.repository.StudentHomeworkRepository;
 import com.example.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class StudentHomeworkService {
+    private static final int GRADE_MAX_ATTEMPTS = 3;
+
     private final StudentHomeworkRepository studentHomeworkRepository;
     private final StudentRepository studentRepository;
     private final HomeworkRepository homeworkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Outbox outbox;
+    private final PlatformTransactionManager transactionManager;
 
     public List<StudentHomeworkDto> getByStudentId(Long studentId) {
         return studentHomeworkRepository.findByStudentId(studentId).stream()
@@ -34,7 +52,14 @@ public class StudentHomeworkService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentHomeworkDto updateIncorrectCount(Long studentId, Long homeworkId, Integer incorrectCount, Integer unsolvedCount) {
+        return withRetry("student=" + studentId + ", homework=" + homeworkId,
+                () -> doUpdateIncorrectCount(studentId, homeworkId, incorrectCount, unsolvedCount));
+    }
+
+    private StudentHomeworkDto doUpdateIncorrectCount(Long studentId, Long homeworkId, Integer incorrectCount,
+                                                      Integer unsolvedCount) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
         Homework homework = homeworkRepository.findById(homeworkId)
@@ -50,12 +75,141 @@ public class StudentHomeworkService {
         studentHomework.setIncorrectCount(incorrectCount);
         studentHomework.setUnsolvedCount(unsolvedCount);
         studentHomework = studentHomeworkRepository.save(studentHomework);
+        outbox.append(new ChangeEvent.HomeworkGraded(studentId, homeworkId, incorrectCount, unsolvedCount));
 
         return StudentHomeworkDto.from(studentHomework);
     }
 
+    /**
+     * 숙제 하나에 대한 반 전체 채점 (표 입력)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StudentHomeworkDto> gradeHomework(Long homeworkId, List<HomeworkGradeDto> grades) {
+        return withRetry("homework=" + homeworkId, () -> {
+            Homework homework = homeworkRepository.findById(homeworkId)
+                    .orElseThrow(() -> new RuntimeException("Homework not found"));
+            return grade(List.of(homework), homework.getAcademyClass().getId(), grades);
+        });
+    }
+
+    /**
+     * 수업에 붙은 숙제들에 대한 반 전체 채점 (표 입력)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StudentHomeworkDto> gradeLessonHomeworks(Long lessonId, List<HomeworkGradeDto> grades) {
+        return withRetry("lesson=" + lessonId, () -> {
+            List<Homework> homeworks = homeworkRepository.findByLessonId(lessonId);
+            if (homeworks.isEmpty()) {
+                throw new RuntimeException("Lesson has no homework");
+            }
+            return grade(homeworks, homeworks.get(0).getAcademyClass().getId(), grades);
+        });
+    }
+
+    /**
+     * 채점을 새 트랜잭션에서 실행
+     * 같은 학생/숙제 행을 다른 요청(동시에 저장한 선생님, 재시도한 요청)이 먼저 INSERT해서
+     * (student_id, homework_id) 유니크 제약에 걸리면, 새 트랜잭션에서 그 행을 다시 읽어 UPDATE로 저장한다.
+     */
+    private <T> T withRetry(String target, Supplier<T> grading) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> grading.get());
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= GRADE_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying homework grading ({}): {}", target, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 반 명단과 기존 채점 결과를 한 번씩만 읽고,
+     * 기존 행은 배치 UPDATE(Hibernate batch), 새 행은 JDBC 배치 INSERT로 저장한다.
+     */
+    private List<StudentHomeworkDto> grade(List<Homework> homeworks, Long classId, List<HomeworkGradeDto> grades) {
+        Map<Long, Homework> homeworkMap = homeworks.stream()
+                .collect(Collectors.toMap(Homework::getId, h -> h));
+        List<Long> homeworkIds = new ArrayList<>(homeworkMap.keySet());
+
+        Set<Long> roster = studentRepository.findByAcademyClassId(classId).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+
+        List<StudentHomework> existing = studentHomeworkRepository.findByHomeworkIdIn(homeworkIds);
+        Map<String, StudentHomework> existingMap = new HashMap<>();
+        Map<Long, Long> assignedHomework = new HashMap<>(); // studentId -> homeworkId
+        for (StudentHomework sh : existing) {
+            existingMap.put(key(sh.getStudent().getId(), sh.getHomework().getId()), sh);
+            assignedHomework.putIfAbsent(sh.getStudent().getId(), sh.getHomework().getId());
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<String, Object[]> inserts = new LinkedHashMap<>(); // 같은 학생이 중복으로 오면 마지막 값
+        Map<String, ChangeEvent> events = new LinkedHashMap<>();
+        for (HomeworkGradeDto grade : grades) {
+            Long studentId = grade.getStudentId();
+            if (!roster.contains(studentId)) {
+                throw new RuntimeException("Student " + studentId + " is not in this class");
+            }
+
+            Long homeworkId = resolveHomeworkId(grade, homeworkIds, assignedHomework);
+            if (!homeworkMap.containsKey(homeworkId)) {
+                throw new RuntimeException("Homework " + homeworkId + " is not part of this grading");
+            }
+
+            StudentHomework studentHomework = existingMap.get(key(studentId, homeworkId));
+            if (studentHomework != null) {
+                studentHomework.setIncorrectCount(grade.getIncorrectCount());
+                studentHomework.setUnsolvedCount(grade.getUnsolvedCount());
+            } else {
+                inserts.put(key(studentId, homeworkId), new Object[]{studentId, homeworkId,
+                        grade.getIncorrectCount(), grade.getUnsolvedCount(), now, now});
+            }
+            events.put(key(studentId, homeworkId), new ChangeEvent.HomeworkGraded(studentId, homeworkId,
+                    grade.getIncorrectCount(), grade.getUnsolvedCount()));
+        }
+
+        studentHomeworkRepository.flush();
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO student_homeworks (student_id, homework_id, incorrect_count, " +
+                    "unsolved_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new ArrayList<>(inserts.values()));
+        }
+        outbox.appendAll(events.values());
+
+        // 기존 행은 영속성 컨텍스트에서 그대로, 새 행만 DB에서 읽힌다
+        return studentHomeworkRepository.findByHomeworkIdIn(homeworkIds).stream()
+                .map(StudentHomeworkDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private Long resolveHomeworkId(HomeworkGradeDto grade, List<Long> homeworkIds, Map<Long, Long> assignedHomework) {
+        if (grade.getHomeworkId() != null) {
+            return grade.getHomeworkId();
+        }
+        if (homeworkIds.size() == 1) {
+            return homeworkIds.get(0);
+        }
+        Long assigned = assignedHomework.get(grade.getStudentId());
+        if (assigned == null) {
+            throw new RuntimeException("Student " + grade.getStudentId() + " has no assigned homework");
+        }
+        return assigned;
+    }
+
+    private static String key(Long studentId, Long homeworkId) {
+        return studentId + ":" + homeworkId;
+    }
+
     public void deleteByStudentIdAndHomeworkId(Long studentId, Long homeworkId) {
         studentHomeworkRepository.findByStudentIdAndHomeworkId(studentId, homeworkId)
-                .ifPresent(studentHomeworkRepository::delete);
+                .ifPresent(studentHomework -> {
+                    studentHomeworkRepository.delete(studentHomework);
+                    outbox.append(new ChangeEvent.HomeworkUnassigned(studentId, homeworkId));
+                });
     }
 }
@@ -3,90 +3,348 @@ package com.example.service;
 import com.example.dto.StudentSubmissionDto;
 import com.example.dto.SubmissionDetailDto;
 import com.example.entity.*;
+import com.example.event.SubmissionGradedEvent;
+import com.example.fields.FieldSet;
+import com.example.monitoring.DomainMetrics;
+import com.example.monitoring.jfr.GradeSubmissionEvent;
+import com.example.outbox.ChangeEvent;
+import com.example.outbox.Outbox;
 import com.example.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SubmissionService {
+    private static final int SUBMIT_MAX_ATTEMPTS = 3;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final int LOCK_STRIPES = 256;
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(10);
+
     private final StudentSubmissionRepository submissionRepository;
     private final StudentSubmissionDetailRepository detailRepository;
     private final TestQuestionRepository questionRepository;
     private final StudentRepository studentRepository;
     private final TestRepository testRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainMetrics domainMetrics;
+    private final Outbox outbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 같은 학생/시험 제출은 이 인스턴스 안에서 한 번에 하나씩 (인스턴스 간 중복은 유니크 제약 + 재시도로 막음)
+    private final StripedLocks submissionLocks = new StripedLocks(LOCK_STRIPES, LOCK_TIMEOUT);
+
+    /**
+     * 채점 큐에서 꺼낸 답안 한 건
+     */
+    public record AnswerSheet(Long studentId, Long testId, Map<Integer, String> answers, String idempotencyKey) {
+    }
+
+    /**
+     * 일괄 채점 결과 한 건
+     */
+    public record GradedSheet(Long submissionId, Integer totalScore) {
+    }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentSubmissionDto submitAnswers(Long studentId, Long testId, Map<Integer, String> answers) {
+        return submitAnswers(studentId, testId, answers, null);
+    }
+
+    /**
+     * 답안 제출 (학생/시험당 제출은 하나, 다시 제출하면 기존 제출을 갱신)
+     * idempotencyKey가 마지막으로 저장한 제출과 같으면 같은 요청의 재시도로 보고 재채점 없이 저장된 결과를 돌려준다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentSubmissionDto submitAnswers(Long studentId, Long testId, Map<Integer, String> answers,
+                                              String idempotencyKey) {
+        validateIdempotencyKey(idempotencyKey);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // 트랜잭션 커밋까지 락을 잡고 있어야 다음 요청이 커밋된 제출을 읽는다
+        return submissionLocks.withLock(lockKey(studentId, testId), () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transaction.execute(status ->
+                            doSubmitAnswers(studentId, testId, answers, idempotencyKey));
+                } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                    // 다른 인스턴스가 같은 학생/시험을 먼저 저장함: 새 트랜잭션에서 그 제출을 갱신한다
+                    if (attempt >= SUBMIT_MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.debug("Retrying submission (student={}, test={}): {}", studentId, testId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private StudentSubmissionDto doSubmitAnswers(Long studentId, Long testId, Map<Integer, String> answers,
+                                                 String idempotencyKey) {
+        long start = System.nanoTime();
+        GradeSubmissionEvent event = new GradeSubmissionEvent();
+        event.begin();
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
         Test test = testRepository.findById(testId)
                 .orElseThrow(() -> new RuntimeException("Test not found"));
         
         // 기존 제출 확인
-        StudentSubmission submission = submissionRepository.findByStudentIdAndTestId(studentId, testId)
+        StudentSubmission submission = submissionRepository.findForGradingByStudentIdAndTestId(studentId, testId)
                 .orElse(StudentSubmission.builder()
                         .student(student)
                         .test(test)
                         .build());
+
+        if (idempotencyKey != null && submission.getId() != null
+                && idempotencyKey.equals(submission.getIdempotencyKey())) {
+            // 같은 요청의 재시도 (더블 탭, 클라이언트 재전송)
+            StudentSubmissionDto dto = StudentSubmissionDto.from(submission);
+            dto.setDetails(submission.getDetails().stream()
+                    .map(SubmissionDetailDto::from)
+                    .collect(Collectors.toList()));
+            return dto;
+        }
         
         // 문제 가져오기
         List<TestQuestion> questions = questionRepository.findByTestIdOrderByNumber(testId);
         
         // 답안 저장 및 채점
-        List<StudentSubmissionDetail> details = new ArrayList<>();
-        double earnedPoints = 0.0;
-        double totalPoints = 0.0;
-
-        for (TestQuestion question : questions) {
-            String studentAnswer = answers.get(question.getNumber());
-            boolean isCorrect = question.getAnswer() != null &&
-                              question.getAnswer().equals(studentAnswer);
-
-            StudentSubmissionDetail detail = StudentSubmissionDetail.builder()
-                    .submission(submission)
-                    .question(question)
-                    .studentAnswer(studentAnswer)
-                    .isCorrect(isCorrect)
-                    .build();
-
-            details.add(detail);
-
-            // 배점 합산
-            totalPoints += question.getPoints();
-            if (isCorrect) {
-                earnedPoints += question.getPoints();
-            }
-        }
-
-        // 총점 계산 (배점 기반, 반올림)
-        int totalScore = totalPoints == 0 ? 0 : (int) Math.round((earnedPoints / totalPoints) * 100);
-        submission.setTotalScore(totalScore);
+        List<StudentSubmissionDetail> details = ScoreCalculator.grade(submission, questions, answers);
+        int totalScore = submission.getTotalScore();
         submission.setSubmittedAt(LocalDateTime.now());
+        submission.setIdempotencyKey(idempotencyKey);
 
         // 기존 상세 답안 삭제 후 새로 저장
         submission.getDetails().clear();
         submission.getDetails().addAll(details);
         
         submission = submissionRepository.save(submission);
+        outbox.append(new ChangeEvent.SubmissionGraded(submission.getId(), studentId, testId, totalScore));
+
+        // 실시간 스코어보드 갱신 (커밋 후 반영)
+        Map<Integer, Boolean> results = new HashMap<>();
+        for (StudentSubmissionDetail detail : details) {
+            results.put(detail.getQuestion().getNumber(), detail.getIsCorrect());
+        }
+        eventPublisher.publishEvent(SubmissionGradedEvent.builder()
+                .testId(testId)
+                .submissionId(submission.getId())
+                .studentId(studentId)
+                .studentName(student.getName())
+                .totalScore(totalScore)
+                .results(results)
+                .build());
         
         StudentSubmissionDto dto = StudentSubmissionDto.from(submission);
         dto.setDetails(details.stream()
                 .map(SubmissionDetailDto::from)
                 .collect(Collectors.toList()));
-        
+
+        domainMetrics.recordGrading(test, questions.size(), System.nanoTime() - start);
+        event.studentId = studentId;
+        event.testId = testId;
+        event.questionCount = questions.size();
+        event.totalScore = totalScore;
+        event.commit();
         return dto;
     }
     
+    /**
+     * 여러 학생의 답안을 한 트랜잭션에서 채점/저장 (채점 큐 worker용, submitAnswers와 같은 결과)
+     * 시험마다 문제(정답)와 기존 제출을 한 번씩만 읽고, 제출/상세 답안은 JDBC 배치로 저장한다.
+     * 같은 학생/시험이 여러 번 있으면 마지막 답안이 저장된다.
+     * @return sheets와 같은 순서의 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<GradedSheet> submitAnswersBatch(List<AnswerSheet> sheets) {
+        sheets.forEach(sheet -> validateIdempotencyKey(sheet.idempotencyKey()));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> keys = sheets.stream().map(sheet -> lockKey(sheet.studentId(), sheet.testId())).toList();
+        return submissionLocks.withLocks(keys, () -> transaction.execute(status -> doSubmitAnswersBatch(sheets)));
+    }
+
+    private List<GradedSheet> doSubmitAnswersBatch(List<AnswerSheet> sheets) {
+        Map<Long, Map<Long, AnswerSheet>> sheetsByTest = new LinkedHashMap<>(); // testId -> studentId -> 마지막 답안
+        for (AnswerSheet sheet : sheets) {
+            sheetsByTest.computeIfAbsent(sheet.testId(), k -> new LinkedHashMap<>()).put(sheet.studentId(), sheet);
+        }
+
+        Set<Long> studentIds = sheets.stream().map(AnswerSheet::studentId).collect(Collectors.toSet());
+        Map<Long, Student> students = studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, s -> s));
+        for (Long studentId : studentIds) {
+            if (!students.containsKey(studentId)) {
+                throw new RuntimeException("Student " + studentId + " not found");
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Map<String, GradedSheet> graded = new HashMap<>();
+        List<ChangeEvent> events = new ArrayList<>();
+
+        for (Map.Entry<Long, Map<Long, AnswerSheet>> entry : sheetsByTest.entrySet()) {
+            long testStart = System.nanoTime();
+            Long testId = entry.getKey();
+            Map<Long, AnswerSheet> byStudent = entry.getValue();
+            Test test = testRepository.findById(testId)
+                    .orElseThrow(() -> new RuntimeException("Test " + testId + " not found"));
+            List<TestQuestion> questions = questionRepository.findByTestIdOrderByNumber(testId);
+
+            Map<Long, Object[]> existing = new HashMap<>(); // studentId -> [studentId, submissionId, idempotencyKey, totalScore]
+            for (Object[] row : submissionRepository.findExistingByTestIdAndStudentIdIn(testId, byStudent.keySet())) {
+                existing.put((Long) row[0], row);
+            }
+
+            // 채점 (정답은 시험당 한 번 읽은 문제 목록을 공유)
+            Map<Long, StudentSubmission> submissions = new LinkedHashMap<>();
+            Map<Long, List<StudentSubmissionDetail>> detailsByStudent = new HashMap<>();
+            for (AnswerSheet sheet : byStudent.values()) {
+                Object[] row = existing.get(sheet.studentId());
+                if (row != null && sheet.idempotencyKey() != null && sheet.idempotencyKey().equals(row[2])) {
+                    // 같은 요청의 재시도: 저장된 결과 그대로
+                    graded.put(sheet.studentId() + ":" + testId, new GradedSheet((Long) row[1], (Integer) row[3]));
+                    continue;
+                }
+                StudentSubmission submission = StudentSubmission.builder()
+                        .id(row != null ? (Long) row[1] : null)
+                        .idempotencyKey(sheet.idempotencyKey())
+                        .build();
+                detailsByStudent.put(sheet.studentId(), ScoreCalculator.grade(submission, questions, sheet.answers()));
+                submissions.put(sheet.studentId(), submission);
+            }
+
+            // 기존 제출: 점수 갱신 + 상세 답안 삭제, 새 제출: INSERT 후 생성된 ID 사용
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> inserts = new ArrayList<>();
+            submissions.forEach((studentId, submission) -> {
+                if (submission.getId() != null) {
+                    updates.add(new Object[]{submission.getTotalScore(), submission.getIdempotencyKey(),
+                            timestamp, timestamp, submission.getId()});
+                } else {
+                    inserts.add(studentId);
+                }
+            });
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE student_submissions SET total_score = ?, idempotency_key = ?, " +
+                        "submitted_at = ?, updated_at = ? WHERE id = ?", updates);
+                String placeholders = String.join(", ", Collections.nCopies(updates.size(), "?"));
+                jdbcTemplate.update("DELETE FROM student_submission_details WHERE submission_id IN (" + placeholders + ")",
+                        updates.stream().map(row -> row[4]).toArray());
+            }
+            if (!inserts.isEmpty()) {
+                // 다른 요청이 먼저 INSERT했다면 유니크 제약 위반 -> 묶음 전체 롤백 (큐에서 한 건씩 다시 처리)
+                insertSubmissions(testId, inserts, submissions, timestamp);
+            }
+
+            List<Object[]> detailRows = new ArrayList<>();
+            submissions.forEach((studentId, submission) -> {
+                Map<Integer, Boolean> results = new HashMap<>();
+                for (StudentSubmissionDetail detail : detailsByStudent.get(studentId)) {
+                    detailRows.add(new Object[]{submission.getId(), detail.getQuestion().getId(),
+                            detail.getStudentAnswer(), detail.getIsCorrect(), timestamp, timestamp});
+                    results.put(detail.getQuestion().getNumber(), detail.getIsCorrect());
+                }
+                graded.put(studentId + ":" + testId, new GradedSheet(submission.getId(), submission.getTotalScore()));
+                events.add(new ChangeEvent.SubmissionGraded(submission.getId(), studentId, testId,
+                        submission.getTotalScore()));
+                // 실시간 스코어보드 갱신 (커밋 후 반영)
+                eventPublisher.publishEvent(SubmissionGradedEvent.builder()
+                        .testId(testId)
+                        .submissionId(submission.getId())
+                        .studentId(studentId)
+                        .studentName(students.get(studentId).getName())
+                        .totalScore(submission.getTotalScore())
+                        .results(results)
+                        .build());
+            });
+            if (!detailRows.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO student_submission_details (submission_id, question_id, " +
+                        "student_answer, is_correct, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", detailRows);
+            }
+            // 제출 한 건당 평균 시간으로 기록 (submitAnswers와 같은 메트릭)
+            long perSubmission = (System.nanoTime() - testStart) / submissions.size();
+            for (int i = 0; i < submissions.size(); i++) {
+                domainMetrics.recordGrading(test, questions.size(), perSubmission);
+            }
+        }
+        outbox.appendAll(events);
+
+        return sheets.stream()
+                .map(sheet -> graded.get(sheet.studentId() + ":" + sheet.testId()))
+                .collect(Collectors.toList());
+    }
+
+    private void insertSubmissions(Long testId, List<Long> studentIds, Map<Long, StudentSubmission> submissions,
+                                   Timestamp timestamp) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement("INSERT INTO student_submissions (student_id, test_id, " +
+                        "total_score, idempotency_key, submitted_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Long studentId = studentIds.get(i);
+                        ps.setLong(1, studentId);
+                        ps.setLong(2, testId);
+                        ps.setInt(3, submissions.get(studentId).getTotalScore());
+                        ps.setString(4, submissions.get(studentId).getIdempotencyKey());
+                        ps.setTimestamp(5, timestamp);
+                        ps.setTimestamp(6, timestamp);
+                        ps.setTimestamp(7, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return studentIds.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != studentIds.size()) {
+            throw new RuntimeException("Expected " + studentIds.size() + " generated ids, got " + keys.size());
+        }
+        for (int i = 0; i < studentIds.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            submissions.get(studentIds.get(i)).setId(id.longValue());
+        }
+    }
+
+    private static String lockKey(Long studentId, Long testId) {
+        return studentId + ":" + testId;
+    }
+
+    private static void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new RuntimeException("Idempotency-Key must be 1-" + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+    }
+
     public StudentSubmissionDto getSubmission(Long submissionId) {
-        StudentSubmission submission = submissionRepository.findById(submissionId)
+        StudentSubmission submission = submissionRepository.findForReviewById(submissionId)
                 .orElseThrow(() -> new RuntimeException("Submission not found"));
         
         StudentSubmissionDto dto = StudentSubmissionDto.from(submission);
@@ -99,7 +357,7 @@ public class SubmissionService {
     }
     
     public StudentSubmissionDto getSubmissionByStudentAndTest(Long studentId, Long testId) {
-        StudentSubmission submission = submissionRepository.findByStudentIdAndTestId(studentId, testId)
+        StudentSubmission submission = submissionRepository.findForReviewByStudentIdAndTestId(studentId, testId)
                 .orElseThrow(() -> new RuntimeException("Submission not found"));
         
         StudentSubmissionDto dto = StudentSubmissionDto.from(submission);
@@ -111,48 +369,31 @@ public class SubmissionService {
         return dto;
     }
     
-    public List<StudentSubmissionDto> getStudentSubmissions(Long studentId) {
-        List<StudentSubmission> submissions = submissionRepository.findByStudentId(studentId);
-
-        return submissions.stream()
-                .map(submission -> {
-                    StudentSubmissionDto dto = StudentSubmissionDto.from(submission);
-
-                    // Calculate class average and rank for this test
-                    List<StudentSubmission> allSubmissions = submissionRepository.findByTestId(submission.getTest().getId());
-
-                    // Class average
-                    double classAverage = allSubmissions.stream()
-                            .mapToInt(StudentSubmission::getTotalScore)
-                            .average()
-                            .orElse(0.0);
-
-                    // Calculate rank
-                    List<Integer> scores = allSubmissions.stream()
-                            .map(StudentSubmission::getTotalScore)
-                            .sorted((a, b) -> b.compareTo(a)) // Descending order
-                            .collect(Collectors.toList());
-
-                    int rank = 1;
-                    for (int i = 0; i < scores.size(); i++) {
-                        if (scores.get(i).equals(submission.getTotalScore())) {
-                            rank = i + 1;
-                            break;
-                        }
-                    }
+    public List<StudentSubmissionDto> getStudentSubmissions(Long studentId, FieldSet fields) {
+        List<StudentSubmissionDto> submissions = fields.within(StudentSubmissionDto.SUMMARY_FIELDS)
+                ? submissionRepository.findSummaryDtosByStudentId(studentId)
+                : submissionRepository.findDtosByStudentId(studentId);
+        if (!fields.includes("classAverage") && !fields.includes("rank")) {
+            return submissions;
+        }
 
-                    dto.setClassAverage(classAverage);
-                    dto.setRank(rank);
+        // Class average and rank for every test in one grouped query
+        Map<Long, Object[]> classStats = new HashMap<>();
+        for (Object[] row : submissionRepository.getClassStatsByStudentId(studentId)) {
+            classStats.put((Long) row[0], row);
+        }
 
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        for (StudentSubmissionDto dto : submissions) {
+            Object[] stats = classStats.get(dto.getTestId());
+            dto.setClassAverage(stats != null && stats[1] != null ? ((Number) stats[1]).doubleValue() : 0.0);
+            dto.setRank(stats != null && stats[2] != null ? ((Number) stats[2]).intValue() + 1 : 1);
+        }
+        return submissions;
     }
 
-    public List<StudentSubmissionDto> getTestSubmissions(Long testId) {
-        List<StudentSubmission> submissions = submissionRepository.findByTestId(testId);
-        return submissions.stream()
-                .map(StudentSubmissionDto::from)
-                .collect(Collectors.toList());
+    public List<StudentSubmissionDto> getTestSubmissions(Long testId, FieldSet fields) {
+        return fields.within(StudentSubmissionDto.SUMMARY_FIELDS)
+                ? submissionRepository.findSummaryDtosByTestId(testId)
+                : submissionRepository.findDtosByTestId(testId);
     }
 }
\ No newline at end of file
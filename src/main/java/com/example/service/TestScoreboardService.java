@@ -0,0 +1,220 @@
+package com.example.service;
+
+import com.example.dto.TestScoreboardDto;
+import com.example.dto.TestStatsDto;
+import com.example.event.SubmissionGradedEvent;
+import com.example.event.TestRegradedEvent;
+import com.example.repository.StudentSubmissionDetailRepository;
+import com.example.repository.StudentSubmissionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 시험 진행 중 실시간 스코어보드 (SSE)
+ * 시험별로 메모리에 집계를 하나만 유지하고, 제출이 커밋될 때마다 갱신된 집계를 모든 구독자에게 전송한다.
+ * 구독자가 없는 시험은 집계를 유지하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestScoreboardService {
+    private static final long EMITTER_TIMEOUT_MS = 60 * 60 * 1000L;
+
+    private final StudentSubmissionRepository submissionRepository;
+    private final StudentSubmissionDetailRepository detailRepository;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<Long, Scoreboard> scoreboards = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long testId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+
+        Scoreboard board;
+        do {
+            board = scoreboards.computeIfAbsent(testId, this::loadScoreboard);
+        } while (!board.addSubscriber(emitter));
+
+        Scoreboard subscribed = board;
+        emitter.onCompletion(() -> unsubscribe(testId, subscribed, emitter));
+        emitter.onTimeout(() -> unsubscribe(testId, subscribed, emitter));
+        emitter.onError(e -> unsubscribe(testId, subscribed, emitter));
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("snapshot")
+                    .data(serialize(subscribed.toDto(null)), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onSubmissionGraded(SubmissionGradedEvent event) {
+        Scoreboard board = scoreboards.computeIfPresent(event.getTestId(), (id, b) -> {
+            b.apply(event.getStudentId(), event.getStudentName(), event.getTotalScore(), event.getResults());
+            return b;
+        });
+        if (board == null) return;
+
+        TestStatsDto.StudentScore last = TestStatsDto.StudentScore.builder()
+                .studentId(event.getStudentId())
+                .studentName(event.getStudentName())
+                .totalScore(event.getTotalScore())
+                .build();
+        board.broadcast("submission", serialize(board.toDto(last)));
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTestRegraded(TestRegradedEvent event) {
+        Scoreboard board = scoreboards.computeIfPresent(event.getTestId(), (id, b) -> {
+            b.replaceWith(loadScoreboard(id));
+            return b;
+        });
+        if (board == null) return;
+
+        board.broadcast("snapshot", serialize(board.toDto(null)));
+    }
+
+    private void unsubscribe(Long testId, Scoreboard board, SseEmitter emitter) {
+        if (board.removeSubscriber(emitter)) {
+            scoreboards.remove(testId, board);
+        }
+    }
+
+    private Scoreboard loadScoreboard(Long testId) {
+        Scoreboard board = new Scoreboard(testId);
+        Map<Long, Map<Integer, Boolean>> results = new HashMap<>();
+        for (Object[] row : detailRepository.findResultsByTestId(testId)) {
+            results.computeIfAbsent((Long) row[0], k -> new HashMap<>())
+                    .put((Integer) row[1], Boolean.TRUE.equals(row[2]));
+        }
+        for (Object[] row : submissionRepository.findScoresByTestId(testId)) {
+            Long studentId = (Long) row[0];
+            board.apply(studentId, (String) row[1], (Integer) row[2],
+                    results.getOrDefault(studentId, Collections.emptyMap()));
+        }
+        return board;
+    }
+
+    private String serialize(TestScoreboardDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize scoreboard", e);
+        }
+    }
+
+    /**
+     * 시험 하나의 집계 상태
+     * 학생별 최신 결과를 보관하므로 같은 제출이 두 번 반영되어도 결과가 달라지지 않는다.
+     */
+    private static class Scoreboard {
+        private final Long testId;
+        private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+        private boolean closed;
+
+        private final Map<Long, Integer> scores = new HashMap<>();
+        private final Map<Long, Map<Integer, Boolean>> results = new HashMap<>();
+        // 문제 번호 -> {정답 수, 응답 수}
+        private final SortedMap<Integer, int[]> questionCounters = new TreeMap<>();
+
+        Scoreboard(Long testId) {
+            this.testId = testId;
+        }
+
+        synchronized boolean addSubscriber(SseEmitter emitter) {
+            if (closed) return false;
+            subscribers.add(emitter);
+            return true;
+        }
+
+        /**
+         * @return 마지막 구독자가 빠져서 집계를 버려도 되는 경우 true
+         */
+        synchronized boolean removeSubscriber(SseEmitter emitter) {
+            subscribers.remove(emitter);
+            if (subscribers.isEmpty() && !closed) {
+                closed = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void apply(Long studentId, String studentName, Integer totalScore,
+                                Map<Integer, Boolean> newResults) {
+            Map<Integer, Boolean> previous = results.get(studentId);
+            if (previous != null) {
+                previous.forEach((number, correct) -> count(number, correct, -1));
+            }
+            newResults.forEach((number, correct) -> count(number, correct, 1));
+
+            scores.put(studentId, totalScore != null ? totalScore : 0);
+            results.put(studentId, new HashMap<>(newResults));
+        }
+
+        synchronized void replaceWith(Scoreboard other) {
+            scores.clear();
+            scores.putAll(other.scores);
+            results.clear();
+            results.putAll(other.results);
+            questionCounters.clear();
+            questionCounters.putAll(other.questionCounters);
+        }
+
+        private void count(Integer number, Boolean correct, int delta) {
+            int[] counter = questionCounters.computeIfAbsent(number, k -> new int[2]);
+            if (Boolean.TRUE.equals(correct)) counter[0] += delta;
+            counter[1] += delta;
+        }
+
+        synchronized TestScoreboardDto toDto(TestStatsDto.StudentScore lastSubmission) {
+            List<TestScoreboardDto.QuestionCounter> questionStats = new ArrayList<>(questionCounters.size());
+            questionCounters.forEach((number, counter) -> questionStats.add(
+                    TestScoreboardDto.QuestionCounter.builder()
+                            .questionNumber(number)
+                            .correctCount(counter[0])
+                            .answeredCount(counter[1])
+                            .correctRate(counter[1] == 0 ? 0.0 : counter[0] * 100.0 / counter[1])
+                            .build()));
+
+            return TestScoreboardDto.builder()
+                    .testId(testId)
+                    .submissionCount(scores.size())
+                    .averageScore(scores.values().stream().mapToInt(Integer::intValue).average().orElse(0.0))
+                    .maxScore(scores.values().stream().max(Integer::compareTo).orElse(0))
+                    .lastSubmission(lastSubmission)
+                    .questionStats(questionStats)
+                    .build();
+        }
+
+        void broadcast(String eventName, String payload) {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name(eventName)
+                            .data(payload, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Dropping scoreboard subscriber for test {}: {}", testId, e.getMessage());
+                    emitter.completeWithError(e);
+                }
+            }
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.example.service;
 
 import com.example.dto.*;
 import com.example.entity.*;
+import com.example.event.TestRegradedEvent;
+import com.example.fields.FieldSet;
+import com.example.monitoring.DomainMetrics;
+import com.example.monitoring.jfr.RegradeTestEvent;
 import com.example.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,15 +30,20 @@ public class TestService {
     private final AcademyRepository academyRepository;
     private final AcademyClassRepository academyClassRepository;
     private final LessonService lessonService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainMetrics domainMetrics;
     
-    public Page<TestDto> getTests(Pageable pageable) {
-        return testRepository.findAll(pageable).map(TestDto::from);
+    public Page<TestDto> getTests(Pageable pageable, FieldSet fields) {
+        return fields.within(TestDto.SUMMARY_FIELDS)
+                ? testRepository.findAllSummaryDtos(pageable)
+                : testRepository.findAllDtos(pageable);
     }
     
-    public TestDto getTest(Long id) {
-        Test test = testRepository.findById(id)
+    public TestDto getTest(Long id, FieldSet fields) {
+        return (fields.within(TestDto.SUMMARY_FIELDS)
+                ? testRepository.findSummaryDtoById(id)
+                : testRepository.findDtoById(id))
                 .orElseThrow(() -> new RuntimeException("Test not found"));
-        return TestDto.from(test);
     }
     
     public TestDto createTest(TestDto dto) {
@@ -50,7 +60,7 @@ public class TestService {
                 .build();
 
         test = testRepository.save(test);
-        return TestDto.from(test);
+        return TestDto.from(test, 0);
     }
 
     public TestDto updateTest(Long id, TestDto dto) {
@@ -72,7 +82,7 @@ public class TestService {
         }
 
         test = testRepository.save(test);
-        return TestDto.from(test);
+        return TestDto.from(test, (int) testQuestionRepository.countByTestId(id));
     }
     
     public void deleteTest(Long id) {
@@ -99,35 +109,29 @@ public class TestService {
         testQuestionRepository.saveAll(questions);
         
         // 기존 제출 답안 재채점
-        recalculateScores(dto.getTestId());
+        recalculateScores(test);
     }
     
-    private void recalculateScores(Long testId) {
-        List<StudentSubmission> submissions = studentSubmissionRepository.findByTestId(testId);
+    private void recalculateScores(Test test) {
+        long start = System.nanoTime();
+        RegradeTestEvent event = new RegradeTestEvent();
+        event.begin();
+        Long testId = test.getId();
+        List<StudentSubmission> submissions = studentSubmissionRepository.findForGradingByTestId(testId);
         List<TestQuestion> questions = testQuestionRepository.findByTestIdOrderByNumber(testId);
         
         for (StudentSubmission submission : submissions) {
-            int correctCount = 0;
-            
-            for (StudentSubmissionDetail detail : submission.getDetails()) {
-                TestQuestion question = questions.stream()
-                        .filter(q -> q.getNumber().equals(detail.getQuestion().getNumber()))
-                        .findFirst()
-                        .orElse(null);
-                
-                if (question != null && question.getAnswer() != null) {
-                    boolean isCorrect = question.getAnswer().equals(detail.getStudentAnswer());
-                    detail.setIsCorrect(isCorrect);
-                    if (isCorrect) correctCount++;
-                }
-            }
-            
-            // 총점 계산 (100점 만점 기준)
-            int totalScore = questions.isEmpty() ? 0 : (correctCount * 100 / questions.size());
-            submission.setTotalScore(totalScore);
+            ScoreCalculator.regrade(submission, questions);
         }
         
         studentSubmissionRepository.saveAll(submissions);
+        domainMetrics.recordRegrade(test, submissions.size(), System.nanoTime() - start);
+        event.testId = testId;
+        event.submissionCount = submissions.size();
+        event.detailCount = submissions.stream().mapToInt(s -> s.getDetails().size()).sum();
+        event.questionCount = questions.size();
+        event.commit();
+        eventPublisher.publishEvent(new TestRegradedEvent(testId));
     }
     
     public TestStatsDto getTestStats(Long testId) {
@@ -139,18 +143,17 @@ public class TestService {
         if (averageScore == null) averageScore = 0.0;
 
         // 학생별 점수
-        List<StudentSubmission> submissions = studentSubmissionRepository.findByTestId(testId);
-        List<TestStatsDto.StudentScore> studentScores = submissions.stream()
-                .map(s -> TestStatsDto.StudentScore.builder()
-                        .studentId(s.getStudent().getId())
-                        .studentName(s.getStudent().getName())
-                        .totalScore(s.getTotalScore())
+        List<TestStatsDto.StudentScore> studentScores = studentSubmissionRepository.findScoresByTestId(testId).stream()
+                .map(row -> TestStatsDto.StudentScore.builder()
+                        .studentId((Long) row[0])
+                        .studentName((String) row[1])
+                        .totalScore((Integer) row[2])
                         .build())
                 .collect(Collectors.toList());
 
         // 최고 점수
-        Integer maxScore = submissions.stream()
-                .map(StudentSubmission::getTotalScore)
+        Integer maxScore = studentScores.stream()
+                .map(TestStatsDto.StudentScore::getTotalScore)
                 .max(Integer::compareTo)
                 .orElse(0);
 
@@ -199,10 +202,9 @@ public class TestService {
         testQuestionRepository.deleteById(questionId);
     }
 
-    public List<TestDto> getUnattachedTests(Long academyId, Long classId) {
-        return testRepository.findUnattachedByAcademyIdAndClassId(academyId, classId)
-                .stream()
-                .map(TestDto::from)
-                .collect(Collectors.toList());
+    public List<TestDto> getUnattachedTests(Long academyId, Long classId, FieldSet fields) {
+        return fields.within(TestDto.SUMMARY_FIELDS)
+                ? testRepository.findUnattachedSummaryDtosByAcademyIdAndClassId(academyId, classId)
+                : testRepository.findUnattachedDtosByAcademyIdAndClassId(academyId, classId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.example.sharding;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학생/반/시험 등의 ID로 학원을 찾는다 (shard를 차례로 조회, 찾은 결과는 캐시)
+ * ID는 모든 shard에서 겹치지 않아야 한다 (shard마다 AUTO_INCREMENT 범위를 나눠서 사용).
+ * ID의 학원은 바뀌지 않으므로 캐시는 만료 없이 크기만 제한한다 (학원의 shard는 ShardDirectory가 관리).
+ */
+public class AcademyResolver {
+    public static final String ACADEMY_ID = "academyId";
+    private static final int MAX_CACHED = 100_000;
+
+    private final Shards shards;
+    private final Map<String, Long> cache = new ConcurrentHashMap<>();
+
+    public AcademyResolver(Shards shards) {
+        this.shards = shards;
+    }
+
+    public static boolean supports(String key) {
+        return ACADEMY_ID.equals(key) || AcademyScope.ACADEMY_LOOKUPS.containsKey(key);
+    }
+
+    /**
+     * @param key academyId, studentId, classId 등 (AcademyScope.ACADEMY_LOOKUPS)
+     * @return 학원 ID, 어느 shard에도 없으면 empty
+     */
+    public Optional<Long> academyOf(String key, Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (ACADEMY_ID.equals(key)) {
+            return Optional.of(id);
+        }
+        String sql = AcademyScope.ACADEMY_LOOKUPS.get(key);
+        if (sql == null || !shards.isSharded()) {
+            return Optional.empty();
+        }
+        String cacheKey = key + ":" + id;
+        Long cached = cache.get(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        for (String shard : shards.names()) {
+            List<Long> found = shards.jdbc(shard).queryForList(sql, Long.class, id);
+            if (!found.isEmpty()) {
+                if (cache.size() >= MAX_CACHED) {
+                    cache.clear();
+                }
+                cache.put(cacheKey, found.get(0));
+                return Optional.of(found.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return 학원이 있는 shard, 학원을 찾지 못하면 기본 shard
+     */
+    public String shardOf(String key, Long id, ShardDirectory directory) {
+        return academyOf(key, id).map(directory::shardOf).orElse(shards.getDefaultShard());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.sharding;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학원 단위로 shard에 함께 두는 테이블과, 각 ID로 학원을 찾는 SQL
+ * teachers, job_leases, academy_shards는 학원에 속하지 않아 기본 shard에만 둔다.
+ * 학원에 속하는 테이블을 추가하면 여기에도 추가해야 ShardMigrator가 함께 옮긴다.
+ */
+final class AcademyScope {
+
+    /**
+     * @param where academy_id 하나(?)를 받는 조건
+     */
+    record Table(String name, String where) {
+    }
+
+    private static final String STUDENTS = "SELECT id FROM students WHERE academy_id = ?";
+    private static final String TESTS = "SELECT id FROM tests WHERE academy_id = ?";
+    private static final String CLINICS = "SELECT id FROM clinics WHERE class_id IN (SELECT id FROM academy_classes WHERE academy_id = ?)";
+
+    /**
+     * 부모 테이블 먼저 (복사는 이 순서, 삭제는 역순)
+     */
+    static final List<Table> TABLES = List.of(
+            new Table("academies", "id = ?"),
+            new Table("academy_classes", "academy_id = ?"),
+            new Table("students", "academy_id = ?"),
+            new Table("lessons", "academy_id = ?"),
+            new Table("tests", "academy_id = ?"),
+            new Table("test_questions", "test_id IN (" + TESTS + ")"),
+            new Table("student_submissions", "student_id IN (" + STUDENTS + ")"),
+            new Table("student_submission_details",
+                    "submission_id IN (SELECT id FROM student_submissions WHERE student_id IN (" + STUDENTS + "))"),
+            new Table("homeworks", "academy_id = ?"),
+            new Table("student_homeworks", "student_id IN (" + STUDENTS + ")"),
+            new Table("student_lessons", "student_id IN (" + STUDENTS + ")"),
+            new Table("clinics", "class_id IN (SELECT id FROM academy_classes WHERE academy_id = ?)"),
+            new Table("clinic_registrations", "clinic_id IN (" + CLINICS + ")"));
+
+    /**
+     * 요청의 ID 종류(경로 변수/파라미터 이름) -> 그 ID로 academy_id를 찾는 SQL
+     */
+    static final Map<String, String> ACADEMY_LOOKUPS = Map.of(
+            "classId", "SELECT academy_id FROM academy_classes WHERE id = ?",
+            "studentId", "SELECT academy_id FROM students WHERE id = ?",
+            "lessonId", "SELECT academy_id FROM lessons WHERE id = ?",
+            "testId", "SELECT academy_id FROM tests WHERE id = ?",
+            "homeworkId", "SELECT academy_id FROM homeworks WHERE id = ?",
+            "clinicId", "SELECT c.academy_id FROM clinics cl JOIN academy_classes c ON c.id = cl.class_id WHERE cl.id = ?",
+            "registrationId", "SELECT c.academy_id FROM clinic_registrations r JOIN clinics cl ON cl.id = r.clinic_id "
+                    + "JOIN academy_classes c ON c.id = cl.class_id WHERE r.id = ?",
+            "submissionId", "SELECT st.academy_id FROM student_submissions s JOIN students st ON st.id = s.student_id WHERE s.id = ?",
+            "questionId", "SELECT t.academy_id FROM test_questions q JOIN tests t ON t.id = q.test_id WHERE q.id = ?");
+
+    /**
+     * /api/{resource}/{id}의 id가 어떤 ID인지
+     */
+    static final Map<String, String> RESOURCE_ID_KEYS = Map.of(
+            "academies", "academyId",
+            "classes", "classId",
+            "students", "studentId",
+            "lessons", "lessonId",
+            "tests", "testId",
+            "homeworks", "homeworkId",
+            "clinics", "clinicId",
+            "submissions", "submissionId",
+            "questions", "questionId");
+
+    private AcademyScope() {
+    }
+}
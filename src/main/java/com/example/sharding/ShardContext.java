@@ -0,0 +1,47 @@
+package com.example.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 shard 이름
+ * 요청 스레드에서는 ShardRoutingInterceptor가 설정/해제하고, 설정되지 않으면 기본 shard를 사용한다.
+ * 연결을 얻는 시점(트랜잭션 시작)에 적용되므로 트랜잭션 밖에서 바꿔야 한다.
+ */
+public final class ShardContext {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return 현재 shard 이름, 설정되지 않았으면 null
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    static void set(String shard) {
+        CURRENT.set(shard);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * shard를 바꿔서 실행하고 이전 값으로 되돌린다
+     */
+    public static <T> T callOn(String shard, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
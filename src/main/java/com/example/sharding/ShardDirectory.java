@@ -0,0 +1,139 @@
+package com.example.sharding;
+
+import com.example.entity.AcademyShardStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 학원 -> shard 디렉터리 (기본 shard의 academy_shards 테이블)
+ * 요청마다 조회하지 않도록 전체를 메모리에 두고 cacheTtl마다 다시 읽는다.
+ * 인스턴스가 여러 개면 다른 인스턴스는 최대 cacheTtl 늦게 변경을 보므로 ShardMigrator가 그만큼 기다린다.
+ */
+@Slf4j
+public class ShardDirectory {
+    private final Shards shards;
+    // 비어 있으면 학원 수가 가장 적은 shard
+    private final String newAcademyShard;
+    private final Duration cacheTtl;
+    private volatile Snapshot snapshot;
+
+    public record Entry(Long academyId, String shard, AcademyShardStatus status, LocalDateTime updatedAt) {
+    }
+
+    private record Snapshot(Map<Long, Entry> entries, long loadedAtNanos) {
+    }
+
+    public ShardDirectory(Shards shards, String newAcademyShard, Duration cacheTtl) {
+        this.shards = shards;
+        this.newAcademyShard = newAcademyShard;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * @return 학원이 있는 shard (디렉터리에 없으면 기본 shard)
+     */
+    public String shardOf(Long academyId) {
+        return find(academyId).map(Entry::shard).orElse(shards.getDefaultShard());
+    }
+
+    public boolean isMigrating(Long academyId) {
+        return find(academyId).map(entry -> entry.status() == AcademyShardStatus.MIGRATING).orElse(false);
+    }
+
+    public Optional<Entry> find(Long academyId) {
+        if (!shards.isSharded() || academyId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries().get(academyId));
+    }
+
+    public List<Entry> list() {
+        if (!shards.isSharded()) {
+            return List.of();
+        }
+        return entries().values().stream()
+                .sorted(Comparator.comparing(Entry::academyId))
+                .toList();
+    }
+
+    /**
+     * 학원의 shard/상태 기록 (없으면 추가)
+     */
+    public void assign(Long academyId, String shard, AcademyShardStatus status) {
+        if (!shards.exists(shard)) {
+            throw new RuntimeException("Unknown shard: " + shard);
+        }
+        if (!shards.isSharded()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        JdbcTemplate jdbc = directory();
+        int updated = jdbc.update("UPDATE academy_shards SET shard = ?, status = ?, updated_at = ? WHERE academy_id = ?",
+                shard, status.name(), now, academyId);
+        if (updated == 0) {
+            jdbc.update("INSERT INTO academy_shards (academy_id, shard, status, updated_at) VALUES (?, ?, ?, ?)",
+                    academyId, shard, status.name(), now);
+        }
+        snapshot = null;
+        log.info("Academy {} assigned to shard {} ({})", academyId, shard, status);
+    }
+
+    public void remove(Long academyId) {
+        if (shards.isSharded()) {
+            directory().update("DELETE FROM academy_shards WHERE academy_id = ?", academyId);
+            snapshot = null;
+        }
+    }
+
+    /**
+     * 새 학원을 만들 shard
+     */
+    public String shardForNewAcademy() {
+        if (!shards.isSharded()) {
+            return shards.getDefaultShard();
+        }
+        if (newAcademyShard != null && !newAcademyShard.isBlank()) {
+            return newAcademyShard;
+        }
+        Map<String, Integer> academies = new HashMap<>();
+        for (String shard : shards.names()) {
+            academies.put(shard, shards.jdbc(shard).queryForObject("SELECT COUNT(*) FROM academies", Integer.class));
+        }
+        return shards.names().stream()
+                .min(Comparator.comparing(academies::get))
+                .orElse(shards.getDefaultShard());
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    private Map<Long, Entry> entries() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAtNanos() > cacheTtl.toNanos()) {
+            Map<Long, Entry> entries = new HashMap<>();
+            directory().query("SELECT academy_id, shard, status, updated_at FROM academy_shards", rs -> {
+                Entry entry = new Entry(rs.getLong("academy_id"), rs.getString("shard"),
+                        AcademyShardStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("updated_at").toLocalDateTime());
+                entries.put(entry.academyId(), entry);
+            });
+            current = new Snapshot(Map.copyOf(entries), System.nanoTime());
+            snapshot = current;
+        }
+        return current.entries();
+    }
+
+    private JdbcTemplate directory() {
+        return shards.jdbc(shards.getDefaultShard());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.sharding;
+
+import com.example.entity.AcademyShardStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 학원 하나를 다른 shard로 옮긴다 (POST /actuator/shards)
+ * 1. 디렉터리에 MIGRATING 표시 -> 다른 인스턴스 캐시가 갱신될 때까지 대기 (이후 그 학원의 쓰기 요청은 503)
+ * 2. AcademyScope.TABLES 순서로 대상 shard에 같은 ID 그대로 복사, 테이블별 행 수 확인
+ * 3. 디렉터리를 대상 shard(ACTIVE)로 변경 -> 캐시 갱신 대기 -> 원래 shard에서 삭제
+ * 복사/확인이 실패하면 대상 shard에 복사한 행을 지우고 원래 shard(ACTIVE)로 되돌린다.
+ * MySQL에서 큰 학원을 옮길 때는 shard URL에 useCursorFetch=true를 넣어야 원본을 나눠서 읽는다.
+ */
+@Slf4j
+public class ShardMigrator {
+    private static final int BATCH_SIZE = 1000;
+
+    private final Shards shards;
+    private final ShardDirectory directory;
+
+    public record Result(Long academyId, String source, String target, Map<String, Integer> copiedRows,
+                         long elapsedMillis) {
+    }
+
+    public ShardMigrator(Shards shards, ShardDirectory directory) {
+        this.shards = shards;
+        this.directory = directory;
+    }
+
+    public synchronized Result migrate(Long academyId, String target) {
+        String source = directory.shardOf(academyId);
+        if (!shards.exists(target)) {
+            throw new RuntimeException("Unknown shard: " + target);
+        }
+        if (source.equals(target)) {
+            throw new RuntimeException("Academy " + academyId + " is already on shard " + target);
+        }
+        if (count(source, AcademyScope.TABLES.get(0), academyId) == 0) {
+            throw new RuntimeException("Academy not found on shard " + source + ": " + academyId);
+        }
+        if (count(target, AcademyScope.TABLES.get(0), academyId) != 0) {
+            throw new RuntimeException("Academy " + academyId + " already exists on shard " + target);
+        }
+
+        long startNanos = System.nanoTime();
+        log.info("Migrating academy {} from shard {} to {}", academyId, source, target);
+        directory.assign(academyId, source, AcademyShardStatus.MIGRATING);
+        waitForDirectoryCaches();
+
+        Map<String, Integer> copied = new LinkedHashMap<>();
+        try {
+            for (AcademyScope.Table table : AcademyScope.TABLES) {
+                int rows = copy(table, academyId, source, target);
+                int sourceRows = count(source, table, academyId);
+                int targetRows = count(target, table, academyId);
+                if (rows != sourceRows || rows != targetRows) {
+                    throw new RuntimeException("Row count mismatch on " + table.name() + ": source=" + sourceRows
+                            + ", copied=" + rows + ", target=" + targetRows);
+                }
+                copied.put(table.name(), rows);
+            }
+        } catch (RuntimeException e) {
+            log.error("Migration of academy {} failed, rolling back shard {}", academyId, target, e);
+            delete(target, academyId);
+            directory.assign(academyId, source, AcademyShardStatus.ACTIVE);
+            throw new RuntimeException("Migration of academy " + academyId + " failed: " + e.getMessage(), e);
+        }
+
+        directory.assign(academyId, target, AcademyShardStatus.ACTIVE);
+        waitForDirectoryCaches();
+        delete(source, academyId);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Migrated academy {} from shard {} to {} in {} ms: {}", academyId, source, target, elapsedMillis, copied);
+        return new Result(academyId, source, target, copied, elapsedMillis);
+    }
+
+    private int copy(AcademyScope.Table table, Long academyId, String source, String target) {
+        JdbcTemplate reader = new JdbcTemplate(shards.jdbc(source).getDataSource());
+        reader.setFetchSize(BATCH_SIZE);
+        JdbcTemplate writer = shards.jdbc(target);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        String[] insert = new String[1];
+        int[] rows = new int[1];
+
+        reader.query("SELECT * FROM " + table.name() + " WHERE " + table.where(), rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            if (insert[0] == null) {
+                StringJoiner names = new StringJoiner(", ");
+                for (int i = 1; i <= columns; i++) {
+                    names.add(meta.getColumnName(i));
+                }
+                insert[0] = "INSERT INTO " + table.name() + " (" + names + ") VALUES ("
+                        + "?, ".repeat(columns - 1) + "?)";
+            }
+            Object[] row = new Object[columns];
+            for (int i = 1; i <= columns; i++) {
+                row[i - 1] = rs.getObject(i);
+            }
+            batch.add(row);
+            rows[0]++;
+            if (batch.size() >= BATCH_SIZE) {
+                writer.batchUpdate(insert[0], batch);
+                batch.clear();
+            }
+        }, academyId);
+
+        if (!batch.isEmpty()) {
+            writer.batchUpdate(insert[0], batch);
+        }
+        return rows[0];
+    }
+
+    /**
+     * 자식 테이블부터 삭제
+     */
+    private void delete(String shard, Long academyId) {
+        List<AcademyScope.Table> tables = new ArrayList<>(AcademyScope.TABLES);
+        Collections.reverse(tables);
+        for (AcademyScope.Table table : tables) {
+            shards.jdbc(shard).update("DELETE FROM " + table.name() + " WHERE " + table.where(), academyId);
+        }
+    }
+
+    private int count(String shard, AcademyScope.Table table, Long academyId) {
+        Integer count = shards.jdbc(shard).queryForObject(
+                "SELECT COUNT(*) FROM " + table.name() + " WHERE " + table.where(), Integer.class, academyId);
+        return count != null ? count : 0;
+    }
+
+    private void waitForDirectoryCaches() {
+        try {
+            Thread.sleep(directory.getCacheTtl().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Migration interrupted", e);
+        }
+    }
+}
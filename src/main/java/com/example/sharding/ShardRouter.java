@@ -0,0 +1,55 @@
+package com.example.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 요청에서 찾은 ID로 학원을 구해서 ShardContext를 설정 (ShardRoutingInterceptor, ShardRoutingBodyAdvice 공통)
+ */
+@RequiredArgsConstructor
+class ShardRouter {
+    private final ShardDirectory directory;
+    private final AcademyResolver resolver;
+
+    /**
+     * @param key academyId, studentId, classId 등
+     * @return 학원 ID, 지원하지 않는 키이거나 찾지 못하면 null
+     */
+    Long academyOf(String key, Object value) {
+        Long id = toLong(value);
+        if (key == null || id == null || !AcademyResolver.supports(key)) {
+            return null;
+        }
+        return resolver.academyOf(key, id).orElse(null);
+    }
+
+    /**
+     * 이동 중(MIGRATING)인 학원에 대한 쓰기는 503으로 거절
+     */
+    void route(Long academyId, String method) {
+        if (isWrite(method) && directory.isMigrating(academyId)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "학원 데이터를 이동하는 중입니다. 잠시 후 다시 시도하세요.");
+        }
+        ShardContext.set(directory.shardOf(academyId));
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Long.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.sharding;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 경로/파라미터로 학원을 찾지 못한 요청은 본문 DTO의 academyId, classId, studentId 등으로 찾는다
+ * (학생/시험 생성, 학생 로그인 등). 컨트롤러 실행 전이라 서비스 트랜잭션보다 먼저 적용된다.
+ */
+@ControllerAdvice
+public class ShardRoutingBodyAdvice extends RequestBodyAdviceAdapter {
+    private static final List<String> BODY_KEYS =
+            List.of("academyId", "classId", "studentId", "testId", "lessonId", "homeworkId");
+
+    private final Shards shards;
+    private final ShardRouter router;
+
+    public ShardRoutingBodyAdvice(Shards shards, ShardDirectory directory, AcademyResolver resolver) {
+        this.shards = shards;
+        this.router = new ShardRouter(directory, resolver);
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return shards.isSharded();
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (ShardContext.current() != null || body == null || body instanceof Iterable<?>) {
+            return body;
+        }
+        BeanWrapper wrapper = new BeanWrapperImpl(body);
+        for (String key : BODY_KEYS) {
+            if (wrapper.isReadableProperty(key)) {
+                Long academyId = router.academyOf(key, wrapper.getPropertyValue(key));
+                if (academyId != null) {
+                    ServletRequestAttributes request = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+                    router.route(academyId, request.getRequest().getMethod());
+                    break;
+                }
+            }
+        }
+        return body;
+    }
+}
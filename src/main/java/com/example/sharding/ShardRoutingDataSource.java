@@ -0,0 +1,83 @@
+package com.example.sharding;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * ShardContext의 shard로 연결을 보내는 DataSource (설정되지 않으면 기본 shard)
+ * 기본 shard는 원래 DataSource 그대로라서 읽기 replica 라우팅(ReplicaRoutingDataSource)도 유지된다.
+ */
+public class ShardRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private final String defaultShard;
+    // shard 이름 -> DataSource (기본 shard 포함, 등록 순서 유지)
+    private final Map<String, DataSource> shards;
+
+    public ShardRoutingDataSource(String defaultShard, Map<String, DataSource> shards) {
+        this.defaultShard = defaultShard;
+        this.shards = shards;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource(ShardContext.current()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return dataSource(ShardContext.current()).getConnection(username, password);
+    }
+
+    public DataSource dataSource(String shard) {
+        if (shard == null) {
+            return shards.get(defaultShard);
+        }
+        DataSource dataSource = shards.get(shard);
+        if (dataSource == null) {
+            throw new IllegalStateException("Unknown shard: " + shard);
+        }
+        return dataSource;
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    public Map<String, DataSource> getShards() {
+        return shards;
+    }
+
+    /**
+     * 추가 shard 풀을 닫는다 (기본 shard는 원래 DataSource의 소유)
+     */
+    @Override
+    public void close() {
+        for (Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            if (!shard.getKey().equals(defaultShard) && shard.getValue() instanceof AutoCloseable pool) {
+                try {
+                    pool.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to close shard pool: " + shard.getKey(), e);
+                }
+            }
+        }
+    }
+
+    // Hikari 메트릭, replica 상태 확인 등 unwrap은 기본 shard 기준
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return shards.get(defaultShard).unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || shards.get(defaultShard).isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.sharding;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청의 학원을 찾아서 그 학원의 shard로 ShardContext를 설정한다
+ * 1. X-Academy-Id 헤더
+ * 2. 경로 변수 (academyId, classId, studentId, ... / /api/{resource}/{id})
+ * 3. 요청 파라미터 (academyId, classId, studentId, testId, ...)
+ * 4. 세션의 academyId (학생 로그인 시 저장)
+ * 여기서 찾지 못하면 요청 본문(ShardRoutingBodyAdvice), 그래도 없으면 기본 shard.
+ */
+public class ShardRoutingInterceptor implements HandlerInterceptor {
+    public static final String ACADEMY_HEADER = "X-Academy-Id";
+    public static final String SESSION_ACADEMY_ID = "academyId";
+    private static final List<String> PARAM_KEYS =
+            List.of("academyId", "classId", "studentId", "testId", "lessonId", "homeworkId");
+
+    private final ShardRouter router;
+
+    public ShardRoutingInterceptor(ShardDirectory directory, AcademyResolver resolver) {
+        this.router = new ShardRouter(directory, resolver);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long academyId = resolveAcademy(request);
+        if (academyId != null) {
+            router.route(academyId, request.getMethod());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ShardContext.clear();
+    }
+
+    private Long resolveAcademy(HttpServletRequest request) {
+        Long header = router.academyOf(AcademyResolver.ACADEMY_ID, request.getHeader(ACADEMY_HEADER));
+        if (header != null) {
+            return header;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null) {
+            for (Map.Entry<String, String> variable : pathVariables.entrySet()) {
+                String key = "id".equals(variable.getKey()) ? resourceIdKey(request.getRequestURI()) : variable.getKey();
+                Long academyId = router.academyOf(key, variable.getValue());
+                if (academyId != null) {
+                    return academyId;
+                }
+            }
+        }
+
+        for (String key : PARAM_KEYS) {
+            Long academyId = router.academyOf(key, request.getParameter(key));
+            if (academyId != null) {
+                return academyId;
+            }
+        }
+
+        HttpSession session = request.getSession(false);
+        return session != null ? (Long) session.getAttribute(SESSION_ACADEMY_ID) : null;
+    }
+
+    /**
+     * /api/students/5 -> studentId
+     */
+    private static String resourceIdKey(String uri) {
+        String[] segments = uri.split("/");
+        return segments.length > 2 ? AcademyScope.RESOURCE_ID_KEYS.get(segments[2]) : null;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * shard 목록과 shard별 JDBC 접근
+ * 샤딩을 설정하지 않으면 기본 shard 하나(원래 DataSource)만 있어서 호출하는 쪽은 같은 코드로 동작한다.
+ */
+@Slf4j
+public class Shards {
+    private final String defaultShard;
+    private final Map<String, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+
+    public Shards(DataSource dataSource, String defaultShard, MeterRegistry registry) {
+        ShardRoutingDataSource routing = unwrap(dataSource);
+        if (routing == null) {
+            this.defaultShard = defaultShard;
+            jdbcTemplates.put(defaultShard, new JdbcTemplate(dataSource));
+        } else {
+            this.defaultShard = routing.getDefaultShard();
+            routing.getShards().forEach((name, shard) -> {
+                jdbcTemplates.put(name, new JdbcTemplate(shard));
+                // 추가 shard 풀은 빈이 아니라 hikaricp.* 메트릭이 자동으로 붙지 않음 (풀 시작 전에 설정)
+                if (shard instanceof HikariDataSource pool && pool.getMetricsTrackerFactory() == null
+                        && pool.getMetricRegistry() == null) {
+                    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+            });
+        }
+    }
+
+    public boolean isSharded() {
+        return jdbcTemplates.size() > 1;
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    public List<String> names() {
+        return List.copyOf(jdbcTemplates.keySet());
+    }
+
+    public boolean exists(String shard) {
+        return jdbcTemplates.containsKey(shard);
+    }
+
+    /**
+     * shard에 직접 연결하는 JdbcTemplate (ShardContext와 무관)
+     */
+    public JdbcTemplate jdbc(String shard) {
+        JdbcTemplate jdbcTemplate = jdbcTemplates.get(shard);
+        if (jdbcTemplate == null) {
+            throw new RuntimeException("Unknown shard: " + shard);
+        }
+        return jdbcTemplate;
+    }
+
+    /**
+     * shard마다 action을 실행 (action 안의 트랜잭션/리포지토리 호출이 해당 shard로 간다)
+     * 트랜잭션 밖에서 호출해야 한다.
+     */
+    public <T> List<T> onEachShard(Supplier<T> action) {
+        List<T> results = new ArrayList<>(jdbcTemplates.size());
+        for (String shard : jdbcTemplates.keySet()) {
+            results.add(ShardContext.callOn(shard, action));
+        }
+        return results;
+    }
+
+    /**
+     * shard마다 AUTO_INCREMENT가 만드는 ID가 겹치지 않는지 확인 (학원 이동 시 ID를 그대로 복사하므로 필요)
+     * 모든 shard가 같은 auto_increment_increment(shard 수 이상)를 쓰고 auto_increment_offset이 서로 달라야 한다.
+     * MySQL이 아닌 DB(테스트용 H2 등)는 확인하지 않는다.
+     */
+    public void verifyDisjointIds() {
+        if (!isSharded()) {
+            return;
+        }
+        Map<String, IdSequence> sequences = new LinkedHashMap<>();
+        for (Map.Entry<String, JdbcTemplate> shard : jdbcTemplates.entrySet()) {
+            JdbcTemplate jdbc = shard.getValue();
+            String product = jdbc.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (product == null || !(product.contains("MySQL") || product.contains("MariaDB"))) {
+                log.info("Skipping AUTO_INCREMENT range check on shard {} ({})", shard.getKey(), product);
+                return;
+            }
+            sequences.put(shard.getKey(), jdbc.queryForObject(
+                    "SELECT @@auto_increment_increment, @@auto_increment_offset",
+                    (rs, rowNum) -> new IdSequence(rs.getInt(1), rs.getInt(2))));
+        }
+        checkDisjoint(sequences);
+    }
+
+    /**
+     * @throws IllegalStateException 두 shard가 같은 ID를 만들 수 있으면
+     */
+    static void checkDisjoint(Map<String, IdSequence> sequences) {
+        int increment = sequences.values().iterator().next().increment();
+        Map<Integer, String> offsets = new HashMap<>();
+        for (Map.Entry<String, IdSequence> shard : sequences.entrySet()) {
+            IdSequence sequence = shard.getValue();
+            if (sequence.increment() != increment || sequence.increment() < sequences.size()) {
+                throw new IllegalStateException("Shards must share auto_increment_increment >= " + sequences.size()
+                        + ": " + sequences);
+            }
+            // offset이 increment보다 크면 MySQL이 offset을 무시한다
+            if (sequence.offset() < 1 || sequence.offset() > sequence.increment()) {
+                throw new IllegalStateException("auto_increment_offset of shard " + shard.getKey()
+                        + " must be between 1 and " + sequence.increment() + ": " + sequence);
+            }
+            String other = offsets.putIfAbsent(sequence.offset(), shard.getKey());
+            if (other != null) {
+                throw new IllegalStateException("Shards " + other + " and " + shard.getKey()
+                        + " share auto_increment_offset " + sequence.offset());
+            }
+        }
+    }
+
+    /**
+     * AUTO_INCREMENT가 만드는 ID: offset, offset + increment, offset + 2 * increment, ...
+     */
+    record IdSequence(int increment, int offset) {
+    }
+
+    private static ShardRoutingDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ShardRoutingDataSource.class)
+                    ? dataSource.unwrap(ShardRoutingDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/shards: shard별 학원 수와 디렉터리
+ * POST /actuator/shards {"academyId": 3, "target": "shard2"}: 학원을 다른 shard로 이동 (끝날 때까지 응답 대기)
+ */
+@Component
+@Endpoint(id = "shards")
+@RequiredArgsConstructor
+public class ShardsEndpoint {
+    private final Shards shards;
+    private final ShardDirectory directory;
+    private final ShardMigrator migrator;
+
+    public record ShardsReport(String defaultShard, Map<String, Integer> academies,
+                               List<ShardDirectory.Entry> directory) {
+    }
+
+    @ReadOperation
+    public ShardsReport shards() {
+        Map<String, Integer> academies = new LinkedHashMap<>();
+        for (String shard : shards.names()) {
+            academies.put(shard, shards.jdbc(shard).queryForObject("SELECT COUNT(*) FROM academies", Integer.class));
+        }
+        return new ShardsReport(shards.getDefaultShard(), academies, directory.list());
+    }
+
+    @WriteOperation
+    public ShardMigrator.Result migrate(Long academyId, String target) {
+        return migrator.migrate(academyId, target);
+    }
+}
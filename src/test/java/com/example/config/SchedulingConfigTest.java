@@ -0,0 +1,60 @@
+package com.example.config;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * app.scheduling.enabled: 값과 관계없이 @Scheduled 메서드는 모두 등록되고,
+ * false일 때만 스케줄러에 넘기지 않는지 (다음 실행 시각이 없는지)
+ */
+@ActiveProfiles("test")
+class SchedulingConfigTest {
+
+    @Nested
+    @SpringBootTest // 테스트 프로필 기본값 app.scheduling.enabled=false
+    class Disabled {
+        @Autowired
+        private List<ScheduledTaskHolder> holders;
+
+        @Test
+        void scheduledMethodsAreNotStarted() {
+            Set<ScheduledTask> tasks = tasks(holders);
+
+            assertThat(tasks).isNotEmpty();
+            assertThat(tasks).allSatisfy(task -> assertThat(task.nextExecution()).as(task.toString()).isNull());
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = "app.scheduling.enabled=true")
+    @DirtiesContext // 예약 작업이 도는 컨텍스트를 다른 테스트와 같이 쓰지 않는다
+    class Enabled {
+        @Autowired
+        private List<ScheduledTaskHolder> holders;
+
+        @Test
+        void scheduledMethodsAreStarted() {
+            Set<ScheduledTask> tasks = tasks(holders);
+
+            assertThat(tasks).isNotEmpty();
+            assertThat(tasks).allSatisfy(task -> assertThat(task.nextExecution()).as(task.toString()).isNotNull());
+        }
+    }
+
+    private static Set<ScheduledTask> tasks(List<ScheduledTaskHolder> holders) {
+        return holders.stream().flatMap(holder -> holder.getScheduledTasks().stream())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.datasource;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * replica에 연결할 수 없으면 읽기 전용 트랜잭션도 primary로 처리하고, retry-interval 동안은 replica를 다시 시도하지 않는다
+ */
+@SpringBootTest(properties = {
+        // 열려 있지 않은 포트의 H2 서버
+        "app.datasource.replica.url=jdbc:h2:tcp://127.0.0.1:1/unreachable",
+        "app.datasource.replica.connection-timeout=300ms",
+        "app.datasource.replica.retry-interval=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaFallbackTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ReplicaRoutingDataSource routing;
+    private Long lessonId;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(1)
+                .studentsPerClass(5)
+                .weeks(1)
+                .build());
+        lessonId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM lessons", Long.class);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() throws Exception {
+        assertThat(routing.isReplicaAvailable()).isTrue();
+        long primaryBefore = routing.routedCount(ReplicaRoutingDataSource.Target.PRIMARY);
+
+        mockMvc.perform(get("/api/lessons/{id}", lessonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(lessonId));
+
+        assertThat(routing.fallbackCount()).isEqualTo(1);
+        assertThat(routing.isReplicaAvailable()).isFalse();
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Target.REPLICA)).isZero();
+
+        // 장애로 표시된 동안은 연결을 시도하지 않고 바로 primary
+        mockMvc.perform(get("/api/lessons/{id}", lessonId))
+                .andExpect(status().isOk());
+        assertThat(routing.fallbackCount()).isEqualTo(1);
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Target.PRIMARY)).isGreaterThanOrEqualTo(primaryBefore + 2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.datasource;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * primary/replica 내장 DB 두 개로 읽기/쓰기 분리 확인
+ * 두 DB에 같은 데이터를 넣고 replica에만 다른 값을 둬서, 응답 값으로 어느 DB에서 읽었는지 구분한다.
+ * (복제는 없으므로 primary에 쓴 값은 replica에 보이지 않는다)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "app.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.replica.read-your-writes-window=10s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaRoutingTest {
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER;DB_CLOSE_DELAY=-1";
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary" + H2_OPTIONS;
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica" + H2_OPTIONS;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    private ReplicaRoutingDataSource routing;
+    private Long lessonId;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+
+        // Hibernate가 primary에 만든 스키마를 replica에 복사하고 같은 데이터를 넣는다
+        List<String> schema = primary.queryForList("SCRIPT NODATA NOSETTINGS", String.class);
+        schema.stream()
+                .filter(sql -> !sql.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+        SyntheticDataSpec spec = SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(1)
+                .studentsPerClass(5)
+                .weeks(1)
+                .build();
+        new SyntheticDataGenerator(primary).generate(spec);
+        new SyntheticDataGenerator(replica).generate(spec);
+
+        lessonId = primary.queryForObject("SELECT MIN(id) FROM lessons", Long.class);
+        primary.update("UPDATE lessons SET announcement = 'primary' WHERE id = ?", lessonId);
+        replica.update("UPDATE lessons SET announcement = 'replica' WHERE id = ?", lessonId);
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() throws Exception {
+        long replicaBefore = routing.routedCount(ReplicaRoutingDataSource.Target.REPLICA);
+
+        // LessonService.getLesson은 @Transactional(readOnly = true)
+        mockMvc.perform(get("/api/lessons/{id}", lessonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.announcement").value("replica"));
+
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Target.REPLICA)).isGreaterThan(replicaBefore);
+        assertThat(routing.fallbackCount()).isZero();
+    }
+
+    @Test
+    void writesGoToPrimaryAndPinTheSessionToPrimary() throws Exception {
+        long primaryBefore = routing.routedCount(ReplicaRoutingDataSource.Target.PRIMARY);
+        MockHttpSession session = new MockHttpSession();
+
+        mockMvc.perform(put("/api/lessons/{id}/content", lessonId)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"announcement\": \"written\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Target.PRIMARY)).isGreaterThan(primaryBefore);
+        assertThat(primary.queryForObject("SELECT announcement FROM lessons WHERE id = ?", String.class, lessonId))
+                .isEqualTo("written");
+        assertThat(replica.queryForObject("SELECT announcement FROM lessons WHERE id = ?", String.class, lessonId))
+                .isEqualTo("replica");
+        assertThat(session.getAttribute(ReadYourWrites.LAST_WRITE_AT)).isNotNull();
+
+        // 같은 세션은 read-your-writes-window 동안 primary에서 읽어서 방금 쓴 값을 본다
+        mockMvc.perform(get("/api/lessons/{id}", lessonId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.announcement").value("written"));
+        // 다른 세션은 계속 replica (아직 복제되지 않은 값)
+        mockMvc.perform(get("/api/lessons/{id}", lessonId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.announcement").value("replica"));
+
+        // window가 지나면 다시 replica
+        session.setAttribute(ReadYourWrites.LAST_WRITE_AT, System.currentTimeMillis() - 60_000);
+        mockMvc.perform(get("/api/lessons/{id}", lessonId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.announcement").value("replica"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.fields;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * fields= 응답이 직렬화 단계에서 요청한 필드(중첩 필드, Page는 content, Map 키 포함)만 쓰는지
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long studentId;
+    private long classId;
+
+    @BeforeAll
+    void seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(1)
+                .studentsPerClass(5)
+                .weeks(2)
+                .seed(3)
+                .build());
+        studentId = jdbcTemplate.queryForObject("SELECT MIN(student_id) FROM student_submissions", Long.class);
+        classId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM academy_classes", Long.class);
+    }
+
+    @Test
+    void listKeepsOnlyRequestedNestedFields() throws Exception {
+        JsonNode submissions = getJson("/api/submissions/student/" + studentId + "?fields=id,totalScore,student.name");
+
+        assertThat(submissions.isArray()).isTrue();
+        assertThat(submissions).isNotEmpty();
+        for (JsonNode submission : submissions) {
+            assertThat(names(submission)).containsExactlyInAnyOrder("id", "totalScore", "student");
+            assertThat(names(submission.get("student"))).containsExactly("name");
+        }
+    }
+
+    @Test
+    void pageFiltersContentOnly() throws Exception {
+        JsonNode all = getJson("/api/lessons");
+        JsonNode page = getJson("/api/lessons?fields=id,lessonDate");
+
+        assertThat(names(page)).containsExactlyInAnyOrderElementsOf(names(all));
+        assertThat(page.get("content")).isNotEmpty();
+        for (JsonNode lesson : page.get("content")) {
+            assertThat(names(lesson)).containsExactlyInAnyOrder("id", "lessonDate");
+        }
+        assertThat(names(all.get("content").get(0))).hasSizeGreaterThan(2);
+    }
+
+    @Test
+    void mapKeysAreFilteredLikeFields() throws Exception {
+        JsonNode clinics = getJson("/api/clinics/class/" + classId + "?fields=id,statusCounts.REGISTERED");
+
+        assertThat(clinics).anySatisfy(clinic -> assertThat(clinic.path("statusCounts").has("REGISTERED")).isTrue());
+        for (JsonNode clinic : clinics) {
+            assertThat(names(clinic)).isSubsetOf("id", "statusCounts").contains("id");
+            if (clinic.has("statusCounts")) {
+                assertThat(names(clinic.get("statusCounts"))).isSubsetOf("REGISTERED");
+            }
+        }
+    }
+
+    @Test
+    void withoutFieldsEverythingIsWritten() throws Exception {
+        JsonNode submissions = getJson("/api/submissions/student/" + studentId);
+
+        assertThat(names(submissions.get(0))).hasSizeGreaterThan(3);
+        assertThat(names(submissions.get(0).get("student"))).hasSizeGreaterThan(1);
+    }
+
+    private JsonNode getJson(String uri) throws Exception {
+        String body = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> names(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
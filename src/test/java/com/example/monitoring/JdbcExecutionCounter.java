@@ -0,0 +1,111 @@
+package com.example.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 테스트용 DataSource 프록시: 현재 스레드에서 실행된 JDBC 문(execute*) 수를 센다
+ * 앱의 StatementCounter(Hibernate가 준비한 SQL)와 별개로 JdbcTemplate 실행까지 포함해서 센다.
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 예약 작업 등 다른 스레드의 SQL은 섞이지 않는다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class JdbcExecutionCounter {
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * 최종 DataSource(라우팅, SQL 통계 래퍼 적용 후)를 한 번 더 감싼다
+     */
+    @Bean
+    public static BeanPostProcessor jdbcExecutionCountingPostProcessor() {
+        return new CountingPostProcessor();
+    }
+
+    private static class CountingPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                return new CountingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    private static class CountingDataSource extends DelegatingDataSource {
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+
+    private static Connection proxy(Connection target) {
+        return (Connection) proxy(Connection.class, target);
+    }
+
+    private static Object proxy(Class<?> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return proxy(statementType(statement), statement);
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                COUNT.get()[0]++;
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(JdbcExecutionCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Class<?> statementType(Statement statement) {
+        if (statement instanceof CallableStatement) {
+            return CallableStatement.class;
+        }
+        if (statement instanceof PreparedStatement) {
+            return PreparedStatement.class;
+        }
+        return Statement.class;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
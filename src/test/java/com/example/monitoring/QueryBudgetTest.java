@@ -0,0 +1,169 @@
+package com.example.monitoring;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * @QueryBudget이 붙은 엔드포인트마다 실제 반 규모(학생 30명, 8주치 수업/시험/숙제/클리닉) 데이터로 요청해서
+ * 실행된 SQL 수가 예산 안인지 확인한다 (N+1 회귀 감지, 테스트에서는 app.query-budget.strict=true).
+ * SQL 수는 앱의 요청 프로파일(X-Query-Count)과 JDBC 실행 수(JdbcExecutionCounter) 양쪽으로 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(JdbcExecutionCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    // 핸들러 | 요청 URL ({이름}은 적재된 데이터의 ID)
+    private static final List<String[]> ENDPOINTS = List.of(
+            new String[]{"LessonController.getLessons", "/api/lessons"},
+            new String[]{"LessonController.getLessons", "/api/lessons?fields=id,lessonDate,testTitle"},
+            new String[]{"LessonController.getLesson", "/api/lessons/{lesson}"},
+            new String[]{"LessonController.getLessonsByClass", "/api/lessons/class/{class}"},
+            new String[]{"LessonController.getLessonsByStudent", "/api/lessons/student/{student}"},
+            new String[]{"TestController.getTests", "/api/tests"},
+            new String[]{"TestController.getTest", "/api/tests/{test}"},
+            new String[]{"TestController.getTestStats", "/api/tests/{test}/stats"},
+            new String[]{"TestController.getUnattachedTests", "/api/tests/unattached?academyId={academy}&classId={class}"},
+            new String[]{"SubmissionController.getSubmission", "/api/submissions/{submission}"},
+            new String[]{"SubmissionController.getSubmissionByStudentAndTest", "/api/submissions?studentId={student}&testId={test}"},
+            new String[]{"SubmissionController.getStudentSubmissions", "/api/submissions/student/{student}"},
+            new String[]{"SubmissionController.getStudentSubmissions", "/api/submissions/student/{student}?fields=id,totalScore,student.name"},
+            new String[]{"SubmissionController.getTestSubmissions", "/api/submissions/test/{test}"},
+            new String[]{"ClinicController.getClinicsByClass", "/api/clinics/class/{class}"},
+            new String[]{"ClinicController.getClinicDetail", "/api/clinics/{clinic}/detail"});
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    // URL 자리표시자 -> 적재된 데이터의 ID
+    private final Map<String, Long> ids = new HashMap<>();
+
+    @BeforeAll
+    void seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(2)
+                .studentsPerClass(30)
+                .weeks(8)
+                .seed(7)
+                .build());
+
+        ids.put("academy", jdbcTemplate.queryForObject("SELECT MIN(id) FROM academies", Long.class));
+        ids.put("class", jdbcTemplate.queryForObject("SELECT MIN(id) FROM academy_classes", Long.class));
+        ids.put("student", jdbcTemplate.queryForObject(
+                "SELECT MIN(student_id) FROM student_submissions", Long.class));
+        ids.put("test", jdbcTemplate.queryForObject(
+                "SELECT test_id FROM student_submissions WHERE student_id = ? ORDER BY test_id LIMIT 1",
+                Long.class, ids.get("student")));
+        ids.put("submission", jdbcTemplate.queryForObject(
+                "SELECT id FROM student_submissions WHERE student_id = ? AND test_id = ?",
+                Long.class, ids.get("student"), ids.get("test")));
+        ids.put("lesson", jdbcTemplate.queryForObject(
+                "SELECT lesson_id FROM tests WHERE id = ?", Long.class, ids.get("test")));
+        // 신청자가 가장 많은 클리닉
+        ids.put("clinic", jdbcTemplate.queryForObject(
+                "SELECT clinic_id FROM clinic_registrations GROUP BY clinic_id ORDER BY COUNT(*) DESC, clinic_id LIMIT 1",
+                Long.class));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("endpoints")
+    void staysWithinQueryBudget(String handler, String url) throws Exception {
+        String uri = resolve(url);
+        JdbcExecutionCounter.reset();
+        MvcResult result = mockMvc.perform(get(uri)).andReturn();
+        int executed = JdbcExecutionCounter.count();
+
+        int budget = budgetOf(handler);
+        assertThat(result.getResponse().getStatus()).as("status of %s", uri).isEqualTo(200);
+        String counted = result.getResponse().getHeader(QueryBudgetAdvice.QUERY_COUNT_HEADER);
+        assertThat(counted).as("%s header of %s", QueryBudgetAdvice.QUERY_COUNT_HEADER, uri).isNotNull();
+        assertThat(Integer.parseInt(counted)).as("statements prepared by %s (budget %d)", uri, budget)
+                .isLessThanOrEqualTo(budget);
+        assertThat(executed).as("JDBC statements executed by %s (budget %d)", uri, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+
+    static Stream<Arguments> endpoints() {
+        return ENDPOINTS.stream().map(endpoint -> Arguments.of(endpoint[0], endpoint[1]));
+    }
+
+    /**
+     * 새로 @QueryBudget을 붙인 엔드포인트가 ENDPOINTS에서 빠지지 않도록
+     */
+    @Test
+    void everyBudgetedEndpointIsChecked() {
+        Set<String> budgeted = new TreeSet<>();
+        handlerMapping.getHandlerMethods().values().stream()
+                .filter(method -> method.hasMethodAnnotation(QueryBudget.class))
+                .forEach(method -> budgeted.add(name(method)));
+        assertThat(budgeted).isNotEmpty();
+        assertThat(ENDPOINTS.stream().map(endpoint -> endpoint[0]).distinct().toList())
+                .containsExactlyInAnyOrderElementsOf(budgeted);
+    }
+
+    private int budgetOf(String handler) {
+        return handlerMapping.getHandlerMethods().values().stream()
+                .filter(method -> name(method).equals(handler))
+                .map(method -> method.getMethodAnnotation(QueryBudget.class))
+                .filter(budget -> budget != null)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No @QueryBudget handler: " + handler))
+                .value();
+    }
+
+    private static String name(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+    }
+
+    private String resolve(String url) {
+        Matcher matcher = PLACEHOLDER.matcher(url);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            Long id = ids.get(matcher.group(1));
+            assertThat(id).as("seeded id for {%s}", matcher.group(1)).isNotNull();
+            matcher.appendReplacement(resolved, String.valueOf(id));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실패한 이벤트는 next_attempt_at까지 다시 전달하지 않고, 그동안 같은 aggregate의 이후 이벤트도 기다리는지
+ */
+@SpringBootTest(properties = {"app.outbox.retry-initial=1h", "app.outbox.retry-max=4h", "app.outbox.max-attempts=10"})
+@ActiveProfiles("test")
+@Import(OutboxDispatcherTest.RecordingHandlerConfig.class)
+class OutboxDispatcherTest {
+    private static final long FAILING_STUDENT = 1L;
+    private static final long OTHER_STUDENT = 2L;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        handler.delivered.clear();
+        handler.failing.clear();
+    }
+
+    @Test
+    void failedEventWaitsForBackoffAndBlocksItsAggregate() {
+        append(new ChangeEvent.SubmissionGraded(101L, FAILING_STUDENT, 1L, 80),
+                new ChangeEvent.SubmissionGraded(102L, FAILING_STUDENT, 2L, 90),
+                new ChangeEvent.SubmissionGraded(201L, OTHER_STUDENT, 1L, 70));
+        handler.failing.add(FAILING_STUDENT);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.poll();
+        assertThat(handler.delivered).containsExactly(201L);
+        Timestamp nextAttemptAt = jdbcTemplate.queryForObject(
+                "SELECT next_attempt_at FROM outbox_events WHERE payload LIKE '%\"submissionId\":101%'", Timestamp.class);
+        assertThat(nextAttemptAt.toLocalDateTime()).isAfterOrEqualTo(before.plusHours(1));
+
+        // 의존 대상이 복구돼도 대기 시간이 지나기 전에는 실패한 이벤트와 같은 학생의 이후 이벤트를 전달하지 않는다
+        handler.failing.clear();
+        dispatcher.poll();
+        dispatcher.poll();
+        assertThat(handler.delivered).containsExactly(201L);
+        assertThat(pending()).isEqualTo(2);
+
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = ? WHERE next_attempt_at IS NOT NULL",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        dispatcher.poll();
+        assertThat(handler.delivered).containsExactly(201L, 101L, 102L);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void backoffDoublesUpToMax() {
+        assertThat(dispatcher.backoff(0)).isEqualTo(Duration.ofHours(1));
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofHours(2));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofHours(4));
+        assertThat(dispatcher.backoff(9)).isEqualTo(Duration.ofHours(4));
+    }
+
+    private void append(ChangeEvent... events) {
+        transactionTemplate.executeWithoutResult(status -> outbox.appendAll(List.of(events)));
+    }
+
+    private int pending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE processed_at IS NULL", Integer.class);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RecordingHandlerConfig {
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    /**
+     * 전달받은 답안 ID를 순서대로 기록하고, failing에 있는 학생의 이벤트는 실패시킨다
+     */
+    static class RecordingHandler implements OutboxHandler<ChangeEvent.SubmissionGraded> {
+        final List<Long> delivered = new CopyOnWriteArrayList<>();
+        final Set<Long> failing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Class<ChangeEvent.SubmissionGraded> eventType() {
+            return ChangeEvent.SubmissionGraded.class;
+        }
+
+        @Override
+        public void handle(List<ChangeEvent.SubmissionGraded> events) {
+            for (ChangeEvent.SubmissionGraded event : events) {
+                if (failing.contains(event.studentId())) {
+                    throw new RuntimeException("projection store unavailable");
+                }
+            }
+            events.forEach(event -> delivered.add(event.submissionId()));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 제한 필터: 동시 처리 제한이 설정한 메서드/경로에만 걸리는지, Retry-After를 초 단위로 올림하는지,
+ * 제한 확인에 읽은 로그인 본문을 컨트롤러가 (비동기 ReadListener로도) 다시 읽을 수 있는지
+ */
+class RateLimitFilterTest {
+    private static final List<String> PATHS =
+            List.of("POST /api/submissions", "POST /api/auth/student/login", "/api/tests/*/stats");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrencyGateOnlyCoversConfiguredMethods() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Duration.ZERO, PATHS, registry);
+        RateLimitFilter filter = filter(limiter);
+        // 자리를 모두 차지한 상태
+        assertThat(limiter.tryAcquire()).isTrue();
+        try {
+            assertThat(perform(filter, "POST", "/api/submissions").getStatus()).isEqualTo(429);
+            assertThat(perform(filter, "GET", "/api/tests/1/stats").getStatus()).isEqualTo(429);
+            // 채점 큐 조회/접수는 메모리만 쓰므로 제한하지 않는다
+            assertThat(perform(filter, "GET", "/api/submissions/queue/ticket").getStatus()).isEqualTo(200);
+            assertThat(perform(filter, "POST", "/api/submissions/queue").getStatus()).isEqualTo(200);
+            assertThat(perform(filter, "GET", "/api/submissions").getStatus()).isEqualTo(200);
+        } finally {
+            limiter.release();
+        }
+        assertThat(perform(filter, "POST", "/api/submissions").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() throws Exception {
+        assertThat(secondSubmitRetryAfter(Duration.ofMillis(1500))).isEqualTo("2");
+        assertThat(secondSubmitRetryAfter(Duration.ofSeconds(1))).isEqualTo("1");
+        // 1초보다 짧아도 최소 1초
+        assertThat(secondSubmitRetryAfter(Duration.ofMillis(200))).isEqualTo("1");
+    }
+
+    @Test
+    void loginBodyCanBeReadWithReadListener() throws Exception {
+        String body = "{\"studentId\": 7, \"pin\": \"1234\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/student/login");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        FilterChain controller = (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("data");
+                    byte[] buffer = new byte[8];
+                    while (in.isReady() && !in.isFinished()) {
+                        int n = in.read(buffer);
+                        if (n > 0) {
+                            read.write(buffer, 0, n);
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+        };
+        filter(new ConcurrencyLimiter(0, Duration.ZERO, List.of(), registry)).doFilter(request, response, controller);
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    private String secondSubmitRetryAfter(Duration refill) throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(
+                unlimited("login-student"), unlimited("login-ip"),
+                new TokenBuckets("submit-student", 1, refill, 10, registry), unlimited("submit-ip"),
+                new ConcurrencyLimiter(0, Duration.ZERO, List.of(), registry), new ObjectMapper(), registry);
+        assertThat(submit(filter).getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = submit(filter);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        return rejected.getHeader(HttpHeaders.RETRY_AFTER);
+    }
+
+    private static MockHttpServletResponse submit(RateLimitFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/submissions");
+        request.setParameter("studentId", "7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private RateLimitFilter filter(ConcurrencyLimiter limiter) {
+        return new RateLimitFilter(
+                unlimited("login-student"), unlimited("login-ip"), unlimited("submit-student"), unlimited("submit-ip"),
+                limiter, new ObjectMapper(), registry);
+    }
+
+    private TokenBuckets unlimited(String name) {
+        return new TokenBuckets(name, 0, Duration.ofSeconds(1), 10, registry);
+    }
+
+    private static MockHttpServletResponse perform(RateLimitFilter filter, String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 토큰 버킷: capacity개까지 몰아서 쓰고 interval마다 하나씩 차는지,
+ * 키별 버킷이 maxKeys개를 넘지 않고(넘으면 공용 버킷) 가득 찬 버킷은 정리되는지
+ */
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // System.nanoTime()처럼 음수/임의의 시작값이어도 동작해야 한다
+    private static final long T0 = -5 * SECOND;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void burstUpToCapacityThenWaitForNextToken() {
+        TokenBucket bucket = new TokenBucket(3, SECOND, T0);
+
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isZero();
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(T0 + SECOND / 4)).isEqualTo(SECOND * 3 / 4);
+        assertThat(bucket.isFull(T0)).isFalse();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, T0);
+        bucket.tryAcquire(T0);
+        bucket.tryAcquire(T0);
+
+        assertThat(bucket.tryAcquire(T0 + SECOND)).isZero();
+        assertThat(bucket.tryAcquire(T0 + SECOND)).isEqualTo(SECOND);
+        // 거절된 요청은 토큰을 쓰지 않는다
+        assertThat(bucket.tryAcquire(T0 + 2 * SECOND)).isZero();
+        assertThat(bucket.isFull(T0 + 4 * SECOND)).isTrue();
+    }
+
+    @Test
+    void idleTimeDoesNotGrowBurstBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, T0);
+        long later = T0 + 3600 * SECOND;
+
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void disabledBucketsAllowEverything() {
+        TokenBuckets buckets = new TokenBuckets("disabled", 0, Duration.ofHours(1), 1, registry);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(buckets.tryAcquire("student-" + (i % 3))).isZero();
+        }
+        assertThat(keys("disabled")).isZero();
+    }
+
+    @Test
+    void keysBeyondMaxShareOneOverflowBucket() {
+        TokenBuckets buckets = new TokenBuckets("overflow", 1, Duration.ofHours(1), 2, registry);
+
+        assertThat(buckets.tryAcquire("a")).isZero();
+        assertThat(buckets.tryAcquire("b")).isZero();
+        assertThat(buckets.tryAcquire("a")).isPositive();
+        // 새 키는 공용 버킷 하나를 같이 쓴다 (키를 바꿔가며 보내도 한도를 넘지 못함)
+        assertThat(buckets.tryAcquire("c")).isZero();
+        assertThat(buckets.tryAcquire("d")).isPositive();
+        assertThat(buckets.tryAcquire("e")).isPositive();
+        assertThat(keys("overflow")).isEqualTo(2);
+    }
+
+    @Test
+    void fullBucketsAreSweptWhenKeysAreAtMax() throws Exception {
+        TokenBuckets buckets = new TokenBuckets("sweep", 1, Duration.ofMillis(10), 2, registry);
+        assertThat(buckets.tryAcquire("a")).isZero();
+        assertThat(buckets.tryAcquire("b")).isZero();
+        assertThat(keys("sweep")).isEqualTo(2);
+
+        // 키가 maxKeys개면 1초마다 다시 가득 찬 버킷을 지운다
+        Thread.sleep(1100);
+        assertThat(buckets.tryAcquire("c")).isZero();
+        assertThat(keys("sweep")).isEqualTo(1);
+        // c는 공용 버킷이 아니라 자기 버킷을 받는다
+        assertThat(buckets.tryAcquire("d")).isZero();
+        assertThat(keys("sweep")).isEqualTo(2);
+    }
+
+    private double keys(String limit) {
+        return registry.get("app.ratelimit.keys").tag("limit", limit).gauge().value();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.scheduler;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주간 클리닉 수동 실행이 예약 작업과 같은 실행권을 쓰고, 반/날짜당 클리닉이 하나만 생기는지
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WeeklyClinicJobTest {
+    private static final String LEASE_NAME = "weekly-clinic-generation";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(3)
+                .studentsPerClass(5)
+                .weeks(1)
+                .build());
+        // 이번 주 클리닉을 지워서 생성할 대상이 있게 한다 (작업 기준 시간대와 JVM 시간대 차이만큼 하루 앞부터)
+        LocalDate from = LocalDate.now().minusDays(1);
+        jdbcTemplate.update("DELETE FROM clinic_registrations WHERE clinic_id IN " +
+                "(SELECT id FROM clinics WHERE clinic_date >= ?)", from);
+        jdbcTemplate.update("DELETE FROM clinics WHERE clinic_date >= ?", from);
+    }
+
+    @Test
+    void manualRunRespectsLeaseAndCreatesEachClinicOnce() throws Exception {
+        // 다른 인스턴스가 예약 작업을 실행 중
+        jdbcTemplate.update("INSERT INTO job_leases (name, owner, locked_until) VALUES (?, ?, ?)",
+                LEASE_NAME, "other-instance", Timestamp.valueOf(LocalDateTime.now().plusMinutes(30)));
+        int before = clinicCount();
+        mockMvc.perform(post("/api/clinics/generate-weekly")).andExpect(status().isConflict());
+        assertThat(clinicCount()).isEqualTo(before);
+
+        // 실행권이 만료되면 생성하고, 끝나면 실행권을 반납해서 다시 실행할 수 있다
+        jdbcTemplate.update("UPDATE job_leases SET locked_until = ? WHERE name = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), LEASE_NAME);
+        mockMvc.perform(post("/api/clinics/generate-weekly"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(3));
+        mockMvc.perform(post("/api/clinics/generate-weekly"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0));
+        assertThat(clinicCount()).isEqualTo(before + 3);
+    }
+
+    @Test
+    void clinicsAreUniquePerClassAndDate() {
+        Object[] clinic = jdbcTemplate.queryForObject(
+                "SELECT class_id, clinic_date FROM clinics ORDER BY id LIMIT 1",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getDate(2)});
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO clinics (class_id, clinic_date, clinic_time, status, registered_count) " +
+                        "VALUES (?, ?, '18:00:00', 'OPEN', 0)", clinic[0], clinic[1]))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private int clinicCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clinics", Integer.class);
+    }
+}
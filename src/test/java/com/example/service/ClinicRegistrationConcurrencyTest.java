@@ -0,0 +1,235 @@
+package com.example.service;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import com.example.dto.ClinicDto;
+import com.example.dto.ClinicRegistrationDto;
+import com.example.entity.ClinicRegistrationStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클리닉 신청 동시성: 수백 명이 동시에(같은 학생은 두 번씩) 신청하고 취소해도, 선생님이 그 사이 일괄 참석 체크를 해도
+ * 정원을 넘겨 REGISTERED가 되지 않고, registered_count가 좌석을 차지한 신청 수와 같아야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClinicRegistrationConcurrencyTest {
+    private static final int CAPACITY = 20;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ClinicService clinicService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> studentIds;
+    private Long classId;
+
+    @BeforeAll
+    void seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(10)
+                .studentsPerClass(30)
+                .weeks(1)
+                .lessonsPerWeek(1)
+                .build());
+        studentIds = jdbcTemplate.queryForList("SELECT id FROM students ORDER BY id", Long.class);
+        classId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM academy_classes", Long.class);
+    }
+
+    @Test
+    void concurrentRegistrationsNeverOverbook() throws Exception {
+        assertThat(studentIds).hasSizeGreaterThanOrEqualTo(300);
+        Long clinicId = newClinic(LocalDate.now().plusWeeks(3));
+
+        // 학생마다 두 번씩 (재시도/더블클릭)
+        List<Callable<ClinicRegistrationDto>> registrations = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            registrations.add(() -> clinicService.registerForClinic(clinicId, studentId));
+            registrations.add(() -> clinicService.registerForClinic(clinicId, studentId));
+        }
+        List<ClinicRegistrationDto> results = runConcurrently(registrations);
+
+        // 같은 학생의 두 요청은 같은 신청을 받는다
+        Map<Long, Long> registrationByStudent = new ConcurrentHashMap<>();
+        for (ClinicRegistrationDto result : results) {
+            Long previous = registrationByStudent.putIfAbsent(result.getStudentId(), result.getId());
+            assertThat(previous == null || previous.equals(result.getId()))
+                    .as("student %d got two registrations", result.getStudentId()).isTrue();
+        }
+        assertThat(registrationByStudent).hasSize(studentIds.size());
+        assertThat(results.stream().filter(r -> r.getStatus() == ClinicRegistrationStatus.REGISTERED)
+                .map(ClinicRegistrationDto::getId).distinct().count()).isEqualTo(CAPACITY);
+
+        assertSeats(clinicId, CAPACITY, studentIds.size() - CAPACITY);
+    }
+
+    @Test
+    void concurrentCancellationsPromoteWaitlistWithinCapacity() throws Exception {
+        Long clinicId = newClinic(LocalDate.now().plusWeeks(4));
+        List<Long> students = studentIds.subList(0, 100);
+        for (Long studentId : students) {
+            clinicService.registerForClinic(clinicId, studentId);
+        }
+        assertSeats(clinicId, CAPACITY, students.size() - CAPACITY);
+
+        // 좌석을 가진 학생 전원과 대기자 일부가 취소하는 동안 새 학생들이 신청
+        List<Long> registered = jdbcTemplate.queryForList(
+                "SELECT student_id FROM clinic_registrations WHERE clinic_id = ? AND status = 'REGISTERED'",
+                Long.class, clinicId);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        registered.forEach(studentId -> tasks.add(() -> {
+            clinicService.cancelRegistration(clinicId, studentId);
+            return studentId;
+        }));
+        students.stream().filter(id -> !registered.contains(id)).limit(30)
+                .forEach(studentId -> tasks.add(() -> {
+                    clinicService.cancelRegistration(clinicId, studentId);
+                    return studentId;
+                }));
+        studentIds.subList(100, 200).forEach(studentId ->
+                tasks.add(() -> clinicService.registerForClinic(clinicId, studentId)));
+        Collections.shuffle(tasks);
+        runConcurrently(tasks);
+
+        int cancelled = registered.size() + 30;
+        int active = students.size() + 100 - cancelled;
+        assertSeats(clinicId, CAPACITY, active - CAPACITY);
+    }
+
+    /**
+     * 선생님의 일괄 참석 체크가 학생 취소/대기자 승격과 겹쳐도 좌석 수가 어긋나지 않는지
+     * (같은 신청을 학생이 취소하면서 선생님이 취소 처리, 승격 중인 대기자를 참석 처리)
+     */
+    @Test
+    void bulkAttendanceRacingCancellationsKeepsSeatCount() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            Long clinicId = newClinic(LocalDate.now().plusWeeks(5 + round));
+            List<Long> students = studentIds.subList(200, 260);
+            for (Long studentId : students) {
+                clinicService.registerForClinic(clinicId, studentId);
+            }
+            Map<Long, Long> registrationIds = new ConcurrentHashMap<>();
+            jdbcTemplate.query("SELECT student_id, id FROM clinic_registrations WHERE clinic_id = ?",
+                    rs -> {
+                        registrationIds.put(rs.getLong(1), rs.getLong(2));
+                    }, clinicId);
+            List<Long> registered = jdbcTemplate.queryForList(
+                    "SELECT student_id FROM clinic_registrations WHERE clinic_id = ? AND status = 'REGISTERED'",
+                    Long.class, clinicId);
+            List<Long> attending = students.stream().filter(id -> !registered.contains(id)).limit(10).toList();
+
+            Map<Long, ClinicRegistrationStatus> bulk = new HashMap<>();
+            registered.forEach(studentId -> bulk.put(registrationIds.get(studentId), ClinicRegistrationStatus.CANCELLED));
+            attending.forEach(studentId -> bulk.put(registrationIds.get(studentId), ClinicRegistrationStatus.ATTENDED));
+
+            List<Callable<Object>> tasks = new ArrayList<>();
+            registered.forEach(studentId -> tasks.add(() -> {
+                clinicService.cancelRegistration(clinicId, studentId);
+                return studentId;
+            }));
+            for (int i = 0; i < 3; i++) {
+                tasks.add(() -> clinicService.updateAttendanceBulk(clinicId, bulk));
+            }
+            Collections.shuffle(tasks);
+            runConcurrently(tasks);
+
+            Map<String, Long> byStatus = statusCounts(clinicId);
+            long holdingSeats = byStatus.getOrDefault("REGISTERED", 0L) + byStatus.getOrDefault("ATTENDED", 0L);
+            assertThat(jdbcTemplate.queryForObject("SELECT registered_count FROM clinics WHERE id = ?",
+                    Integer.class, clinicId)).as("registered_count").isEqualTo((int) holdingSeats);
+            assertThat(byStatus.getOrDefault("CANCELLED", 0L)).isEqualTo(registered.size());
+            assertThat(byStatus.getOrDefault("ATTENDED", 0L)).isEqualTo(attending.size());
+            // 대기자가 남아 있으면 빈 좌석이 없어야 하고, 정원을 넘는 건 선생님이 참석 처리한 인원뿐
+            if (byStatus.getOrDefault("WAITLISTED", 0L) > 0) {
+                assertThat(holdingSeats).isGreaterThanOrEqualTo(CAPACITY);
+            }
+            assertThat(byStatus.getOrDefault("REGISTERED", 0L)).isLessThanOrEqualTo(CAPACITY);
+        }
+    }
+
+    private Map<String, Long> statusCounts(Long clinicId) {
+        Map<String, Long> byStatus = new ConcurrentHashMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) FROM clinic_registrations WHERE clinic_id = ? GROUP BY status",
+                rs -> {
+                    byStatus.put(rs.getString(1), rs.getLong(2));
+                }, clinicId);
+        return byStatus;
+    }
+
+    private Long newClinic(LocalDate date) {
+        ClinicDto clinic = clinicService.createClinic(classId, date, LocalTime.of(18, 0), CAPACITY);
+        return clinic.getId();
+    }
+
+    /**
+     * 좌석 수(registered_count)와 실제 신청 상태가 일치하고 정원을 넘지 않는지
+     */
+    private void assertSeats(Long clinicId, int registered, int waitlisted) {
+        Integer registeredCount = jdbcTemplate.queryForObject(
+                "SELECT registered_count FROM clinics WHERE id = ?", Integer.class, clinicId);
+        Map<String, Long> byStatus = statusCounts(clinicId);
+        long holdingSeats = byStatus.getOrDefault("REGISTERED", 0L) + byStatus.getOrDefault("ATTENDED", 0L);
+
+        assertThat(registeredCount).as("registered_count").isEqualTo(registered);
+        assertThat(holdingSeats).as("registrations holding a seat").isEqualTo(registered);
+        assertThat(byStatus.getOrDefault("WAITLISTED", 0L)).as("waitlisted").isEqualTo(waitlisted);
+        Integer duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT student_id FROM clinic_registrations WHERE clinic_id = ? " +
+                        "GROUP BY student_id HAVING COUNT(*) > 1) d", Integer.class, clinicId);
+        assertThat(duplicates).as("students with more than one registration row").isZero();
+    }
+
+    /**
+     * 모든 작업을 동시에 시작해서 실행하고, 하나라도 실패하면 그 예외로 실패
+     */
+    private static <T> List<T> runConcurrently(List<? extends Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
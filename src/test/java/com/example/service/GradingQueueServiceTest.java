@@ -0,0 +1,98 @@
+package com.example.service;
+
+import com.example.dto.GradingTicketDto;
+import com.example.repository.StudentRepository;
+import com.example.repository.TestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 Idempotency-Key로 동시에 접수해도 접수증 하나만 만들고 한 번만 채점하는지
+ */
+class GradingQueueServiceTest {
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 2000;
+
+    private final List<SubmissionService.AnswerSheet> graded = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private GradingQueueService gradingQueue;
+
+    @BeforeEach
+    void setUp() {
+        SubmissionService submissionService = mock(SubmissionService.class);
+        when(submissionService.submitAnswersBatch(anyList())).thenAnswer(invocation -> {
+            List<SubmissionService.AnswerSheet> sheets = invocation.getArgument(0);
+            graded.addAll(sheets);
+            return sheets.stream().map(sheet -> new SubmissionService.GradedSheet(1L, 100)).toList();
+        });
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        when(studentRepository.existsById(any())).thenReturn(true);
+        TestRepository testRepository = mock(TestRepository.class);
+        when(testRepository.existsById(any())).thenReturn(true);
+
+        gradingQueue = new GradingQueueService(submissionService, studentRepository, testRepository,
+                new SimpleMeterRegistry(), ROUNDS * THREADS, 50, Duration.ZERO, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        gradingQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gradingQueue.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRetriesWithSameKeyShareOneTicket() throws Exception {
+        // 경합 구간이 짧아서 여러 번 반복한다
+        for (int round = 0; round < ROUNDS; round++) {
+            String key = "retry-" + round;
+            List<GradingTicketDto> tickets = enqueueConcurrently(() ->
+                    gradingQueue.enqueue(1L, 1L, Map.of(1, "A"), key));
+
+            assertThat(tickets).hasSize(THREADS);
+            assertThat(tickets.stream().map(GradingTicketDto::getTicketId).distinct()).hasSize(1);
+        }
+        gradingQueue.stop();
+        assertThat(graded).hasSize(ROUNDS);
+        assertThat(graded.stream().map(SubmissionService.AnswerSheet::idempotencyKey).distinct()).hasSize(ROUNDS);
+    }
+
+    private List<GradingTicketDto> enqueueConcurrently(Callable<Optional<GradingTicketDto>> call)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<GradingTicketDto>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+        List<GradingTicketDto> tickets = new ArrayList<>();
+        for (Future<Optional<GradingTicketDto>> future : futures) {
+            future.get(10, TimeUnit.SECONDS).ifPresent(tickets::add);
+        }
+        return tickets;
+    }
+}
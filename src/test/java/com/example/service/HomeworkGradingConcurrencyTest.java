@@ -0,0 +1,151 @@
+package com.example.service;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import com.example.dto.HomeworkGradeDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반 전체 채점표를 동시에(두 선생님, 재시도한 요청) 저장해도 학생/숙제당 채점 결과 행이 하나만 생기는지
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HomeworkGradingConcurrencyTest {
+    private static final int ROUNDS = 20;
+    private static final int GRIDS = 4;
+
+    @Autowired
+    private StudentHomeworkService studentHomeworkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long academyId;
+    private Long classId;
+    private List<Long> roster;
+
+    @BeforeAll
+    void seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(1)
+                .studentsPerClass(30)
+                .weeks(1)
+                .lessonsPerWeek(1)
+                .build());
+        classId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM academy_classes", Long.class);
+        academyId = jdbcTemplate.queryForObject("SELECT academy_id FROM academy_classes WHERE id = ?",
+                Long.class, classId);
+        roster = jdbcTemplate.queryForList("SELECT id FROM students WHERE class_id = ? ORDER BY id",
+                Long.class, classId);
+    }
+
+    @Test
+    void concurrentGridsCreateOneRowPerStudent() throws Exception {
+        assertThat(roster).hasSize(30);
+        for (int round = 0; round < ROUNDS; round++) {
+            Long homeworkId = newHomework("동시 채점 " + round);
+
+            List<Callable<Object>> grids = new ArrayList<>();
+            for (int grid = 0; grid < GRIDS; grid++) {
+                int incorrect = grid;
+                grids.add(() -> studentHomeworkService.gradeHomework(homeworkId, roster.stream()
+                        .map(studentId -> HomeworkGradeDto.builder()
+                                .studentId(studentId)
+                                .incorrectCount(incorrect)
+                                .unsolvedCount(0)
+                                .build())
+                        .toList()));
+            }
+            runConcurrently(grids);
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM student_homeworks WHERE homework_id = ?", Integer.class, homeworkId))
+                    .as("rows for homework %d", homeworkId).isEqualTo(roster.size());
+        }
+    }
+
+    @Test
+    void concurrentSingleGradesCreateOneRow() throws Exception {
+        Long homeworkId = newHomework("동시 개별 채점");
+        Long studentId = roster.get(0);
+
+        List<Callable<Object>> saves = new ArrayList<>();
+        for (int i = 0; i < GRIDS; i++) {
+            int incorrect = i;
+            saves.add(() -> studentHomeworkService.updateIncorrectCount(studentId, homeworkId, incorrect, 0));
+        }
+        runConcurrently(saves);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM student_homeworks WHERE homework_id = ? AND student_id = ?",
+                Integer.class, homeworkId, studentId)).isEqualTo(1);
+    }
+
+    private Long newHomework(String title) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder key = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO homeworks (title, question_count, academy_id, class_id, created_at, updated_at) " +
+                    "VALUES (?, 20, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, title);
+            statement.setLong(2, academyId);
+            statement.setLong(3, classId);
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            return statement;
+        }, key);
+        return key.getKey().longValue();
+    }
+
+    /**
+     * 모든 작업을 동시에 시작해서 실행하고, 하나라도 실패하면 그 예외로 실패
+     */
+    private static <T> List<T> runConcurrently(List<? extends Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.service;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 학생 대시보드: 항목마다 기존 단독 API 응답과 같은지 (순차 조회, 병렬 조회 둘 다)
+ */
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentDashboardTest {
+    // 대시보드 항목 -> 같은 내용을 주는 단독 API ({id}는 학생 ID)
+    private static final Map<String, String> SECTIONS = Map.of(
+            "student", "/api/students/{id}",
+            "lessons", "/api/lessons/student/{id}",
+            "homeworks", "/api/student-homeworks/student/{id}",
+            "submissions", "/api/submissions/student/{id}",
+            "clinic", "/api/clinics/student/{id}/info",
+            "todayFeedback", "/api/daily-feedback/student/{id}/today");
+
+    @Nested
+    @SpringBootTest(properties = "app.dashboard.parallel=false")
+    @DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class Sequential extends SectionsMatchStandaloneEndpoints {
+    }
+
+    @Nested
+    @SpringBootTest(properties = "app.dashboard.parallel=true")
+    @DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class Parallel extends SectionsMatchStandaloneEndpoints {
+    }
+
+    abstract class SectionsMatchStandaloneEndpoints {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        private List<Long> studentIds;
+
+        @BeforeAll
+        void seed() {
+            // weeks >= 1이면 반마다 오늘 수업이 있다
+            new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                    .academies(1)
+                    .classesPerAcademy(2)
+                    .studentsPerClass(3)
+                    .weeks(3)
+                    .seed(5)
+                    .build());
+            studentIds = jdbcTemplate.queryForList("SELECT id FROM students ORDER BY id", Long.class);
+        }
+
+        @Test
+        void everySectionEqualsItsStandaloneResponse() throws Exception {
+            assertThat(studentIds).hasSize(6);
+            for (Long studentId : studentIds) {
+                JsonNode dashboard = getJson("/api/students/" + studentId + "/dashboard");
+
+                assertThat(names(dashboard)).containsExactlyInAnyOrderElementsOf(SECTIONS.keySet());
+                for (Map.Entry<String, String> section : SECTIONS.entrySet()) {
+                    JsonNode standalone = getJson(section.getValue().replace("{id}", studentId.toString()));
+                    assertThat(dashboard.get(section.getKey()))
+                            .as("student %d %s", studentId, section.getKey())
+                            .isEqualTo(standalone);
+                }
+                // 비어 있는 항목끼리 비교하는 것이 아닌지
+                assertThat(dashboard.get("lessons")).isNotEmpty();
+                assertThat(dashboard.get("homeworks")).isNotEmpty();
+                assertThat(dashboard.get("submissions")).isNotEmpty();
+                assertThat(dashboard.get("todayFeedback").isNull()).isFalse();
+            }
+        }
+
+        @Test
+        void unknownStudentFailsLikeStandaloneEndpoint() {
+            long missing = studentIds.get(studentIds.size() - 1) + 1000;
+
+            // 병렬 조회에서도 CompletionException이 아니라 단독 API와 같은 예외
+            assertThatThrownBy(() -> mockMvc.perform(get("/api/students/" + missing + "/dashboard")))
+                    .hasRootCauseMessage("Student not found");
+            assertThatThrownBy(() -> mockMvc.perform(get("/api/students/" + missing)))
+                    .hasRootCauseMessage("Student not found");
+        }
+
+        private JsonNode getJson(String uri) throws Exception {
+            String body = mockMvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            return objectMapper.readTree(body);
+        }
+
+        private List<String> names(JsonNode node) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            return names;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.service;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import com.example.dto.StudentSubmissionDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 답안 제출 동시성: 학생마다 여러 번 동시에 제출해도(같은 Idempotency-Key의 재전송, 키 없는 더블 탭)
+ * 학생/시험당 제출 행은 하나이고 모든 요청이 같은 제출 ID를 돌려받아야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 같은 설정의 테스트와 DB를 같이 쓰면 적재 데이터가 겹친다
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SubmissionConcurrencyTest {
+    private static final int THREADS = 64;
+    private static final int SUBMITS_PER_STUDENT = 8;
+    private static final int QUESTIONS = 10;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long academyId;
+    private Long classId;
+    private List<Long> studentIds;
+
+    @BeforeAll
+    void seed() {
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+                .academies(1)
+                .classesPerAcademy(1)
+                .studentsPerClass(30)
+                .weeks(1)
+                .lessonsPerWeek(1)
+                .build());
+        classId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM academy_classes", Long.class);
+        academyId = jdbcTemplate.queryForObject("SELECT academy_id FROM academy_classes WHERE id = ?",
+                Long.class, classId);
+        studentIds = jdbcTemplate.queryForList("SELECT id FROM students WHERE class_id = ? ORDER BY id",
+                Long.class, classId);
+    }
+
+    @Test
+    void concurrentRetriesWithSameKeyReturnOneSubmission() throws Exception {
+        Long testId = newTest("같은 키 동시 제출");
+
+        List<Callable<StudentSubmissionDto>> submits = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            Map<Integer, String> answers = answers(studentId.intValue());
+            for (int i = 0; i < SUBMITS_PER_STUDENT; i++) {
+                submits.add(() -> submissionService.submitAnswers(studentId, testId, answers, "submit-" + studentId));
+            }
+        }
+        Map<Long, List<StudentSubmissionDto>> byStudent = byStudent(runConcurrently(submits));
+
+        assertOneSubmissionPerStudent(testId, byStudent);
+        byStudent.forEach((studentId, results) -> assertThat(results)
+                .as("scores for student %d", studentId)
+                .extracting(StudentSubmissionDto::getTotalScore)
+                .containsOnly(results.get(0).getTotalScore()));
+    }
+
+    @Test
+    void concurrentSubmitsWithoutKeyUpdateOneSubmission() throws Exception {
+        Long testId = newTest("키 없는 동시 제출");
+
+        List<Callable<StudentSubmissionDto>> submits = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            for (int i = 0; i < SUBMITS_PER_STUDENT; i++) {
+                Map<Integer, String> answers = answers(i);
+                submits.add(() -> submissionService.submitAnswers(studentId, testId, answers));
+            }
+        }
+        Map<Long, List<StudentSubmissionDto>> byStudent = byStudent(runConcurrently(submits));
+
+        assertOneSubmissionPerStudent(testId, byStudent);
+        // 마지막 제출의 상세 답안만 남는다
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM student_submission_details d JOIN student_submissions s ON s.id = d.submission_id " +
+                "WHERE s.test_id = ?", Integer.class, testId))
+                .isEqualTo(studentIds.size() * QUESTIONS);
+    }
+
+    private void assertOneSubmissionPerStudent(Long testId, Map<Long, List<StudentSubmissionDto>> byStudent) {
+        assertThat(byStudent).hasSize(studentIds.size());
+        Map<Long, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT student_id, id FROM student_submissions WHERE test_id = ?",
+                rs -> {
+                    Long previous = stored.put(rs.getLong("student_id"), rs.getLong("id"));
+                    assertThat(previous).as("second submission row for student %d", rs.getLong("student_id")).isNull();
+                }, testId);
+        assertThat(stored).hasSize(studentIds.size());
+
+        byStudent.forEach((studentId, results) -> {
+            assertThat(results).hasSize(SUBMITS_PER_STUDENT);
+            assertThat(results).as("submission ids for student %d", studentId)
+                    .extracting(StudentSubmissionDto::getId)
+                    .containsOnly(stored.get(studentId));
+        });
+    }
+
+    private static Map<Long, List<StudentSubmissionDto>> byStudent(List<StudentSubmissionDto> results) {
+        Map<Long, List<StudentSubmissionDto>> byStudent = new HashMap<>();
+        for (StudentSubmissionDto result : results) {
+            byStudent.computeIfAbsent(result.getStudent().getId(), k -> new ArrayList<>()).add(result);
+        }
+        return byStudent;
+    }
+
+    /**
+     * seed마다 다른 답안 (정답은 모두 "1")
+     */
+    private static Map<Integer, String> answers(int seed) {
+        Map<Integer, String> answers = new HashMap<>();
+        for (int number = 1; number <= QUESTIONS; number++) {
+            answers.put(number, String.valueOf((seed + number) % 5 + 1));
+        }
+        return answers;
+    }
+
+    private Long newTest(String title) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder key = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO tests (title, academy_id, class_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, title);
+            statement.setLong(2, academyId);
+            statement.setLong(3, classId);
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            return statement;
+        }, key);
+        Long testId = key.getKey().longValue();
+        for (int number = 1; number <= QUESTIONS; number++) {
+            jdbcTemplate.update("INSERT INTO test_questions (test_id, number, answer, points, created_at, updated_at) " +
+                    "VALUES (?, ?, '1', 10, ?, ?)", testId, number, now, now);
+        }
+        return testId;
+    }
+
+    /**
+     * 모든 작업을 동시에 시작해서 실행하고, 하나라도 실패하면 그 예외로 실패
+     */
+    private static <T> List<T> runConcurrently(List<? extends Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.sharding;
+
+import com.example.datagen.SyntheticDataGenerator;
+import com.example.datagen.SyntheticDataSpec;
+import com.example.entity.AcademyShardStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내장 DB 두 개(main, shard2)로 학원 단위 라우팅과 학원 이동 확인
+ * shard2에는 main의 스키마를 복사하고 ID를 1000001부터 쓰게 해서 두 shard의 ID가 겹치지 않게 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ShardRoutingTest.MAIN_URL,
+        "app.sharding.shards=shard2",
+        "app.sharding.shard.shard2.url=" + ShardRoutingTest.SHARD2_URL,
+        "app.sharding.new-academy-shard=shard2",
+        "app.sharding.directory-cache-ttl=2s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ShardRoutingTest {
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,USER;DB_CLOSE_DELAY=-1";
+    static final String MAIN_URL = "jdbc:h2:mem:sharding-main" + H2_OPTIONS;
+    static final String SHARD2_URL = "jdbc:h2:mem:sharding-shard2" + H2_OPTIONS;
+    private static final long SHARD2_FIRST_ID = 1_000_001;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardDirectory directory;
+
+    @Autowired
+    private ShardMigrator migrator;
+
+    private final JdbcTemplate main = new JdbcTemplate(new DriverManagerDataSource(MAIN_URL, "sa", ""));
+    private final JdbcTemplate shard2 = new JdbcTemplate(new DriverManagerDataSource(SHARD2_URL, "sa", ""));
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private Long shardAcademyId;
+    private Long shardClassId;
+    private Long shardStudentId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        // Hibernate가 main에 만든 스키마를 shard2에 복사 (운영에서는 README의 DDL을 shard마다 적용)
+        main.queryForList("SCRIPT NODATA NOSETTINGS", String.class).stream()
+                .filter(sql -> !sql.startsWith("CREATE USER"))
+                .forEach(shard2::execute);
+        for (AcademyScope.Table table : AcademyScope.TABLES) {
+            shard2.execute("ALTER TABLE " + table.name() + " ALTER COLUMN id RESTART WITH " + SHARD2_FIRST_ID);
+        }
+
+        // main에는 학원 2개 (1: 이동 실패, 2: 이동 성공에 사용)
+        new SyntheticDataGenerator(main).generate(SyntheticDataSpec.builder()
+                .academies(2)
+                .classesPerAcademy(1)
+                .studentsPerClass(5)
+                .weeks(1)
+                .build());
+
+        // 새 학원은 app.sharding.new-academy-shard(shard2)에 만들어진다
+        shardAcademyId = createAcademy("샤드 학원");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        shard2.update("INSERT INTO academy_classes (name, academy_id, clinic_day_of_week, clinic_time, created_at, updated_at) "
+                + "VALUES ('샤드 반', ?, 'SATURDAY', '10:00:00', ?, ?)", shardAcademyId, now, now);
+        shardClassId = shard2.queryForObject("SELECT id FROM academy_classes WHERE academy_id = ?", Long.class, shardAcademyId);
+        shard2.update("INSERT INTO students (name, grade, school, pin, academy_id, class_id, created_at, updated_at) "
+                + "VALUES ('샤드 학생', '고1', '샤드고', '1234', ?, ?, ?, ?)", shardAcademyId, shardClassId, now, now);
+        shardStudentId = shard2.queryForObject("SELECT id FROM students WHERE academy_id = ?", Long.class, shardAcademyId);
+    }
+
+    @AfterAll
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void newAcademyLandsOnConfiguredShard() {
+        assertThat(shardAcademyId).isGreaterThanOrEqualTo(SHARD2_FIRST_ID);
+        assertThat(count(shard2, "SELECT COUNT(*) FROM academies WHERE id = ?", shardAcademyId)).isEqualTo(1);
+        assertThat(count(main, "SELECT COUNT(*) FROM academies WHERE id = ?", shardAcademyId)).isZero();
+        assertThat(directory.find(shardAcademyId))
+                .hasValueSatisfying(entry -> {
+                    assertThat(entry.shard()).isEqualTo("shard2");
+                    assertThat(entry.status()).isEqualTo(AcademyShardStatus.ACTIVE);
+                });
+    }
+
+    @Test
+    void failedDirectoryWriteLeavesNoAcademy() {
+        int academies = count(shard2, "SELECT COUNT(*) FROM academies");
+        main.execute("ALTER TABLE academy_shards RENAME TO academy_shards_off");
+        try {
+            assertThatThrownBy(() -> createAcademy("디렉터리 실패 학원")).isNotNull();
+        } finally {
+            main.execute("ALTER TABLE academy_shards_off RENAME TO academy_shards");
+        }
+
+        assertThat(count(shard2, "SELECT COUNT(*) FROM academies")).isEqualTo(academies);
+    }
+
+    @Test
+    void routesByHeaderPathParameterAndSession() throws Exception {
+        // 학원을 특정할 수 없으면 기본 shard
+        assertThat(studentNames(get("/api/students"))).isNotEmpty().doesNotContain("샤드 학생");
+
+        assertThat(studentNames(get("/api/students")
+                .header(ShardRoutingInterceptor.ACADEMY_HEADER, shardAcademyId))).containsExactly("샤드 학생");
+        assertThat(studentNames(get("/api/students").param("classId", shardClassId.toString())))
+                .containsExactly("샤드 학생");
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(ShardRoutingInterceptor.SESSION_ACADEMY_ID, shardAcademyId);
+        assertThat(studentNames(get("/api/students").session(session))).containsExactly("샤드 학생");
+
+        // /api/students/{id}: 어느 shard에 있는지 찾아서 그 shard에서 읽는다
+        JsonNode student = getJson(get("/api/students/{id}", shardStudentId));
+        assertThat(student.get("name").asText()).isEqualTo("샤드 학생");
+        assertThat(getJson(get("/api/academies/{id}", shardAcademyId)).get("name").asText()).isEqualTo("샤드 학원");
+    }
+
+    @Test
+    void migrationCopiesRowsBlocksWritesAndDeletesSourceAfterFlip() throws Exception {
+        long academyId = 2;
+        Long lessonId = main.queryForObject("SELECT MIN(id) FROM lessons WHERE academy_id = ?", Long.class, academyId);
+        Map<String, Integer> before = counts(main, academyId);
+        assertThat(before.values()).allMatch(rows -> rows >= 0);
+        assertThat(before.get("lessons")).isPositive();
+
+        Future<ShardMigrator.Result> migration = executor.submit(() -> migrator.migrate(academyId, "shard2"));
+
+        // 이동 중: 쓰기는 503, 읽기는 원래 shard에서 계속
+        await(() -> directory.isMigrating(academyId));
+        mockMvc.perform(updateAnnouncement(lessonId, "이동 중"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/api/lessons/{id}", lessonId))
+                .andExpect(status().isOk());
+
+        // 디렉터리가 바뀐 뒤에도 다른 인스턴스 캐시가 갱신될 때까지는 원본을 남겨둔다
+        await(() -> "shard2".equals(directory.shardOf(academyId)) && !directory.isMigrating(academyId));
+        assertThat(count(main, "SELECT COUNT(*) FROM academies WHERE id = ?", academyId)).isEqualTo(1);
+
+        ShardMigrator.Result result = migration.get(30, TimeUnit.SECONDS);
+        assertThat(result.copiedRows()).isEqualTo(before);
+        assertThat(counts(shard2, academyId)).isEqualTo(before);
+        assertThat(counts(main, academyId).values()).containsOnly(0);
+
+        // 이제 shard2로 라우팅되어 쓰기도 된다
+        mockMvc.perform(updateAnnouncement(lessonId, "이동 후"))
+                .andExpect(status().isOk());
+        assertThat(shard2.queryForObject("SELECT announcement FROM lessons WHERE id = ?", String.class, lessonId))
+                .isEqualTo("이동 후");
+    }
+
+    @Test
+    void failedCopyRollsBackTarget() {
+        long academyId = 1;
+        Map<String, Integer> before = counts(main, academyId);
+        // 중간 테이블(lessons)에서 복사가 실패하게 만든다
+        shard2.execute("ALTER TABLE lessons ADD CONSTRAINT reject_copy CHECK (academy_id <> " + academyId + ")");
+        try {
+            assertThatThrownBy(() -> migrator.migrate(academyId, "shard2"))
+                    .hasMessageContaining("Migration of academy " + academyId + " failed");
+        } finally {
+            shard2.execute("ALTER TABLE lessons DROP CONSTRAINT reject_copy");
+        }
+
+        assertThat(counts(shard2, academyId).values()).containsOnly(0);
+        assertThat(counts(main, academyId)).isEqualTo(before);
+        assertThat(directory.shardOf(academyId)).isEqualTo("main");
+        assertThat(directory.isMigrating(academyId)).isFalse();
+    }
+
+    private Long createAcademy(String name) throws Exception {
+        String body = mockMvc.perform(post("/api/academies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", name))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private static MockHttpServletRequestBuilder updateAnnouncement(Long lessonId, String announcement) {
+        return put("/api/lessons/{id}/content", lessonId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"announcement\": \"" + announcement + "\"}");
+    }
+
+    private List<String> studentNames(MockHttpServletRequestBuilder request) throws Exception {
+        List<String> names = new ArrayList<>();
+        for (JsonNode student : getJson(request).get("content")) {
+            names.add(student.get("name").asText());
+        }
+        return names;
+    }
+
+    private JsonNode getJson(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    /**
+     * AcademyScope.TABLES마다 학원의 행 수
+     */
+    private static Map<String, Integer> counts(JdbcTemplate jdbc, long academyId) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (AcademyScope.Table table : AcademyScope.TABLES) {
+            counts.put(table.name(), count(jdbc, "SELECT COUNT(*) FROM " + table.name() + " WHERE " + table.where(),
+                    academyId));
+        }
+        return counts;
+    }
+
+    private static int count(JdbcTemplate jdbc, String sql, Object... args) {
+        return jdbc.queryForObject(sql, Integer.class, args);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
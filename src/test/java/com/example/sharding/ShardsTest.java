@@ -0,0 +1,67 @@
+package com.example.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * shard마다 AUTO_INCREMENT가 겹치지 않는 ID를 만드는 설정만 통과하는지
+ */
+class ShardsTest {
+
+    @Test
+    void sameIncrementWithDistinctOffsetsIsDisjoint() {
+        assertThatCode(() -> Shards.checkDisjoint(sequences(
+                new Shards.IdSequence(10, 1), new Shards.IdSequence(10, 2), new Shards.IdSequence(10, 10))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void defaultSequencesOverlap() {
+        assertThatThrownBy(() -> Shards.checkDisjoint(sequences(
+                new Shards.IdSequence(1, 1), new Shards.IdSequence(1, 1))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sharedOffsetOverlaps() {
+        assertThatThrownBy(() -> Shards.checkDisjoint(sequences(
+                new Shards.IdSequence(10, 3), new Shards.IdSequence(10, 3))))
+                .hasMessageContaining("share auto_increment_offset 3");
+    }
+
+    @Test
+    void differentIncrementsOverlap() {
+        // 2, 4, 6, ... 과 3, 6, 9, ... 는 6에서 겹친다
+        assertThatThrownBy(() -> Shards.checkDisjoint(sequences(
+                new Shards.IdSequence(2, 2), new Shards.IdSequence(3, 3))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void offsetAboveIncrementIsRejected() {
+        // MySQL은 increment보다 큰 offset을 무시하므로 두 shard가 같은 ID를 만든다
+        assertThatThrownBy(() -> Shards.checkDisjoint(sequences(
+                new Shards.IdSequence(10, 1), new Shards.IdSequence(10, 11))))
+                .hasMessageContaining("must be between 1 and 10");
+    }
+
+    @Test
+    void incrementMustCoverAllShards() {
+        assertThatThrownBy(() -> Shards.checkDisjoint(sequences(
+                new Shards.IdSequence(2, 1), new Shards.IdSequence(2, 2), new Shards.IdSequence(2, 3))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Map<String, Shards.IdSequence> sequences(Shards.IdSequence... sequences) {
+        Map<String, Shards.IdSequence> byShard = new LinkedHashMap<>();
+        for (int i = 0; i < sequences.length; i++) {
+            byShard.put(i == 0 ? "main" : "shard" + (i + 1), sequences[i]);
+        }
+        return byShard;
+    }
+}